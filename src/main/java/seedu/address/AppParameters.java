@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -10,14 +11,21 @@ import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.commons.util.ValidationUtil;
 
 /**
  * Represents the parsed command-line parameters given to the application.
+ * Parameters are named, and given as {@code --name=value}.
  */
 public class AppParameters {
+    /** The batch file path that stands for reading the commands from standard input. */
+    public static final Path STANDARD_INPUT = Paths.get("-");
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path batchPath;
+    private int saveInterval;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +35,53 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the file of commands to run without the UI, {@link #STANDARD_INPUT} to read them from standard input,
+     * or null to start the UI.
+     */
+    public Path getBatchPath() {
+        return batchPath;
+    }
+
+    public void setBatchPath(Path batchPath) {
+        this.batchPath = batchPath;
+    }
+
+    /**
+     * Returns the number of commands after which a batch saves the address book, or 0 to save it only at the end.
+     */
+    public int getSaveInterval() {
+        return saveInterval;
+    }
+
+    public void setSaveInterval(int saveInterval) {
+        this.saveInterval = saveInterval;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the application command-line arguments, before JavaFX is started. Arguments that are not named
+     * parameters are ignored.
+     */
+    public static AppParameters parse(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (arg.startsWith("--") && separator > 2) {
+                namedParameters.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,6 +90,22 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String batchPathParameter = namedParameters.get("batch");
+        if (batchPathParameter != null && !FileUtil.isValidPath(batchPathParameter)) {
+            logger.warning("Invalid batch file path " + batchPathParameter + ". Starting the UI instead.");
+            batchPathParameter = null;
+        }
+        appParameters.setBatchPath(batchPathParameter != null ? Paths.get(batchPathParameter) : null);
+
+        String saveIntervalParameter = namedParameters.get("save-every");
+        if (saveIntervalParameter != null) {
+            if (ValidationUtil.isDigits(saveIntervalParameter, 1, 9)) {
+                appParameters.setSaveInterval(Integer.parseInt(saveIntervalParameter));
+            } else {
+                logger.warning("Invalid save interval " + saveIntervalParameter + ". Saving at the end of the batch.");
+            }
+        }
+
         return appParameters;
     }
 
@@ -56,18 +121,22 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(batchPath, otherAppParameters.batchPath)
+                && saveInterval == otherAppParameters.saveInterval;
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, batchPath, saveInterval);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("batchPath", batchPath)
+                .add("saveInterval", saveInterval)
                 .toString();
     }
 }
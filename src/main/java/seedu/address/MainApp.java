@@ -1,8 +1,18 @@
 package seedu.address;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -13,6 +23,7 @@ import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.BatchRunner;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
@@ -21,9 +32,12 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.audit.AuditLog;
+import seedu.address.model.audit.AuditLogEntry;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalingAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -51,20 +65,74 @@ public class MainApp extends Application {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
+        initComponents(AppParameters.parse(getParameters()));
+        ui = new UiManager(logic);
+    }
+
+    /**
+     * Runs the commands of the batch given in {@code appParameters} without starting JavaFX, prints how many ran and
+     * how fast, and returns the exit status of the application: 0 if every command succeeded and was saved.
+     */
+    public static int runBatch(AppParameters appParameters) {
+        requireNonNull(appParameters.getBatchPath());
+        MainApp app = new MainApp();
+        app.initComponents(appParameters);
+        app.logic.setSaveInterval(appParameters.getSaveInterval());
+        AtomicBoolean hasSaveFailed = new AtomicBoolean();
+        app.logic.setSaveFailureHandler(message -> {
+            hasSaveFailed.set(true);
+            System.err.println(message);
+        });
+
+        Path batchPath = appParameters.getBatchPath();
+        logger.info("Running commands from " + (batchPath.equals(AppParameters.STANDARD_INPUT) ? "standard input"
+                : batchPath));
+        BatchRunner.Summary summary;
+        try (BufferedReader commands = batchPath.equals(AppParameters.STANDARD_INPUT)
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(batchPath)) {
+            summary = new BatchRunner(app.logic, System.err).run(commands);
+        } catch (IOException e) {
+            System.err.println("Could not read commands from " + batchPath + ": " + e.getMessage());
+            return 1;
+        } finally {
+            app.stop();
+        }
+
+        System.out.println(summary);
+        return summary.failed() == 0 && !hasSaveFailed.get() ? 0 : 1;
+    }
+
+    /**
+     * Sets up everything of the application but its UI, using {@code appParameters}.
+     */
+    private void initComponents(AppParameters appParameters) {
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
+        initAuditLog(storage, model);
 
         logic = new LogicManager(model, storage);
+    }
 
-        ui = new UiManager(logic);
+    /**
+     * Returns the address book storage for the file and format in {@code userPrefs}.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        switch (userPrefs.getAddressBookStorageFormat()) {
+        case BINARY:
+            return new BinaryAddressBookStorage(addressBookFilePath);
+        case JSON:
+        default:
+            return new JournalingAddressBookStorage(addressBookFilePath);
+        }
     }
 
     /**
@@ -93,6 +161,30 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Loads the newest entries of the audit log in {@code storage} into {@code model}, and makes {@code storage} the
+     * archive of the audit log. An audit log that is only in the address book data file, where earlier versions kept
+     * it, is moved to {@code storage} with the next save.
+     */
+    private void initAuditLog(Storage storage, Model model) {
+        AuditLog auditLog = model.getAuditLog();
+        try {
+            AuditLog storedAuditLog = storage.readAuditLog();
+            if (storedAuditLog.getTotalEntryCount() > 0) {
+                auditLog.resetData(storedAuditLog);
+            } else {
+                List<AuditLogEntry> oldestFirst = new ArrayList<>(auditLog.getEntries());
+                Collections.reverse(oldestFirst);
+                oldestFirst.forEach(storage::append);
+            }
+        } catch (DataLoadingException e) {
+            logger.warning("Audit log at " + storage.getAuditLogDirectoryPath() + " could not be loaded."
+                    + " Audit log entries will not be saved.");
+            return;
+        }
+        auditLog.attachArchive(storage);
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -177,6 +269,7 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        logic.close();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,11 @@
+package seedu.address.commons.core;
+
+/**
+ * The file formats the address book can be stored in.
+ */
+public enum StorageFormat {
+    /** Human-readable json, the format used to import and export address books. */
+    JSON,
+    /** A compact binary format that is faster to load and save than json. */
+    BINARY
+}
@@ -2,6 +2,7 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -11,6 +12,8 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -29,6 +32,7 @@ import seedu.address.commons.exceptions.DataLoadingException;
 public class JsonUtil {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
+    private static final int READ_BUFFER_SIZE = 1 << 16;
 
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
@@ -91,6 +95,46 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Writes a JSON document to the specified file through the {@link JsonGenerator} given to {@code writer}, so that
+     * the document is streamed to disk as it is produced instead of being built in memory first.
+     * The document is written to a temporary file next to {@code filePath}, which then replaces {@code filePath},
+     * so that a failed write leaves any existing file unchanged.
+     *
+     * @param filePath cannot be null
+     * @param isCompact whether to write the document without the line breaks and indentation of pretty printing
+     * @param writer writes the document; objects written with {@link JsonGenerator#writeObject} are converted as by
+     *     {@link #toJsonString}
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static void writeJsonFile(Path filePath, boolean isCompact, JsonDocumentWriter writer) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(writer);
+
+        FileUtil.writeFileAtomically(filePath, out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                if (!isCompact) {
+                    generator.useDefaultPrettyPrinter();
+                }
+                writer.write(generator);
+            }
+        });
+    }
+
+
+    /**
+     * Opens a streaming {@link JsonParser} over the specified file, so that a JSON document can be read a part at a
+     * time instead of being read into memory whole. Objects read with {@link JsonParser#readValueAs} are converted as
+     * by {@link #fromJsonString}. The caller must close the parser.
+     *
+     * @param filePath cannot be null
+     * @throws IOException if the file cannot be opened
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(
+                new BufferedInputStream(Files.newInputStream(filePath), READ_BUFFER_SIZE));
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -111,6 +155,25 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line,
+     * without any whitespace between tokens.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Writes a JSON document to a {@link JsonGenerator}.
+     */
+    @FunctionalInterface
+    public interface JsonDocumentWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,79 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A map of at most a fixed number of entries that, when full, makes room for a new entry by evicting the entry
+ * that was least recently used. Safe for use by multiple threads.
+ */
+public class LruCache<K, V> {
+
+    private final int capacity;
+    private final LinkedHashMap<K, V> entries;
+
+    /**
+     * Creates an empty cache that holds at most {@code capacity} entries.
+     *
+     * @param capacity must be positive.
+     */
+    public LruCache(int capacity) {
+        checkArgument(capacity > 0, "Capacity must be positive");
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > LruCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the value cached for {@code key}, or null if there is none.
+     */
+    public synchronized V get(K key) {
+        requireNonNull(key);
+        return entries.get(key);
+    }
+
+    /**
+     * Caches {@code value} for {@code key}, evicting the least recently used entry if the cache is full.
+     */
+    public synchronized void put(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        entries.put(key, value);
+    }
+
+    /**
+     * Returns the value cached for {@code key}, computing it with {@code loader} and caching it if there is none.
+     * The loader runs outside the cache's lock, so two threads may both compute a value for the same key.
+     */
+    public <E extends Exception> V get(K key, Loader<K, V, E> loader) throws E {
+        V value = get(key);
+        if (value == null) {
+            value = loader.load(key);
+            put(key, value);
+        }
+        return value;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Computes the value for a key that is not cached.
+     */
+    @FunctionalInterface
+    public interface Loader<K, V, E extends Exception> {
+        V load(K key) throws E;
+    }
+}
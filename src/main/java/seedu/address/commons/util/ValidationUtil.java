@@ -0,0 +1,72 @@
+package seedu.address.commons.util;
+
+/**
+ * Helper functions for validating the simple formats of value objects without a regex.
+ * Each check accepts exactly what the regex given in its description accepts, as {@code \d} and {@code \p{Alnum}}
+ * only match ASCII characters.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code test} is from {@code minLength} to {@code maxLength} ASCII digits long,
+     * as {@code \d{minLength,maxLength}} would.
+     */
+    public static boolean isDigits(String test, int minLength, int maxLength) {
+        int length = test.length();
+        if (length < minLength || length > maxLength) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is from {@code minLength} to {@code maxLength} ASCII letters and digits long,
+     * as {@code \p{Alnum}{minLength,maxLength}} would.
+     */
+    public static boolean isAlphanumeric(String test, int minLength, int maxLength) {
+        int length = test.length();
+        if (length < minLength || length > maxLength) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isAsciiAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is from {@code minLength} to {@code maxLength} characters long and is made of
+     * words of ASCII letters and digits, separated by single {@code separator} characters,
+     * as {@code (?=.{minLength,maxLength}$)\p{Alnum}+(separator\p{Alnum}+)*} would.
+     */
+    public static boolean isSeparatedAlphanumeric(String test, char separator, int minLength, int maxLength) {
+        int length = test.length();
+        if (length < minLength || length > maxLength || length == 0) {
+            return false;
+        }
+        boolean isAfterSeparator = true;
+        for (int i = 0; i < length; i++) {
+            char c = test.charAt(i);
+            if (isAsciiAlphanumeric(c)) {
+                isAfterSeparator = false;
+            } else if (c == separator && !isAfterSeparator) {
+                isAfterSeparator = true;
+            } else {
+                return false;
+            }
+        }
+        return !isAfterSeparator;
+    }
+
+    private static boolean isAsciiAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs a script of commands through a {@code Logic}, one command per line, without a UI.
+ * Blank lines and lines starting with {@code #} are skipped. A command that fails is reported and the script goes
+ * on with the next line; an {@code exit} command ends the script early.
+ */
+public class BatchRunner {
+
+    public static final String COMMENT_MARKER = "#";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d: %2$s\n\t%3$s";
+    public static final String MESSAGE_SUMMARY =
+            "Ran %1$d commands in %2$.3f s (%3$.0f commands/s): %4$d succeeded, %5$d failed.";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchRunner.class);
+
+    private final Logic logic;
+    private final PrintStream out;
+
+    /**
+     * Creates a runner that executes commands with {@code logic} and prints failures to {@code out}.
+     */
+    public BatchRunner(Logic logic, PrintStream out) {
+        requireNonNull(logic);
+        requireNonNull(out);
+        this.logic = logic;
+        this.out = out;
+    }
+
+    /**
+     * Executes the commands read from {@code commands}, then saves the changes they made and waits for the save
+     * to finish.
+     *
+     * @throws IOException if the commands could not be read.
+     */
+    public Summary run(BufferedReader commands) throws IOException {
+        requireNonNull(commands);
+        long start = System.nanoTime();
+        int lineNumber = 0;
+        int succeeded = 0;
+        int failed = 0;
+
+        String line;
+        while ((line = commands.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.strip();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+
+            try {
+                CommandResult result = logic.execute(commandText);
+                succeeded++;
+                if (result.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                failed++;
+                out.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, commandText, e.getMessage()));
+            }
+        }
+
+        logic.flush();
+        Summary summary = new Summary(succeeded, failed, System.nanoTime() - start);
+        logger.info(summary.toString());
+        return summary;
+    }
+
+    /**
+     * The outcome of running a script of commands.
+     *
+     * @param succeeded the number of commands that were executed successfully.
+     * @param failed the number of commands that could not be parsed or failed to execute.
+     * @param elapsedNanos the time taken to run the commands and save their changes, in nanoseconds.
+     */
+    public record Summary(int succeeded, int failed, long elapsedNanos) {
+
+        public int commandCount() {
+            return succeeded + failed;
+        }
+
+        /**
+         * Returns the number of commands run per second.
+         */
+        public double throughput() {
+            return elapsedNanos == 0 ? 0 : commandCount() * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(MESSAGE_SUMMARY, commandCount(), elapsedNanos / 1e9, throughput(), succeeded,
+                    failed);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +24,29 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler that is given the error message whenever saving the address book fails.
+     * Saving happens in the background, so the handler may be called on a thread other than the caller's.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
+    /**
+     * Saves the address book once every {@code interval} commands that could change it, instead of after each one.
+     * An interval of 0 leaves it unsaved until {@link #flush()} or {@link #close()} is called.
+     */
+    void setSaveInterval(int interval);
+
+    /**
+     * Saves any changes made so far that have not been saved yet, and waits for every save to finish.
+     */
+    void flush();
+
+    /**
+     * Waits for all changes made so far to be saved, then stops saving in the background.
+     * No command may be executed afterwards.
+     */
+    void close();
+
     /**
      * Returns the AddressBook.
      *
@@ -53,4 +77,9 @@ public interface Logic {
      * @return a string in Linux tree format representing the organization hierarchy.
      */
     String getOrganizationHierarchyString();
+
+    /**
+     * Returns true if the last command executed could have changed the organization hierarchy.
+     */
+    boolean hasHierarchyChanged();
 }
@@ -1,10 +1,14 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -16,15 +20,21 @@ import seedu.address.logic.commands.CreateTeamCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddCommandParser;
 import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.CommandRegistry;
+import seedu.address.logic.parser.CommandRegistry.CommandInfo;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.team.Team;
+import seedu.address.storage.AsyncAddressBookSaver;
 import seedu.address.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ * The address book is saved in the background after each command that changes it, so commands do not wait for
+ * the data file to be written.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: %s";
@@ -32,26 +42,32 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
-    private static final String AUDIT_ACTION = "AUDIT";
-    private static final String EXIT_ACTION = "EXIT";
-    private static final String HELP_ACTION = "HELP";
-    private static final String LIST_ACTION = "LIST";
-    private static final String VIEW_ACTION = "VIEW";
-    private static final String FIND_ACTION = "FIND";
-
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final CommandRegistry commandRegistry;
     private final AddressBookParser addressBookParser;
+    private final AsyncAddressBookSaver saver;
+    private volatile Consumer<String> saveFailureHandler = message -> { };
+    /**
+     * Modification count of the model when it was last submitted for saving, or -1 if it must be saved after the
+     * next command, e.g. because the data file may not exist yet or the last save failed.
+     */
+    private volatile long savedModificationCount = -1;
+    private int saveInterval = 1;
+    /** Number of commands that could have changed the address book since it was last submitted for saving. */
+    private int unsavedCommandCount;
+    private boolean hierarchyChanged;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
-        this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        commandRegistry = CommandRegistry.getDefault();
+        addressBookParser = new AddressBookParser(commandRegistry);
+        saver = new AsyncAddressBookSaver(storage);
+        saver.setFailureHandler(this::handleSaveFailure);
 
         // Initialize team and person ID counter
         List<Person> persons = model.getAddressBook().getPersonList();
@@ -84,26 +100,77 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
+        CommandInfo info = commandRegistry.getInfo(command).orElseThrow();
+        // changes left by a command that failed part-way are not recorded against this one
+        model.getAuditLog().discardRecordedChanges();
+        hierarchyChanged = false;
         commandResult = command.execute(model);
+        hierarchyChanged = info.affectsHierarchy();
 
         // Only log commands that modify state
-        if (shouldLogCommand(command)) {
-            String action = extractAction(command);
+        if (!info.isReadOnly()) {
             String details = generateDetails(commandResult);
-            model.getAuditLog().addEntry(action, details, LocalDateTime.now());
+            model.getAuditLog().addEntry(info.auditAction(), details, LocalDateTime.now());
         }
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        // a read-only command leaves nothing to save, unless an earlier save is still owed
+        if (info.isReadOnly() && savedModificationCount != -1) {
+            return commandResult;
+        }
+        unsavedCommandCount++;
+        if (saveInterval > 0 && unsavedCommandCount >= saveInterval) {
+            submitIfModified();
         }
 
         return commandResult;
     }
 
+    /**
+     * Submits the address book for saving if it changed since it was last submitted.
+     */
+    private void submitIfModified() {
+        unsavedCommandCount = 0;
+        long modificationCount = model.getAddressBookModificationCount();
+        if (modificationCount != savedModificationCount) {
+            savedModificationCount = modificationCount;
+            saver.submit(new AddressBookSnapshot(model.getAddressBook()));
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        saveFailureHandler = handler;
+    }
+
+    @Override
+    public void setSaveInterval(int interval) {
+        checkArgument(interval >= 0, "Save interval must not be negative");
+        saveInterval = interval;
+    }
+
+    @Override
+    public void flush() {
+        submitDeferred();
+        saver.flush();
+    }
+
+    @Override
+    public void close() {
+        submitDeferred();
+        saver.close();
+    }
+
+    /**
+     * Submits the address book for saving if commands since the last submission have not been saved because of
+     * the save interval.
+     */
+    private void submitDeferred() {
+        if (unsavedCommandCount > 0) {
+            submitIfModified();
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -130,21 +197,15 @@ public class LogicManager implements Logic {
     }
 
     /**
-     * Extracts the action type from the given command.
-     *
-     * @param command The command executed.
-     * @return The action type as a string.
+     * Reports a failed save of the address book, and makes sure that the address book is saved again after the
+     * next command. Called on the saving thread.
      */
-    private String extractAction(Command command) {
-        try {
-            java.lang.reflect.Field field = command.getClass().getField("COMMAND_WORD");
-            return ((String) field.get(null)).toUpperCase();
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            // Fallback to class name if COMMAND_WORD field doesn't exist
-            logger.warning("Could not access COMMAND_WORD for " + command.getClass().getSimpleName());
-            String className = command.getClass().getSimpleName();
-            return className.replace("Command", "").toUpperCase();
-        }
+    private void handleSaveFailure(IOException e) {
+        savedModificationCount = -1;
+        String message = e instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+        saveFailureHandler.accept(message);
     }
 
     /**
@@ -156,26 +217,13 @@ public class LogicManager implements Logic {
         return result.getFeedbackToUser();
     }
 
-    /**
-     * Determines if a command should be logged in the audit log.
-     * Only commands that modify state are logged.
-     *
-     * @param command The command to check.
-     * @return true if the command should be logged, false otherwise.
-     */
-    private boolean shouldLogCommand(Command command) {
-        String action = extractAction(command);
-        // Exclude read-only commands
-        return !action.equals(AUDIT_ACTION)
-                && !action.equals(EXIT_ACTION)
-                && !action.equals(HELP_ACTION)
-                && !action.equals(LIST_ACTION)
-                && !action.equals(VIEW_ACTION)
-                && !action.equals(FIND_ACTION);
-    }
-
     @Override
     public String getOrganizationHierarchyString() {
         return model.getOrganizationHierarchyString();
     }
+
+    @Override
+    public boolean hasHierarchyChanged() {
+        return hierarchyChanged;
+    }
 }
@@ -22,8 +22,8 @@ public class Messages {
     public static final String MESSAGE_TAG_UNALLOWED = "Use the tag/untag command to add/remove tags";
     public static final String MESSAGE_INVALID_PERSON_ID = "Invalid person ID. ID must start with 'E'.";
     public static final String MESSAGE_INVALID_SALARY = "Invalid salary. Salary must be a positive number.";
-    public static final String MESSAGE_SALARY_TOO_HIGH = "The salary value has exceeded the limit for "
-            + "floating point numbers.";
+    public static final String MESSAGE_SALARY_TOO_HIGH = "Invalid salary. Salary must be at most "
+            + "1,000,000,000,000 dollars.\n%1$s";
     public static final String MESSAGE_PERSON_NOT_FOUND = "Person with employee ID %1$s not found.";
 
     /**
@@ -1,38 +1,52 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LISTED;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.team.Team;
 
 /**
- * Adds a person to a team.
+ * Adds one or more persons to a team.
+ * All the persons are added in a single update of the model, so the command results in one audit entry and one save
+ * however many persons it adds. When adding the listed persons, those already in the team are skipped.
  */
 public class AddToTeamCommand extends Command {
 
     public static final String COMMAND_WORD = "add-to-team";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds a person to a team. "
-            + "Parameters: TEAM_ID PERSON_ID\n"
-            + "Example: " + COMMAND_WORD + " T0001 E0001";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds persons to a team. "
+            + "Parameters: TEAM_ID PERSON_ID [MORE_PERSON_IDS]... or TEAM_ID " + PREFIX_LISTED
+            + " to add every person currently listed\n"
+            + "Example: " + COMMAND_WORD + " T0001 E0001 E0002";
 
     public static final String MESSAGE_TEAM_NOT_FOUND = "No team with ID %1$s found";
     public static final String MESSAGE_PERSON_NOT_FOUND = "No person with ID %1$s found";
     public static final String MESSAGE_ALREADY_MEMBER = "Person %1$s is already a member of team %2$s";
+    public static final String MESSAGE_NO_LISTED_PERSONS = "There are no listed persons to add";
+    public static final String MESSAGE_ALL_LISTED_ALREADY_MEMBERS =
+            "Every listed person is already a member of team %1$s";
     public static final String MESSAGE_SUCCESS = "Person %1$s added to team %2$s";
+    public static final String MESSAGE_SUCCESS_MANY = "%1$d persons added to team %2$s: %3$s";
+    public static final String MESSAGE_SKIPPED_MEMBERS = "\nSkipped persons already in the team: %1$s";
 
     private final String teamId;
-    private final String personId;
+    /** Ids of the persons to add, or null to add the persons currently listed. */
+    private final List<String> personIds;
 
     /**
      * Creates an AddToTeamCommand which, when executed, adds the specified person to the specified team.
@@ -41,72 +55,107 @@ public class AddToTeamCommand extends Command {
      * @param personId non-null id of the person to add to the team
      */
     public AddToTeamCommand(String teamId, String personId) {
+        this(teamId, List.of(requireNonNull(personId)));
+    }
+
+    /**
+     * Creates an AddToTeamCommand which, when executed, adds all the specified persons to the specified team.
+     *
+     * @param teamId    non-null id of the team to add the persons to
+     * @param personIds non-null, non-empty ids of the persons to add to the team; repeated ids are added once
+     */
+    public AddToTeamCommand(String teamId, List<String> personIds) {
+        requireNonNull(teamId);
+        requireNonNull(personIds);
+        checkArgument(!personIds.isEmpty(), "At least one person id must be given");
+        this.teamId = teamId;
+        this.personIds = List.copyOf(new LinkedHashSet<>(personIds));
+    }
+
+    private AddToTeamCommand(String teamId) {
         requireNonNull(teamId);
-        requireNonNull(personId);
         this.teamId = teamId;
-        this.personId = personId;
+        this.personIds = null;
+    }
+
+    /**
+     * Returns an AddToTeamCommand which, when executed, adds every person in the filtered person list to the
+     * specified team.
+     */
+    public static AddToTeamCommand forListedPersons(String teamId) {
+        return new AddToTeamCommand(teamId);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        Person person = model.find(p -> Objects.equals(p.id(), personId));
-        if (person == null) {
-            throw new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, personId));
+        List<Person> persons = getPersons(model);
+        Team team = model.findTeamById(teamId);
+        if (team == null) {
+            throw new CommandException(String.format(MESSAGE_TEAM_NOT_FOUND, teamId));
         }
 
-        Team team = getTeam(model);
-
-        // create edited team copy with the member added
-        Team edited = new Team(team.getId(), team.getTeamName());
-        edited.setParentTeamId(team.getParentTeamId());
-        edited.withSubteams(team.getSubteams());
-        List<String> newMembers = new ArrayList<>(team.getMembers());
-
-        updateSelectedPerson(model, person, newMembers, edited);
-
-        updateTeamDetails(model, team, edited);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, personId, teamId));
-    }
-
-    private static void updateTeamDetails(Model model, Team team, Team edited) {
-        // copy leader if present
-        if (team.getLeaderId() != null) {
-            edited.withLeader(team.getLeaderId());
+        // persons already in the team are skipped when adding the listed persons, and rejected when named
+        List<String> skippedIds = new ArrayList<>();
+        List<Person> toAdd = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            if (!model.isTeamMember(teamId, person.id())) {
+                toAdd.add(person);
+            } else if (personIds == null) {
+                skippedIds.add(person.id());
+            } else {
+                throw new CommandException(String.format(MESSAGE_ALREADY_MEMBER, person.id(), teamId));
+            }
+        }
+        if (toAdd.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_ALL_LISTED_ALREADY_MEMBERS, teamId));
         }
 
-        model.setTeam(team, edited);
-    }
+        Map<Person, Person> editedPersons = new LinkedHashMap<>();
+        for (Person person : toAdd) {
+            editedPersons.put(person, person.withAddedTeam(teamId));
+        }
 
-    private void updateSelectedPerson(Model model, Person person, List<String> newMembers, Team edited)
-            throws CommandException {
         try {
-            Person editedPerson = person.withAddedTeam(teamId);
-            model.setPerson(person, editedPerson);
-            newMembers.add(personId);
-            edited.withMembers(newMembers);
+            model.addTeamMembers(team, editedPersons);
         } catch (DuplicatePersonException e) {
             throw new CommandException("Failed to update person's teams: would create a duplicate person");
         } catch (PersonNotFoundException e) {
             throw new CommandException("Failed to update person's teams: person no longer exists");
         }
+
+        String message;
+        if (toAdd.size() == 1) {
+            message = String.format(MESSAGE_SUCCESS, toAdd.get(0).id(), teamId);
+        } else {
+            String addedIds = toAdd.stream().map(Person::id).collect(Collectors.joining(", "));
+            message = String.format(MESSAGE_SUCCESS_MANY, toAdd.size(), teamId, addedIds);
+        }
+        if (!skippedIds.isEmpty()) {
+            message += String.format(MESSAGE_SKIPPED_MEMBERS, String.join(", ", skippedIds));
+        }
+        return new CommandResult(message);
     }
 
-    private Team getTeam(Model model) throws CommandException {
-        ReadOnlyAddressBook ab = model.getAddressBook();
-        Team team = ab.getTeamList().stream()
-                .filter(t -> Objects.equals(t.getId(), teamId))
-                .findFirst()
-                .orElse(null);
-        if (team == null) {
-            throw new CommandException(String.format(MESSAGE_TEAM_NOT_FOUND, teamId));
+    private List<Person> getPersons(Model model) throws CommandException {
+        if (personIds == null) {
+            List<Person> listed = new ArrayList<>(model.getFilteredPersonList());
+            if (listed.isEmpty()) {
+                throw new CommandException(MESSAGE_NO_LISTED_PERSONS);
+            }
+            return listed;
         }
 
-        if (team.getMembers().contains(personId)) {
-            throw new CommandException(String.format(MESSAGE_ALREADY_MEMBER, personId, teamId));
+        List<Person> persons = new ArrayList<>(personIds.size());
+        for (String personId : personIds) {
+            Person person = model.findById(personId);
+            if (person == null) {
+                throw new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, personId));
+            }
+            persons.add(person);
         }
-        return team;
+        return persons;
     }
 
     @Override
@@ -118,14 +167,14 @@ public class AddToTeamCommand extends Command {
             return false;
         }
         AddToTeamCommand otherTeam = (AddToTeamCommand) other;
-        return teamId.equals(otherTeam.teamId) && personId.equals(otherTeam.personId);
+        return teamId.equals(otherTeam.teamId) && Objects.equals(personIds, otherTeam.personIds);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("teamId", teamId)
-                .add("personId", personId)
+                .add("personIds", personIds == null ? PREFIX_LISTED : personIds)
                 .toString();
     }
 }
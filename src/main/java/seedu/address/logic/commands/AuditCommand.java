@@ -1,39 +1,110 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ACTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
 
-import java.util.List;
+import java.io.IOException;
+import java.util.logging.Logger;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.Model;
 import seedu.address.model.audit.AuditLog;
 import seedu.address.model.audit.AuditLogEntry;
+import seedu.address.model.audit.AuditQuery;
+import seedu.address.model.audit.AuditQueryResult;
 
 /**
- * Displays the audit log of all past actions.
+ * Displays a page of the audit log entries matching a query, newest first, reading entries that are no longer held
+ * in memory from storage.
  */
 public class AuditCommand extends Command {
 
     public static final String COMMAND_WORD = "audit";
-    public static final String MESSAGE_SUCCESS = "Audit Log:\n%s";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Displays the logged actions that match all of the "
+            + "given filters, newest first, " + AuditQuery.PAGE_SIZE + " per page. Dates are given as yyyy-MM-dd or "
+            + "yyyy-MM-dd HH:mm.\n"
+            + "Parameters: [KEYWORD]... "
+            + "[" + PREFIX_ACTION + " ACTION] "
+            + "[" + PREFIX_ID + " ID] "
+            + "[" + PREFIX_FROM + " DATE] "
+            + "[" + PREFIX_TO + " DATE] "
+            + "[" + PREFIX_PAGE + " PAGE]\n"
+            + "Example: " + COMMAND_WORD + " salary " + PREFIX_ACTION + " edit " + PREFIX_ID + " E0001 "
+            + PREFIX_FROM + " 2025-01-01 " + PREFIX_PAGE + " 2";
+
+    public static final String MESSAGE_SUCCESS = "Audit Log: page %d of %d, %d matching entries\n";
+    public static final String MESSAGE_NO_ENTRIES = "No audit log entries found.";
+    public static final String MESSAGE_PAGE_OUT_OF_RANGE = "Page %d does not exist, the entries fill %d pages.";
+    public static final String MESSAGE_OLDER_ENTRIES_UNAVAILABLE = "Older audit log entries could not be read: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(AuditCommand.class);
+
+    private final AuditQuery query;
+
+    /**
+     * Creates an AuditCommand that displays the newest page of all entries.
+     */
+    public AuditCommand() {
+        this(AuditQuery.ALL);
+    }
+
+    /**
+     * Creates an AuditCommand that displays the page of entries selected by {@code query}.
+     */
+    public AuditCommand(AuditQuery query) {
+        requireNonNull(query);
+        this.query = query;
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
         AuditLog auditLog = model.getAuditLog();
-        List<AuditLogEntry> entries = auditLog.getEntries();
-
-        if (entries.isEmpty()) {
-            return new CommandResult("No audit log entries found.");
+        AuditQueryResult result;
+        String olderEntriesError = null;
+        try {
+            result = auditLog.query(query);
+        } catch (IOException e) {
+            logger.warning("Could not read older audit log entries: " + e);
+            result = queryEntriesInMemory(auditLog);
+            olderEntriesError = String.format(MESSAGE_OLDER_ENTRIES_UNAVAILABLE, e.getMessage());
         }
 
-        StringBuilder result = new StringBuilder("Audit Log:\n");
-        for (AuditLogEntry entry : entries) {
-            result.append(entry.toString()).append("\n");
+        StringBuilder feedback = new StringBuilder();
+        if (result.matchCount() == 0) {
+            feedback.append(MESSAGE_NO_ENTRIES).append("\n");
+        } else if (result.entries().isEmpty()) {
+            feedback.append(String.format(MESSAGE_PAGE_OUT_OF_RANGE, result.page(), result.pageCount())).append("\n");
+        } else {
+            feedback.append(String.format(MESSAGE_SUCCESS, result.page(), result.pageCount(), result.matchCount()));
+            for (AuditLogEntry entry : result.entries()) {
+                feedback.append(entry.toString()).append("\n");
+            }
+        }
+        if (olderEntriesError != null) {
+            feedback.append(olderEntriesError).append("\n");
         }
 
-        return new CommandResult(result.toString());
+        return new CommandResult(feedback.toString().stripTrailing());
+    }
+
+    /**
+     * Answers the query from the entries of {@code auditLog} that are held in memory only.
+     */
+    private AuditQueryResult queryEntriesInMemory(AuditLog auditLog) {
+        try {
+            // a copy is not attached to the archive, so it never reads from storage
+            return new AuditLog(auditLog).query(query);
+        } catch (IOException e) {
+            throw new AssertionError("An audit log without an archive should not read from storage", e);
+        }
     }
 
     @Override
@@ -43,12 +114,18 @@ public class AuditCommand extends Command {
         }
 
         // instanceof handles nulls
-        return other instanceof AuditCommand;
+        if (!(other instanceof AuditCommand)) {
+            return false;
+        }
+
+        AuditCommand otherAuditCommand = (AuditCommand) other;
+        return query.equals(otherAuditCommand.query);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
+                .add("query", query)
                 .toString();
     }
 }
@@ -2,7 +2,6 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -62,10 +61,7 @@ public class CreateTeamCommand extends Command {
             throw new CommandException(e.getMessage());
         }
 
-        List<Person> persons = model.getFilteredPersonList();
-        Optional<Person> leaderOpt = persons.stream()
-                .filter(p -> leaderPersonId.equals(p.id()))
-                .findFirst();
+        Optional<Person> leaderOpt = Optional.ofNullable(model.findById(leaderPersonId));
         if (leaderOpt.isEmpty()) {
             throw new CommandException(String.format(MESSAGE_LEADER_NOT_FOUND, leaderPersonId));
         }
@@ -9,7 +9,6 @@ import java.util.Objects;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -19,7 +18,7 @@ import seedu.address.model.team.Team;
 /**
  * Deletes a team identified by its team ID.
  * Also removes the team id from all member Person objects and removes the team
- * from any parent's subteams by scanning all teams in the address book.
+ * from the subteams of its parent team.
  */
 public class DeleteTeamCommand extends Command {
 
@@ -51,11 +50,7 @@ public class DeleteTeamCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        ReadOnlyAddressBook ab = model.getAddressBook();
-        Team teamToDelete = ab.getTeamList().stream()
-                .filter(t -> Objects.equals(t.getId(), teamId))
-                .findFirst()
-                .orElse(null);
+        Team teamToDelete = model.findTeamById(teamId);
 
         if (teamToDelete == null) {
             throw new CommandException(String.format(MESSAGE_TEAM_NOT_FOUND, teamId));
@@ -69,13 +64,14 @@ public class DeleteTeamCommand extends Command {
         // Remove team id from member Person objects
         updatePersonDetails(model, teamToDelete);
 
-        // Remove references to this team from any team's subteams by scanning all teams
-        for (Team potentialParent : ab.getTeamList()) {
-            Team editedParent = getEditedParentDetails(potentialParent);
-            if (editedParent == null) {
-                continue;
+        // Remove the reference to this team from its parent's subteams
+        String parentTeamId = teamToDelete.getParentTeamId();
+        Team parent = parentTeamId == null ? null : model.findTeamById(parentTeamId);
+        if (parent != null) {
+            Team editedParent = getEditedParentDetails(parent);
+            if (editedParent != null) {
+                model.setTeam(parent, editedParent);
             }
-            model.setTeam(potentialParent, editedParent);
         }
 
         // Remove the team from the model
@@ -87,7 +83,7 @@ public class DeleteTeamCommand extends Command {
     private void updatePersonDetails(Model model, Team teamToDelete) throws CommandException {
         List<String> memberIds = new ArrayList<>(teamToDelete.getMembers());
         for (String memberId : memberIds) {
-            Person person = model.find(p -> Objects.equals(p.id(), memberId));
+            Person person = model.findById(memberId);
             if (person == null) {
                 continue;
             }
@@ -136,7 +132,7 @@ public class DeleteTeamCommand extends Command {
 
         // preserve leader if still valid
         if (potentialParent.getLeaderId() != null
-                && editedParent.getMembers().contains(potentialParent.getLeaderId())) {
+                && editedParent.hasMember(potentialParent.getLeaderId())) {
             editedParent.withLeader(potentialParent.getLeaderId());
         }
 
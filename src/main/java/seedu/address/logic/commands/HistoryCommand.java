@@ -0,0 +1,104 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.audit.AuditLogEntry;
+import seedu.address.model.audit.FieldChange;
+
+/**
+ * Shows every logged action that changed or mentions a person or team, newest first, with the fields it changed.
+ * The person or team does not need to exist any more.
+ */
+public class HistoryCommand extends Command {
+
+    public static final String COMMAND_WORD = "history";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the logged actions that changed or mention "
+            + "an employee or team, newest first, with the fields each action changed.\n"
+            + "Parameters: EMPLOYEE_ID or TEAM_ID\n"
+            + "Example: " + COMMAND_WORD + " E0042";
+
+    public static final String MESSAGE_SUCCESS = "History of %1$s (%2$d entries):";
+    public static final String MESSAGE_NO_HISTORY = "No logged actions changed or mention %1$s";
+    public static final String MESSAGE_HISTORY_UNAVAILABLE = "The history of %1$s could not be read: %2$s";
+    public static final String MESSAGE_FIELD_CHANGE = "\t- %1$s: %2$s -> %3$s";
+    public static final String MESSAGE_MEMBERS_CHANGE = "\t- members: joined %1$s, left %2$s";
+    public static final String MESSAGE_EMPTY_VALUE = "(none)";
+
+    private static final Logger logger = LogsCenter.getLogger(HistoryCommand.class);
+
+    private final String entityId;
+
+    /**
+     * Creates a HistoryCommand which, when executed, shows the history of the specified person or team.
+     *
+     * @param entityId non-null id of the person or team
+     */
+    public HistoryCommand(String entityId) {
+        requireNonNull(entityId);
+        this.entityId = entityId;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<AuditLogEntry> entries;
+        try {
+            entries = model.getAuditLog().getEntityHistory(entityId);
+        } catch (IOException e) {
+            logger.warning("Could not read the history of " + entityId + ": " + e);
+            throw new CommandException(String.format(MESSAGE_HISTORY_UNAVAILABLE, entityId, e.getMessage()), e);
+        }
+
+        if (entries.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_HISTORY, entityId));
+        }
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, entityId, entries.size()));
+        for (AuditLogEntry entry : entries) {
+            feedback.append("\n").append(entry);
+            for (FieldChange change : entry.getChanges()) {
+                if (!change.entityId().equalsIgnoreCase(entityId)) {
+                    continue;
+                }
+                feedback.append("\n").append(change.field().equals(FieldChange.MEMBERS_FIELD)
+                        ? String.format(MESSAGE_MEMBERS_CHANGE, valueOrEmpty(change.after()),
+                                valueOrEmpty(change.before()))
+                        : String.format(MESSAGE_FIELD_CHANGE, change.field(), valueOrEmpty(change.before()),
+                                valueOrEmpty(change.after())));
+            }
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    private static String valueOrEmpty(String value) {
+        return value == null ? MESSAGE_EMPTY_VALUE : value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof HistoryCommand)) {
+            return false;
+        }
+        HistoryCommand otherCommand = (HistoryCommand) other;
+        return entityId.equals(otherCommand.entityId);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("entityId", entityId)
+                .toString();
+    }
+}
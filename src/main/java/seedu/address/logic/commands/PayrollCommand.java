@@ -0,0 +1,69 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.payroll.PayrollSummary;
+
+/**
+ * Shows the payroll of a team, including the members of all its nested subteams.
+ */
+public class PayrollCommand extends Command {
+
+    public static final String COMMAND_WORD = "payroll";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the total, average and highest monthly salary "
+            + "of a team, counting each member of the team and of its subteams once.\n"
+            + "Parameters: TEAM_ID\n"
+            + "Example: " + COMMAND_WORD + " T0001";
+
+    public static final String MESSAGE_TEAM_NOT_FOUND = "No team with ID %1$s found";
+    public static final String MESSAGE_SUCCESS = "Payroll of team %1$s (%2$d members):\n"
+            + "\t- Total: %3$s\n"
+            + "\t- Average: %4$s\n"
+            + "\t- Highest: %5$s";
+
+    private final String teamId;
+
+    /**
+     * Creates a PayrollCommand which, when executed, shows the payroll of the specified team.
+     *
+     * @param teamId non-null id of the team
+     */
+    public PayrollCommand(String teamId) {
+        requireNonNull(teamId);
+        this.teamId = teamId;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        PayrollSummary summary = model.getPayroll(teamId);
+        if (summary == null) {
+            throw new CommandException(String.format(MESSAGE_TEAM_NOT_FOUND, teamId));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, teamId, summary.headcount(),
+                summary.getTotal(), summary.getAverage(), summary.getMax()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof PayrollCommand)) {
+            return false;
+        }
+        PayrollCommand otherCommand = (PayrollCommand) other;
+        return teamId.equals(otherCommand.teamId);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("teamId", teamId)
+                .toString();
+    }
+}
@@ -1,39 +1,57 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LISTED;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.team.Team;
 
 /**
- * Removes a person from a team.
+ * Removes one or more persons from a team.
+ * All the persons are removed in a single update of the model, so the command results in one audit entry and one
+ * save however many persons it removes. When removing the listed persons, those not in the team and the team leader
+ * are skipped.
  */
 public class RemoveFromTeamCommand extends Command {
 
     public static final String COMMAND_WORD = "remove-from-team";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Removes a person from a team. "
-            + "Parameters: TEAM_ID PERSON_ID\n"
-            + "Example: " + COMMAND_WORD + " T0001 E0001";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Removes persons from a team. "
+            + "Parameters: TEAM_ID PERSON_ID [MORE_PERSON_IDS]... or TEAM_ID " + PREFIX_LISTED
+            + " to remove every person currently listed\n"
+            + "Example: " + COMMAND_WORD + " T0001 E0001 E0002";
 
     public static final String MESSAGE_TEAM_NOT_FOUND = "No team with ID %1$s found";
     public static final String MESSAGE_PERSON_NOT_FOUND = "No person with ID %1$s found";
     public static final String MESSAGE_NOT_MEMBER = "Person %1$s is not a member of team %2$s";
     public static final String MESSAGE_CANNOT_REMOVE_LEADER = "Cannot remove the team leader";
+    public static final String MESSAGE_NO_LISTED_PERSONS = "There are no listed persons to remove";
+    public static final String MESSAGE_NO_LISTED_MEMBERS =
+            "No listed person other than the leader is a member of team %1$s";
     public static final String MESSAGE_SUCCESS = "Person %1$s removed from team %2$s";
+    public static final String MESSAGE_SUCCESS_MANY = "%1$d persons removed from team %2$s: %3$s";
+    public static final String MESSAGE_SKIPPED_NON_MEMBERS = "\nSkipped %1$d persons not in the team: %2$s";
+    public static final String MESSAGE_SKIPPED_LEADER = "\nSkipped the team leader: %1$s";
 
     private final String teamId;
-    private final String personId;
+    /** Ids of the persons to remove, or null to remove the persons currently listed. */
+    private final List<String> personIds;
 
     /**
      * Creates a RemoveFromTeamCommand with a team id and person id.
@@ -42,46 +60,114 @@ public class RemoveFromTeamCommand extends Command {
      * @param personId non-null person id
      */
     public RemoveFromTeamCommand(String teamId, String personId) {
+        this(teamId, List.of(requireNonNull(personId)));
+    }
+
+    /**
+     * Creates a RemoveFromTeamCommand with a team id and the ids of the persons to remove.
+     *
+     * @param teamId non-null team id
+     * @param personIds non-null, non-empty person ids; repeated ids are removed once
+     */
+    public RemoveFromTeamCommand(String teamId, List<String> personIds) {
         requireNonNull(teamId);
-        requireNonNull(personId);
+        requireNonNull(personIds);
+        checkArgument(!personIds.isEmpty(), "At least one person id must be given");
         this.teamId = teamId;
-        this.personId = personId;
+        this.personIds = List.copyOf(new LinkedHashSet<>(personIds));
+    }
+
+    private RemoveFromTeamCommand(String teamId) {
+        requireNonNull(teamId);
+        this.teamId = teamId;
+        this.personIds = null;
+    }
+
+    /**
+     * Returns a RemoveFromTeamCommand which, when executed, removes every person in the filtered person list from
+     * the specified team.
+     */
+    public static RemoveFromTeamCommand forListedPersons(String teamId) {
+        return new RemoveFromTeamCommand(teamId);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        Person person = model.find(p -> Objects.equals(p.id(), personId));
-        if (person == null) {
-            throw new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, personId));
+        List<Person> persons = getPersons(model);
+        Team team = model.findTeamById(teamId);
+        if (team == null) {
+            throw new CommandException(String.format(MESSAGE_TEAM_NOT_FOUND, teamId));
         }
 
-        Team team = getTeam(model);
-
-        // Prevent removing the current leader, throws CommandException.
-        boolean isLeader = personIsLeader(team);
-        if (isLeader) {
-            throw new CommandException(MESSAGE_CANNOT_REMOVE_LEADER);
+        // persons not in the team and the leader are skipped when removing the listed persons, and rejected when named
+        List<String> skippedIds = new ArrayList<>();
+        String skippedLeaderId = null;
+        List<Person> toRemove = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            if (!model.isTeamMember(teamId, person.id())) {
+                if (personIds != null) {
+                    throw new CommandException(String.format(MESSAGE_NOT_MEMBER, person.id(), teamId));
+                }
+                skippedIds.add(person.id());
+            } else if (person.id().equals(team.getLeaderId())) {
+                if (personIds != null) {
+                    throw new CommandException(MESSAGE_CANNOT_REMOVE_LEADER);
+                }
+                skippedLeaderId = person.id();
+            } else {
+                toRemove.add(person);
+            }
+        }
+        if (toRemove.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_LISTED_MEMBERS, teamId));
         }
 
-        // create edited team copy with the member removed
+        // create edited team copy with the members removed
+        Set<String> removedIds = new HashSet<>();
+        Map<Person, Person> editedPersons = new LinkedHashMap<>();
+        for (Person person : toRemove) {
+            removedIds.add(person.id());
+            editedPersons.put(person, person.withRemovedTeam(teamId));
+        }
+        List<String> newMembers = new ArrayList<>(team.getMembers().size());
+        for (String memberId : team.getMembers()) {
+            if (!removedIds.contains(memberId)) {
+                newMembers.add(memberId);
+            }
+        }
         Team edited = new Team(team.getId(), team.getTeamName());
-        List<String> newMembers = new ArrayList<>(team.getMembers());
-
-        updateSelectedPerson(model, person, newMembers, edited);
+        edited.withMembers(newMembers);
+        copyTeamDetails(team, edited);
 
-        updateTeamDetails(model, team, newMembers, edited);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, personId, teamId));
-    }
+        try {
+            model.setTeamMembership(team, edited, editedPersons);
+        } catch (DuplicatePersonException e) {
+            throw new CommandException("Failed to update person's teams: would create a duplicate person");
+        } catch (PersonNotFoundException e) {
+            throw new CommandException("Failed to update person's teams: person no longer exists");
+        }
 
-    private boolean personIsLeader(Team team) throws CommandException {
-        return team.getLeaderId().equals(personId);
+        String message;
+        if (toRemove.size() == 1) {
+            message = String.format(MESSAGE_SUCCESS, toRemove.get(0).id(), teamId);
+        } else {
+            String removedList = toRemove.stream().map(Person::id).collect(Collectors.joining(", "));
+            message = String.format(MESSAGE_SUCCESS_MANY, toRemove.size(), teamId, removedList);
+        }
+        if (!skippedIds.isEmpty()) {
+            message += String.format(MESSAGE_SKIPPED_NON_MEMBERS, skippedIds.size(), String.join(", ", skippedIds));
+        }
+        if (skippedLeaderId != null) {
+            message += String.format(MESSAGE_SKIPPED_LEADER, skippedLeaderId);
+        }
+        return new CommandResult(message);
     }
 
-    private static void updateTeamDetails(Model model, Team team, List<String> newMembers, Team edited) {
+    private static void copyTeamDetails(Team team, Team edited) {
         // copy leader if present and still a member -> if leader removed, leader is cleared
-        if (team.getLeaderId() != null && newMembers.contains(team.getLeaderId())) {
+        if (team.getLeaderId() != null && edited.hasMember(team.getLeaderId())) {
             edited.withLeader(team.getLeaderId());
         }
 
@@ -90,38 +176,26 @@ public class RemoveFromTeamCommand extends Command {
         if (team.getParentTeamId() != null) {
             edited.withParentTeamId(team.getParentTeamId());
         }
-
-        model.setTeam(team, edited);
     }
 
-    private Team getTeam(Model model) throws CommandException {
-        ReadOnlyAddressBook ab = model.getAddressBook();
-        Team team = ab.getTeamList().stream()
-                .filter(t -> Objects.equals(t.getId(), teamId))
-                .findFirst()
-                .orElse(null);
-        if (team == null) {
-            throw new CommandException(String.format(MESSAGE_TEAM_NOT_FOUND, teamId));
+    private List<Person> getPersons(Model model) throws CommandException {
+        if (personIds == null) {
+            List<Person> listed = new ArrayList<>(model.getFilteredPersonList());
+            if (listed.isEmpty()) {
+                throw new CommandException(MESSAGE_NO_LISTED_PERSONS);
+            }
+            return listed;
         }
 
-        if (!team.getMembers().contains(personId)) {
-            throw new CommandException(String.format(MESSAGE_NOT_MEMBER, personId, teamId));
-        }
-        return team;
-    }
-
-    private void updateSelectedPerson(Model model, Person person, List<String> newMembers, Team edited)
-            throws CommandException {
-        try {
-            Person editedPerson = person.withRemovedTeam(teamId);
-            model.setPerson(person, editedPerson);
-            newMembers.remove(personId);
-            edited.withMembers(newMembers);
-        } catch (DuplicatePersonException e) {
-            throw new CommandException("Failed to update person's teams: would create a duplicate person");
-        } catch (PersonNotFoundException e) {
-            throw new CommandException("Failed to update person's teams: person no longer exists");
+        List<Person> persons = new ArrayList<>(personIds.size());
+        for (String personId : personIds) {
+            Person person = model.findById(personId);
+            if (person == null) {
+                throw new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, personId));
+            }
+            persons.add(person);
         }
+        return persons;
     }
 
     @Override
@@ -133,14 +207,14 @@ public class RemoveFromTeamCommand extends Command {
             return false;
         }
         RemoveFromTeamCommand otherTeam = (RemoveFromTeamCommand) other;
-        return teamId.equals(otherTeam.teamId) && personId.equals(otherTeam.personId);
+        return teamId.equals(otherTeam.teamId) && Objects.equals(personIds, otherTeam.personIds);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("teamId", teamId)
-                .add("personId", personId)
+                .add("personIds", personIds == null ? PREFIX_LISTED : personIds)
                 .toString();
     }
 }
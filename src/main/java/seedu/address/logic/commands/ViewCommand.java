@@ -2,15 +2,11 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Comparator;
-import java.util.List;
-
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
-import seedu.address.model.person.Person;
+import seedu.address.model.person.NameMatchRanker;
 
 /**
  * Filters and lists all persons in address book whose name contains any of the argument keywords.
@@ -34,83 +30,16 @@ public class ViewCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonListByName(predicate);
 
-        model.sortPersons(getComparator());
+        // only the matches are ranked; sorting orders the filtered list, not the address book
+        NameMatchRanker ranker = new NameMatchRanker(predicate.getKeywords());
+        model.sortPersons(ranker.comparatorFor(model.getFilteredPersonList()));
 
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
-    private Comparator<Person> getComparator() {
-        List<String> keywords = predicate.getKeywords();
-        return Comparator
-                // more matched keywords first
-                .comparingInt((Person p) -> -computeMatchCount(p, keywords))
-                // then lower total closeness score
-                .thenComparingInt(p -> computeSumScore(p, keywords))
-                // then by earliest matching keyword according to input order (lower = earlier keyword in input)
-                .thenComparingInt(p -> computeFirstKeywordIndex(p, keywords))
-                // finally by name (case-insensitive)
-                .thenComparing(p -> p.name().fullName(), String::compareToIgnoreCase);
-    }
-
-    /**
-     * Count how many keywords match the person's name (word or substring or exact).
-     */
-    private static int computeMatchCount(Person p, List<String> keywords) {
-        String fullName = p.name().fullName();
-        return (int) keywords.stream()
-                .mapToInt(k -> scoreForKeyword(fullName, k))
-                .filter(score -> score < 3) // 0,1,2 indicate a match
-                .count();
-    }
-
-    /**
-     * Sum of per-keyword scores (lower is better). Non-matching keywords contribute score 3.
-     */
-    private static int computeSumScore(Person p, List<String> keywords) {
-        String fullName = p.name().fullName();
-        return keywords.stream()
-                .mapToInt(k -> scoreForKeyword(fullName, k))
-                .sum();
-    }
-
-    /**
-     * Compute a simple closeness score for a person given keywords.
-     * Lower score = closer match for that keyword.
-     * 0 = exact equals ignoring case
-     * 1 = whole-word match (StringUtil.containsWordIgnoreCase)
-     * 2 = substring match
-     * 3 = no match
-     */
-    private static int scoreForKeyword(String fullName, String k) {
-        if (fullName.equalsIgnoreCase(k)) {
-            return 0;
-        }
-        if (StringUtil.containsWordIgnoreCase(fullName, k)) {
-            return 1;
-        }
-        if (fullName.toLowerCase().contains(k.toLowerCase())) {
-            return 2;
-        }
-        return 3;
-    }
-
-    /**
-     * Returns the index of the first keyword (in input order) that matches the person's name.
-     * Lower = the keyword appears earlier in the input. If no keyword matches, returns Integer.MAX_VALUE.
-     */
-    private static int computeFirstKeywordIndex(Person p, List<String> keywords) {
-        String fullName = p.name().fullName();
-        for (int i = 0; i < keywords.size(); i++) {
-            if (scoreForKeyword(fullName, keywords.get(i)) < 3) {
-                return i;
-            }
-        }
-        return Integer.MAX_VALUE;
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
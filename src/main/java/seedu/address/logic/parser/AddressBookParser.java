@@ -3,31 +3,15 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Optional;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.logic.commands.AddCommand;
-import seedu.address.logic.commands.AddToTeamCommand;
-import seedu.address.logic.commands.AuditCommand;
-import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
-import seedu.address.logic.commands.CreateTeamCommand;
-import seedu.address.logic.commands.DeleteCommand;
-import seedu.address.logic.commands.DeleteTeamCommand;
-import seedu.address.logic.commands.EditCommand;
-import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
-import seedu.address.logic.commands.ImportCommand;
-import seedu.address.logic.commands.ListCommand;
-import seedu.address.logic.commands.RemoveFromTeamCommand;
-import seedu.address.logic.commands.SetSalaryCommand;
-import seedu.address.logic.commands.SetSubteamCommand;
-import seedu.address.logic.commands.SortCommand;
-import seedu.address.logic.commands.TagCommand;
-import seedu.address.logic.commands.UntagCommand;
-import seedu.address.logic.commands.ViewCommand;
+import seedu.address.logic.parser.CommandRegistry.CommandInfo;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -41,6 +25,22 @@ public class AddressBookParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private final CommandRegistry registry;
+
+    /**
+     * Creates a parser of the commands of the application.
+     */
+    public AddressBookParser() {
+        this(CommandRegistry.getDefault());
+    }
+
+    /**
+     * Creates a parser of the commands in {@code registry}.
+     */
+    public AddressBookParser(CommandRegistry registry) {
+        this.registry = registry;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -62,69 +62,12 @@ public class AddressBookParser {
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case ViewCommand.COMMAND_WORD:
-            return new ViewCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ImportCommand.COMMAND_WORD:
-            return new ImportCommandParser().parse(arguments);
-
-        case TagCommand.COMMAND_WORD:
-            return new TagCommandParser().parse(arguments);
-
-        case UntagCommand.COMMAND_WORD:
-            return new UntagCommandParser().parse(arguments);
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case SetSalaryCommand.COMMAND_WORD:
-            return new SetSalaryCommandParser().parse(arguments);
-
-        case AuditCommand.COMMAND_WORD:
-            return new AuditCommand();
-
-        case CreateTeamCommand.COMMAND_WORD:
-            return new CreateTeamCommandParser().parse(arguments);
-
-        case AddToTeamCommand.COMMAND_WORD:
-            return new AddToTeamCommandParser().parse(arguments);
-
-        case RemoveFromTeamCommand.COMMAND_WORD:
-            return new RemoveFromTeamCommandParser().parse(arguments);
-
-        case SetSubteamCommand.COMMAND_WORD:
-            return new SetSubteamCommandParser().parse(arguments);
-
-        case DeleteTeamCommand.COMMAND_WORD:
-            return new DeleteTeamCommandParser().parse(arguments);
-
-        case SortCommand.COMMAND_WORD:
-            return new SortCommandParser().parse(arguments);
-
-        default:
+        Optional<CommandInfo> command = registry.lookup(commandWord);
+        if (command.isEmpty()) {
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return command.get().parser().parse(arguments);
     }
 
 }
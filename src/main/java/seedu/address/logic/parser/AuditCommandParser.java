@@ -0,0 +1,109 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ACTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PAGE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.AuditCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.audit.AuditQuery;
+
+/**
+ * Parses input arguments and creates a new AuditCommand object
+ */
+public class AuditCommandParser implements Parser<AuditCommand> {
+
+    public static final String MESSAGE_INVALID_DATE = "Dates should be given as yyyy-MM-dd or yyyy-MM-dd HH:mm.";
+    public static final String MESSAGE_INVALID_TIME_RANGE = "The " + PREFIX_FROM + " date should not be after the "
+            + PREFIX_TO + " date.";
+
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_ACTION, PREFIX_ID, PREFIX_FROM,
+            PREFIX_TO, PREFIX_PAGE);
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final Pattern ENTITY_ID_FORMAT = Pattern.compile("^[ET]\\d{4}$", Pattern.CASE_INSENSITIVE);
+    private static final Pattern PAGE_FORMAT = Pattern.compile("^[1-9]\\d{0,8}$");
+
+    @Override
+    public AuditCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = TOKENIZER.split(args);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_ACTION, PREFIX_ID, PREFIX_FROM, PREFIX_TO, PREFIX_PAGE);
+
+        String preamble = argMultimap.getPreamble().trim();
+        List<String> keywords = preamble.isEmpty() ? List.of() : Arrays.asList(preamble.split("\\s+"));
+
+        String action = parseWord(argMultimap.getValue(PREFIX_ACTION));
+        String entityId = parseWord(argMultimap.getValue(PREFIX_ID));
+        if (entityId != null && !ENTITY_ID_FORMAT.matcher(entityId).matches()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AuditCommand.MESSAGE_USAGE));
+        }
+
+        LocalDateTime from = null;
+        if (argMultimap.getValue(PREFIX_FROM).isPresent()) {
+            from = parseDateTime(argMultimap.getValue(PREFIX_FROM).get(), false);
+        }
+        LocalDateTime to = null;
+        if (argMultimap.getValue(PREFIX_TO).isPresent()) {
+            to = parseDateTime(argMultimap.getValue(PREFIX_TO).get(), true);
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ParseException(MESSAGE_INVALID_TIME_RANGE);
+        }
+
+        int page = 1;
+        if (argMultimap.getValue(PREFIX_PAGE).isPresent()) {
+            String pageNumber = argMultimap.getValue(PREFIX_PAGE).get().trim();
+            if (!PAGE_FORMAT.matcher(pageNumber).matches()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AuditCommand.MESSAGE_USAGE));
+            }
+            page = Integer.parseInt(pageNumber);
+        }
+
+        return new AuditCommand(new AuditQuery(action, entityId, keywords, from, to, page));
+    }
+
+    /**
+     * Returns the single word in {@code value}, or null if there is no value.
+     */
+    private static String parseWord(Optional<String> value) throws ParseException {
+        if (value.isEmpty()) {
+            return null;
+        }
+        String word = value.get().trim();
+        if (word.isEmpty() || word.contains(" ")) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AuditCommand.MESSAGE_USAGE));
+        }
+        return word;
+    }
+
+    /**
+     * Parses a date or a date and time to a minute. If {@code isEndOfRange}, returns the last moment of that day or
+     * minute, otherwise the first.
+     */
+    private static LocalDateTime parseDateTime(String value, boolean isEndOfRange) throws ParseException {
+        String trimmedValue = value.trim();
+        try {
+            if (trimmedValue.contains(" ")) {
+                LocalDateTime minute = LocalDateTime.parse(trimmedValue, DATE_TIME_FORMAT);
+                return isEndOfRange ? minute.plusMinutes(1).minusNanos(1) : minute;
+            }
+            return LocalDate.parse(trimmedValue).atTime(isEndOfRange ? LocalTime.MAX : LocalTime.MIN);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_DATE, e);
+        }
+    }
+}
@@ -15,4 +15,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_TEAM = new Prefix("-team");
     public static final Prefix PREFIX_ID = new Prefix("-id");
     public static final Prefix PREFIX_SALARY = new Prefix("-salary");
+    public static final Prefix PREFIX_LISTED = new Prefix("-listed");
+    public static final Prefix PREFIX_ACTION = new Prefix("-action");
+    public static final Prefix PREFIX_FROM = new Prefix("-from");
+    public static final Prefix PREFIX_TO = new Prefix("-to");
+    public static final Prefix PREFIX_PAGE = new Prefix("-page");
 }
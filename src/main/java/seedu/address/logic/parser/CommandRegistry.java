@@ -0,0 +1,154 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AddToTeamCommand;
+import seedu.address.logic.commands.AuditCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CreateTeamCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DeleteTeamCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.PayrollCommand;
+import seedu.address.logic.commands.RemoveFromTeamCommand;
+import seedu.address.logic.commands.SetSalaryCommand;
+import seedu.address.logic.commands.SetSubteamCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.TagCommand;
+import seedu.address.logic.commands.UntagCommand;
+import seedu.address.logic.commands.ViewCommand;
+
+/**
+ * Maps each command word to the parser of its arguments and to what is known about the command before it runs:
+ * whether it changes the address book, whether it changes the team hierarchy, and the action it is logged as.
+ *
+ * The registry and its parsers are created once and shared, so parsers must not keep state between calls.
+ */
+public class CommandRegistry {
+
+    /**
+     * What running a command can change.
+     */
+    public enum Kind {
+        /** Changes nothing that is saved or logged. */
+        READ_ONLY,
+        /** Changes persons or teams, but not how teams are nested or who their members are. */
+        CHANGES_DATA,
+        /** Changes teams, their members or how they are nested, so the organization hierarchy must be redrawn. */
+        CHANGES_HIERARCHY
+    }
+
+    /**
+     * A command word, the command it parses to, the parser of its arguments and what the command can change.
+     */
+    public record CommandInfo(String commandWord, Class<? extends Command> commandClass,
+            Parser<? extends Command> parser, Kind kind) {
+
+        /**
+         * Returns true if the command changes nothing that is saved or logged.
+         */
+        public boolean isReadOnly() {
+            return kind == Kind.READ_ONLY;
+        }
+
+        /**
+         * Returns true if the command can change the organization hierarchy.
+         */
+        public boolean affectsHierarchy() {
+            return kind == Kind.CHANGES_HIERARCHY;
+        }
+
+        /**
+         * Returns the action the command is recorded as in the audit log.
+         */
+        public String auditAction() {
+            return commandWord.toUpperCase(Locale.ROOT);
+        }
+    }
+
+    private static final CommandRegistry DEFAULT_REGISTRY = new CommandRegistry(List.of(
+            new CommandInfo(AddCommand.COMMAND_WORD, AddCommand.class, new AddCommandParser(), Kind.CHANGES_DATA),
+            new CommandInfo(EditCommand.COMMAND_WORD, EditCommand.class, new EditCommandParser(), Kind.CHANGES_DATA),
+            new CommandInfo(DeleteCommand.COMMAND_WORD, DeleteCommand.class, new DeleteCommandParser(),
+                    Kind.CHANGES_DATA),
+            new CommandInfo(ClearCommand.COMMAND_WORD, ClearCommand.class, args -> new ClearCommand(),
+                    Kind.CHANGES_HIERARCHY),
+            new CommandInfo(ViewCommand.COMMAND_WORD, ViewCommand.class, new ViewCommandParser(), Kind.READ_ONLY),
+            new CommandInfo(ListCommand.COMMAND_WORD, ListCommand.class, args -> new ListCommand(), Kind.READ_ONLY),
+            new CommandInfo(ImportCommand.COMMAND_WORD, ImportCommand.class, new ImportCommandParser(),
+                    Kind.CHANGES_DATA),
+            new CommandInfo(TagCommand.COMMAND_WORD, TagCommand.class, new TagCommandParser(), Kind.CHANGES_DATA),
+            new CommandInfo(UntagCommand.COMMAND_WORD, UntagCommand.class, new UntagCommandParser(),
+                    Kind.CHANGES_DATA),
+            new CommandInfo(ExitCommand.COMMAND_WORD, ExitCommand.class, args -> new ExitCommand(), Kind.READ_ONLY),
+            new CommandInfo(HelpCommand.COMMAND_WORD, HelpCommand.class, args -> new HelpCommand(), Kind.READ_ONLY),
+            new CommandInfo(SetSalaryCommand.COMMAND_WORD, SetSalaryCommand.class, new SetSalaryCommandParser(),
+                    Kind.CHANGES_DATA),
+            new CommandInfo(AuditCommand.COMMAND_WORD, AuditCommand.class, new AuditCommandParser(), Kind.READ_ONLY),
+            new CommandInfo(HistoryCommand.COMMAND_WORD, HistoryCommand.class, new HistoryCommandParser(),
+                    Kind.READ_ONLY),
+            new CommandInfo(CreateTeamCommand.COMMAND_WORD, CreateTeamCommand.class, new CreateTeamCommandParser(),
+                    Kind.CHANGES_HIERARCHY),
+            new CommandInfo(AddToTeamCommand.COMMAND_WORD, AddToTeamCommand.class, new AddToTeamCommandParser(),
+                    Kind.CHANGES_HIERARCHY),
+            new CommandInfo(RemoveFromTeamCommand.COMMAND_WORD, RemoveFromTeamCommand.class,
+                    new RemoveFromTeamCommandParser(), Kind.CHANGES_HIERARCHY),
+            new CommandInfo(SetSubteamCommand.COMMAND_WORD, SetSubteamCommand.class, new SetSubteamCommandParser(),
+                    Kind.CHANGES_HIERARCHY),
+            new CommandInfo(DeleteTeamCommand.COMMAND_WORD, DeleteTeamCommand.class, new DeleteTeamCommandParser(),
+                    Kind.CHANGES_HIERARCHY),
+            new CommandInfo(SortCommand.COMMAND_WORD, SortCommand.class, new SortCommandParser(), Kind.CHANGES_DATA),
+            new CommandInfo(PayrollCommand.COMMAND_WORD, PayrollCommand.class, new PayrollCommandParser(),
+                    Kind.READ_ONLY)));
+
+    private final Map<String, CommandInfo> byCommandWord = new HashMap<>();
+    private final Map<Class<? extends Command>, CommandInfo> byCommandClass = new HashMap<>();
+
+    /**
+     * Creates a registry of {@code commands}, which must have distinct command words and command classes.
+     */
+    public CommandRegistry(List<CommandInfo> commands) {
+        for (CommandInfo info : commands) {
+            if (byCommandWord.put(info.commandWord(), info) != null
+                    || byCommandClass.put(info.commandClass(), info) != null) {
+                throw new IllegalArgumentException("Command registered twice: " + info.commandWord());
+            }
+        }
+    }
+
+    /**
+     * Returns the registry of every command of the application.
+     */
+    public static CommandRegistry getDefault() {
+        return DEFAULT_REGISTRY;
+    }
+
+    /**
+     * Returns the command with the command word {@code commandWord}, if there is one.
+     */
+    public Optional<CommandInfo> lookup(String commandWord) {
+        requireNonNull(commandWord);
+        return Optional.ofNullable(byCommandWord.get(commandWord));
+    }
+
+    /**
+     * Returns what is known about {@code command}, if its class is registered.
+     */
+    public Optional<CommandInfo> getInfo(Command command) {
+        requireNonNull(command);
+        return Optional.ofNullable(byCommandClass.get(command.getClass()));
+    }
+}
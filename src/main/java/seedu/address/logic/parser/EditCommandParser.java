@@ -22,14 +22,14 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class EditCommandParser implements Parser<EditCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+            PREFIX_ADDRESS, PREFIX_GITHUB, PREFIX_TAG);
     private static final Pattern EMPLOYEE_ID_FORMAT = Pattern.compile("^E\\d{4}$");
 
     @Override
     public EditCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
-                        PREFIX_ADDRESS, PREFIX_GITHUB, PREFIX_TAG);
+        ArgumentMultimap argMultimap = TOKENIZER.split(args);
 
         String employeeId;
         if (!argMultimap.getAllValues(PREFIX_TAG).isEmpty()) {
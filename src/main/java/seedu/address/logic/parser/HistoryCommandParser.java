@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new HistoryCommand object
+ */
+public class HistoryCommandParser implements Parser<HistoryCommand> {
+
+    private static final Pattern ENTITY_ID_FORMAT = Pattern.compile("^[ET]\\d{4}$");
+
+    @Override
+    public HistoryCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+
+        if (!ENTITY_ID_FORMAT.matcher(trimmedArgs).matches()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HistoryCommand.MESSAGE_USAGE));
+        }
+
+        return new HistoryCommand(trimmedArgs);
+    }
+}
@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.PayrollCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new PayrollCommand object
+ */
+public class PayrollCommandParser implements Parser<PayrollCommand> {
+
+    private static final Pattern TEAM_ID_FORMAT = Pattern.compile("^T\\d{4}$");
+
+    @Override
+    public PayrollCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+
+        if (!TEAM_ID_FORMAT.matcher(trimmedArgs).matches()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, PayrollCommand.MESSAGE_USAGE));
+        }
+
+        return new PayrollCommand(trimmedArgs);
+    }
+}
@@ -1,6 +1,10 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LISTED;
+
+import java.util.Arrays;
+import java.util.List;
 
 import seedu.address.logic.commands.RemoveFromTeamCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -8,7 +12,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 /**
  * Parses input arguments and creates a new RemoveFromTeamCommand object.
  *
- * Expected format: {@code TEAM_ID PERSON_ID}
+ * Expected format: {@code TEAM_ID PERSON_ID [MORE_PERSON_IDS]...} or {@code TEAM_ID -listed}
  */
 public class RemoveFromTeamCommandParser implements Parser<RemoveFromTeamCommand> {
 
@@ -25,13 +29,20 @@ public class RemoveFromTeamCommandParser implements Parser<RemoveFromTeamCommand
         }
 
         String[] tokens = trimmed.split("\\s+");
-        if (tokens.length != 2) {
+        if (tokens.length < 2) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     RemoveFromTeamCommand.MESSAGE_USAGE));
         }
 
         String teamId = tokens[0];
-        String personId = tokens[1];
-        return new RemoveFromTeamCommand(teamId, personId);
+        List<String> personIds = Arrays.asList(tokens).subList(1, tokens.length);
+        if (personIds.contains(PREFIX_LISTED.getPrefix())) {
+            if (personIds.size() != 1) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    RemoveFromTeamCommand.MESSAGE_USAGE));
+            }
+            return RemoveFromTeamCommand.forListedPersons(teamId);
+        }
+        return new RemoveFromTeamCommand(teamId, personIds);
     }
 }
@@ -7,6 +7,7 @@ import java.util.stream.Stream;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.SetSalaryCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Salary;
 
 /**
  * Parses input arguments and creates a new SetSalaryCommand object
@@ -29,15 +30,22 @@ public class SetSalaryCommandParser implements Parser<SetSalaryCommand> {
             throw new ParseException(Messages.MESSAGE_INVALID_PERSON_ID);
         }
 
-        double value = Double.parseDouble(tokens[1]);
-        if (!Double.isFinite(value)) {
-            throw new ParseException(Messages.MESSAGE_SALARY_TOO_HIGH);
+        double value;
+        try {
+            value = Double.parseDouble(tokens[1]);
+        } catch (NumberFormatException e) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SetSalaryCommand.MESSAGE_USAGE), e);
         }
 
         if (value < 0) {
             throw new ParseException(Messages.MESSAGE_INVALID_SALARY);
         }
 
+        if (!Salary.isValidSalary(value)) {
+            throw new ParseException(String.format(Messages.MESSAGE_SALARY_TOO_HIGH, SetSalaryCommand.MESSAGE_USAGE));
+        }
+
         return new SetSalaryCommand(id, value);
     }
 
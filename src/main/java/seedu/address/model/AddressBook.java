@@ -3,18 +3,31 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.audit.AuditLog;
+import seedu.address.model.audit.AuditLogEntry;
+import seedu.address.model.payroll.PayrollAggregator;
+import seedu.address.model.payroll.PayrollSummary;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamMembershipIndex;
 import seedu.address.model.team.UniqueTeamList;
-import seedu.address.model.team.exceptions.TeamNotFoundException;
+import seedu.address.model.team.exceptions.DuplicateTeamException;
 
 /**
  * Represents an in-memory address book containing persons and teams.
@@ -24,7 +37,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniquePersonList persons = new UniquePersonList();
     private final UniqueTeamList teams = new UniqueTeamList();
     private final AuditLog auditLog = new AuditLog();
-
+    private final PayrollAggregator payroll = new PayrollAggregator();
+    private final TeamMembershipIndex memberships = new TeamMembershipIndex();
+    /** Number of changes made to the persons and teams, used to tell whether the address book has changed. */
+    private long modificationCount;
+    /** The latest change made to the persons and teams, which the next change is chained to. */
+    private DataChange latestChange = DataChange.reset();
 
     public AddressBook() {}
 
@@ -44,6 +62,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        payroll.rebuild(getPersonList(), getTeamList());
+        latestChange = latestChange.thenReset();
+        modificationCount++;
     }
 
     /**
@@ -52,12 +73,21 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setTeams(List<Team> teams) {
         this.teams.setTeams(teams);
+        payroll.rebuild(getPersonList(), getTeamList());
+        memberships.clear();
+        for (Team team : teams) {
+            memberships.addTeam(team);
+        }
+        latestChange = latestChange.thenReset();
+        modificationCount++;
     }
 
     /**
      * Replaces this address book's data with the provided {@code newData}.
      * Persons are always replaced. Teams are replaced only if {@code newData}
      * exposes a team list; otherwise team data is left unchanged. (to be cleaned further later)
+     * The latest change of {@code newData}, if it has one, becomes the latest change of this address book, so that
+     * a copy continues the chain of changes of the address book it was copied from.
      *
      * @param newData the source data to copy; must not be null
      * @throws NullPointerException if {@code newData} is null
@@ -70,9 +100,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         // This prevents clearing the audit log when clearing persons/teams
         if (!newData.getAuditLog().getEntries().isEmpty()) {
             auditLog.clear();
-            for (var entry : newData.getAuditLog().getEntries()) {
-                auditLog.addEntry(entry.getAction(), entry.getDetails(), entry.getTimestamp());
-            }
+            auditLog.addEntries(newData.getAuditLog().getEntries());
         }
 
         // ReadOnlyAddressBook is expected to expose getTeamList()
@@ -83,6 +111,10 @@ public class AddressBook implements ReadOnlyAddressBook {
                 // If the provided ReadOnlyAddressBook does not expose teams yet, ignore.
             }
         }
+
+        if (newData.getLatestChange() != null) {
+            latestChange = newData.getLatestChange();
+        }
     }
 
     //// person-level operations
@@ -101,6 +133,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        payroll.updatePerson(p);
+        auditLog.recordChange(null, p);
+        latestChange = latestChange.thenPerson(p);
+        modificationCount++;
     }
 
     /**
@@ -109,6 +145,37 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPerson(Person target, Person editedPerson) {
         persons.setPerson(target, editedPerson);
+        if (!target.id().equals(editedPerson.id())) {
+            payroll.removePerson(target.id());
+        }
+        payroll.updatePerson(editedPerson);
+        auditLog.recordChange(target, editedPerson);
+        // a person whose id changes keeps its place in the list, which is not what replaying the change would do
+        latestChange = target.id().equals(editedPerson.id())
+                ? latestChange.thenPerson(editedPerson)
+                : latestChange.thenReset();
+        modificationCount++;
+    }
+
+    /**
+     * Replaces each person in the keys of {@code editedPersons} with its value, as {@link #setPerson} does, but in a
+     * single change of the persons list. The persons in the keys must exist in the address book.
+     */
+    private void setPersons(Map<Person, Person> editedPersons) {
+        persons.setPersons(editedPersons);
+        for (Map.Entry<Person, Person> edit : editedPersons.entrySet()) {
+            Person target = edit.getKey();
+            Person editedPerson = edit.getValue();
+            if (!target.id().equals(editedPerson.id())) {
+                payroll.removePerson(target.id());
+            }
+            payroll.updatePerson(editedPerson);
+            auditLog.recordChange(target, editedPerson);
+            latestChange = target.id().equals(editedPerson.id())
+                    ? latestChange.thenPerson(editedPerson)
+                    : latestChange.thenReset();
+        }
+        modificationCount++;
     }
 
     /**
@@ -117,6 +184,28 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        payroll.removePerson(key.id());
+        auditLog.recordChange(key, null);
+        latestChange = latestChange.thenRemovedPerson(key.id());
+        modificationCount++;
+    }
+
+    /**
+     * Finds and returns a person by its ID.
+     * Returns null if no such person exists.
+     */
+    public Person getPersonById(String personId) {
+        requireNonNull(personId);
+        return persons.getPersonById(personId);
+    }
+
+    /**
+     * Returns the persons whose names match {@code predicate}, in list order, looking them up in the name search
+     * index.
+     */
+    public List<Person> findPersonsByName(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return persons.findByName(predicate);
     }
 
     @Override
@@ -144,11 +233,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public Team getTeamById(String teamId) {
         requireNonNull(teamId);
-        try {
-            return teams.getTeamById(teamId);
-        } catch (TeamNotFoundException e) {
-            return null;
-        }
+        return teams.findTeamById(teamId);
     }
 
     /**
@@ -158,6 +243,11 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void addTeam(Team team) {
         requireNonNull(team);
         teams.add(team);
+        payroll.updateTeam(team);
+        memberships.addTeam(team);
+        auditLog.recordChange(null, team);
+        latestChange = latestChange.thenTeam(team.getId());
+        modificationCount++;
     }
 
     /**
@@ -166,6 +256,42 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setTeam(Team target, Team editedTeam) {
         teams.setTeam(target, editedTeam);
+        if (!target.getId().equals(editedTeam.getId())) {
+            payroll.removeTeam(target.getId());
+        }
+        payroll.updateTeam(editedTeam);
+        memberships.replaceTeam(target, editedTeam);
+        auditLog.recordChange(target, editedTeam);
+        latestChange = target.getId().equals(editedTeam.getId())
+                ? latestChange.thenTeam(editedTeam.getId())
+                : latestChange.thenReset();
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the team {@code target} with {@code editedTeam}, and each person in the keys of
+     * {@code editedPersons} with its value, as a single change of the team's membership.
+     * {@code target} and the persons must exist in the address book.
+     */
+    public void setTeamMembership(Team target, Team editedTeam, Map<Person, Person> editedPersons) {
+        setPersons(editedPersons);
+        setTeam(target, editedTeam);
+    }
+
+    /**
+     * Adds the persons in the keys of {@code editedPersons} to {@code team}, replacing each with its value, as a
+     * single change of the team's membership. The team is changed in place, so its other members are not copied.
+     * {@code team} and the persons must exist in the address book, and the persons must not be members of the team.
+     */
+    public void addTeamMembers(Team team, Map<Person, Person> editedPersons) {
+        setPersons(editedPersons);
+        List<String> personIds = editedPersons.values().stream().map(Person::id).toList();
+        auditLog.recordInPlaceChange(team);
+        teams.addMembers(team, personIds);
+        payroll.addMembers(team.getId(), personIds);
+        memberships.addMembers(team.getId(), personIds);
+        latestChange = latestChange.thenTeam(team.getId());
+        modificationCount++;
     }
 
     /**
@@ -174,6 +300,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeTeam(Team toRemove) {
         teams.remove(toRemove);
+        payroll.removeTeam(toRemove.getId());
+        memberships.removeTeam(toRemove);
+        auditLog.recordChange(toRemove, null);
+        latestChange = latestChange.thenRemovedTeam(toRemove.getId());
+        modificationCount++;
     }
 
     /**
@@ -186,7 +317,60 @@ public class AddressBook implements ReadOnlyAddressBook {
         if (parentTeam == null || subteam == null) {
             return false;
         }
-        return teams.setSubteam(parentTeam, subteam);
+        auditLog.recordInPlaceChange(parentTeam, subteam);
+        if (!teams.setSubteam(parentTeam, subteam)) {
+            return false;
+        }
+        payroll.updateTeam(subteam);
+        // the links between teams are not saved, so the change is not chained to latestChange
+        modificationCount++;
+        return true;
+    }
+
+    /**
+     * Returns the payroll of the team with the given ID, including all of its nested subteams.
+     * Returns null if no such team exists.
+     */
+    public PayrollSummary getPayroll(String teamId) {
+        requireNonNull(teamId);
+        return payroll.getSummary(teamId);
+    }
+
+    /**
+     * Returns true if the person with ID {@code personId} is a member of the team with ID {@code teamId}.
+     */
+    public boolean isTeamMember(String teamId, String personId) {
+        Team team = teams.findTeamById(teamId);
+        return team != null && team.hasMember(personId);
+    }
+
+    /**
+     * Returns the IDs of the teams the person with ID {@code personId} is a member of.
+     */
+    public Set<String> getTeamIdsOf(String personId) {
+        return memberships.getTeamIds(personId);
+    }
+
+    /**
+     * Returns the IDs of the teams led by the person with ID {@code personId}.
+     */
+    public Set<String> getLedTeamIds(String personId) {
+        return memberships.getLedTeamIds(personId);
+    }
+
+    /**
+     * Returns true if the team with ID {@code teamId} is nested, directly or indirectly,
+     * under the team with ID {@code ancestorTeamId}.
+     */
+    public boolean isSubteamOf(String teamId, String ancestorTeamId) {
+        return teams.isNestedUnder(teamId, ancestorTeamId);
+    }
+
+    /**
+     * Returns the IDs of all teams nested, directly or indirectly, under the team with ID {@code teamId}.
+     */
+    public Set<String> getAllSubteamIds(String teamId) {
+        return teams.getDescendantIds(teamId);
     }
 
     /**
@@ -197,6 +381,21 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void sortPersons(Comparator<Person> comparator) {
         requireNonNull(comparator);
         persons.sort(comparator);
+        latestChange = latestChange.thenReset();
+        modificationCount++;
+    }
+
+    /**
+     * Returns a counter that is advanced whenever the persons, teams or audit log of this address book change.
+     * Two equal readings mean that nothing has changed in between.
+     */
+    public long getModificationCount() {
+        return modificationCount + auditLog.getModificationCount();
+    }
+
+    @Override
+    public DataChange getLatestChange() {
+        return latestChange;
     }
 
     //// util methods
@@ -247,4 +446,81 @@ public class AddressBook implements ReadOnlyAddressBook {
     public int hashCode() {
         return Objects.hash(persons, teams);
     }
+
+    /**
+     * Builder for AddressBook, used when loading a whole address book at once.
+     * Records are collected first and checked for duplicates in a single pass, so that every duplicate is reported
+     * together and each backing list is filled with one bulk replacement.
+     */
+    public static class Builder {
+        private final List<Person> persons = new ArrayList<>();
+        private final List<Team> teams = new ArrayList<>();
+        private final List<AuditLogEntry> auditLogEntries = new ArrayList<>();
+
+        /**
+         * Adds {@code person} to the address book being built.
+         * @param person The person to add.
+         * @return This builder object.
+         */
+        public Builder addPerson(Person person) {
+            persons.add(requireNonNull(person));
+            return this;
+        }
+
+        /**
+         * Adds {@code team} to the address book being built.
+         * @param team The team to add.
+         * @return This builder object.
+         */
+        public Builder addTeam(Team team) {
+            teams.add(requireNonNull(team));
+            return this;
+        }
+
+        /**
+         * Adds {@code entry} to the audit log of the address book being built.
+         * @param entry The audit log entry to add.
+         * @return This builder object.
+         */
+        public Builder addAuditEntry(AuditLogEntry entry) {
+            auditLogEntries.add(requireNonNull(entry));
+            return this;
+        }
+
+        /**
+         * Builds the address book.
+         *
+         * @throws DuplicatePersonException if two persons share the same identity, naming all such persons.
+         * @throws DuplicateTeamException if two teams share the same id, naming all such teams.
+         */
+        public AddressBook build() {
+            Set<Name> duplicateNames = findDuplicates(persons.stream().map(Person::name).toList());
+            if (!duplicateNames.isEmpty()) {
+                throw new DuplicatePersonException(duplicateNames.stream()
+                        .map(Name::fullName)
+                        .collect(Collectors.joining(", ")));
+            }
+            Set<String> duplicateTeamIds = findDuplicates(teams.stream().map(Team::getId).toList());
+            if (!duplicateTeamIds.isEmpty()) {
+                throw new DuplicateTeamException(String.join(", ", duplicateTeamIds));
+            }
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            addressBook.setTeams(teams);
+            addressBook.auditLog.addEntries(auditLogEntries);
+            return addressBook;
+        }
+
+        private static <T> Set<T> findDuplicates(List<T> keys) {
+            Set<T> seen = new HashSet<>();
+            Set<T> duplicates = new LinkedHashSet<>();
+            for (T key : keys) {
+                if (!seen.add(key)) {
+                    duplicates.add(key);
+                }
+            }
+            return duplicates;
+        }
+    }
 }
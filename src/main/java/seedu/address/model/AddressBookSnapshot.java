@@ -0,0 +1,73 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.audit.AuditLog;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * A copy of the contents of an address book at one point in time, which later changes to the address book do not
+ * affect. It can be handed to another thread, e.g. to be saved, while the address book keeps changing.
+ *
+ * Persons are immutable and are shared with the address book; teams and the audit log are copied.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Team> teams;
+    private final AuditLog auditLog;
+    private final DataChange latestChange;
+
+    /**
+     * Creates a snapshot of the current contents of {@code source}.
+     */
+    public AddressBookSnapshot(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getPersonList()));
+        teams = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(
+                source.getTeamList().stream().map(AddressBookSnapshot::copyOf).toList()));
+        auditLog = new AuditLog(source.getAuditLog());
+        latestChange = source.getLatestChange();
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Team> getTeamList() {
+        return teams;
+    }
+
+    /**
+     * Returns the copy of the audit log taken with this snapshot.
+     */
+    @Override
+    public AuditLog getAuditLog() {
+        return auditLog;
+    }
+
+    /**
+     * Returns the latest change made to {@code source} when this snapshot was taken.
+     */
+    @Override
+    public DataChange getLatestChange() {
+        return latestChange;
+    }
+
+    private static Team copyOf(Team team) {
+        Team copy = new Team(team.getId(), team.getTeamName())
+                .withMembers(team.getMembers())
+                .withParentTeamId(team.getParentTeamId())
+                .withSubteams(team.getSubteams());
+        if (team.getLeaderId() != null) {
+            copy.changeLeader(team.getLeaderId());
+        }
+        return copy;
+    }
+}
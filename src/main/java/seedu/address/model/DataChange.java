@@ -0,0 +1,150 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A change made to the persons or teams of an address book, as a link in the chain of the changes made to it.
+ * An address book keeps only its latest change, which a copy of its contents, e.g. a snapshot being saved, carries
+ * along. The changes made between two copies can then be read by following the chain from the earlier one, without
+ * comparing their contents.
+ *
+ * A change is either the addition, replacement or removal of one person or team, or a reset, after which the
+ * contents can only be read in full, e.g. after the persons are reordered. A change is followed by at most one
+ * other; an address book that shares its chain with another, e.g. a copy made of it, starts a chain of its own
+ * if the other one has already continued the shared chain.
+ */
+public final class DataChange {
+
+    private enum Kind {
+        PERSON,
+        TEAM,
+        RESET
+    }
+
+    private final Kind kind;
+    private final String id;
+    /** The person after a change of a person, or null if the person was removed. */
+    private final Person person;
+    private final boolean isRemoval;
+    /** The change made after this one, or null if none was made yet. Set at most once. */
+    private volatile DataChange next;
+
+    private DataChange(Kind kind, String id, Person person, boolean isRemoval) {
+        this.kind = kind;
+        this.id = id;
+        this.person = person;
+        this.isRemoval = isRemoval;
+    }
+
+    /**
+     * Returns a reset that starts a new chain of changes.
+     */
+    static DataChange reset() {
+        return new DataChange(Kind.RESET, null, null, false);
+    }
+
+    /**
+     * Returns a reset made after this change.
+     */
+    DataChange thenReset() {
+        return link(reset());
+    }
+
+    /**
+     * Returns the addition or replacement of {@code person}, made after this change.
+     */
+    DataChange thenPerson(Person person) {
+        requireNonNull(person);
+        return link(new DataChange(Kind.PERSON, person.id(), person, false));
+    }
+
+    /**
+     * Returns the removal of the person with id {@code personId}, made after this change.
+     */
+    DataChange thenRemovedPerson(String personId) {
+        requireNonNull(personId);
+        return link(new DataChange(Kind.PERSON, personId, null, true));
+    }
+
+    /**
+     * Returns the addition or replacement of the team with id {@code teamId}, made after this change.
+     */
+    DataChange thenTeam(String teamId) {
+        requireNonNull(teamId);
+        return link(new DataChange(Kind.TEAM, teamId, null, false));
+    }
+
+    /**
+     * Returns the removal of the team with id {@code teamId}, made after this change.
+     */
+    DataChange thenRemovedTeam(String teamId) {
+        requireNonNull(teamId);
+        return link(new DataChange(Kind.TEAM, teamId, null, true));
+    }
+
+    private synchronized DataChange link(DataChange change) {
+        if (next != null) {
+            // another address book has continued this chain, so the changes after this one are not ours
+            return reset();
+        }
+        next = change;
+        return change;
+    }
+
+    /**
+     * Returns the persons and teams changed after this change, up to and including {@code later}.
+     * Returns an empty Optional if they cannot be told from the chain: if {@code later} does not follow this change,
+     * or if a reset or the addition of a person or team that was removed comes in between.
+     */
+    public Optional<Changes> changesUntil(DataChange later) {
+        requireNonNull(later);
+        Map<String, Person> persons = new LinkedHashMap<>();
+        Set<String> teamIds = new LinkedHashSet<>();
+        Set<String> removedTeamIds = new HashSet<>();
+
+        DataChange change = this;
+        while (change != later) {
+            change = change.next;
+            if (change == null || change.kind == Kind.RESET) {
+                return Optional.empty();
+            }
+            if (change.kind == Kind.PERSON) {
+                if (!change.isRemoval && persons.containsKey(change.id) && persons.get(change.id) == null) {
+                    return Optional.empty();
+                }
+                persons.put(change.id, change.person);
+            } else {
+                if (!change.isRemoval && removedTeamIds.contains(change.id)) {
+                    return Optional.empty();
+                }
+                if (change.isRemoval) {
+                    removedTeamIds.add(change.id);
+                }
+                teamIds.add(change.id);
+            }
+        }
+        return Optional.of(new Changes(persons, teamIds));
+    }
+
+    /**
+     * The persons and teams changed between two points of a chain of changes, each in the order first changed.
+     *
+     * @param persons the changed persons by id, where a person that was removed is mapped to null.
+     * @param teamIds the ids of the changed teams, including those that were removed.
+     */
+    public record Changes(Map<String, Person> persons, Set<String> teamIds) {
+
+        public boolean isEmpty() {
+            return persons.isEmpty() && teamIds.isEmpty();
+        }
+    }
+}
@@ -2,11 +2,15 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.audit.AuditLog;
+import seedu.address.model.payroll.PayrollSummary;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.team.Team;
 
@@ -55,6 +59,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a counter that is advanced whenever the address book, including its audit log, changes.
+     * Two equal readings mean that the address book has not changed in between.
+     */
+    long getAddressBookModificationCount();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -83,6 +93,11 @@ public interface Model {
 
     Person find(java.util.function.Predicate<Person> predicate);
 
+    /**
+     * Returns the person with the given {@code personId}, or null if there is no such person.
+     */
+    Person findById(String personId);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -92,6 +107,13 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to the persons whose names match {@code predicate},
+     * looking the matches up in the name search index instead of testing every name.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate);
+
     /**
      * Returns the organization hierarchy in Linux tree format.
      */
@@ -117,6 +139,33 @@ public interface Model {
      */
     boolean hasTeamWithId(String teamId);
 
+    /**
+     * Returns the team with the given {@code teamId}, or null if there is no such team.
+     */
+    Team findTeamById(String teamId);
+
+    /**
+     * Returns the payroll of the team with the given {@code teamId}, including all of its nested subteams,
+     * or null if there is no such team.
+     */
+    PayrollSummary getPayroll(String teamId);
+
+    /**
+     * Returns true if the person with the given {@code personId} is a member of the team with the given
+     * {@code teamId}.
+     */
+    boolean isTeamMember(String teamId, String personId);
+
+    /**
+     * Returns the ids of the teams the person with the given {@code personId} is a member of.
+     */
+    Set<String> getTeamIdsOf(String personId);
+
+    /**
+     * Returns the ids of the teams led by the person with the given {@code personId}.
+     */
+    Set<String> getLedTeamIds(String personId);
+
     /**
      * Adds a team to the address book.
      */
@@ -127,6 +176,20 @@ public interface Model {
      */
     void setTeam(Team target, Team editedTeam);
 
+    /**
+     * Replaces the team {@code target} with {@code editedTeam}, and each person in the keys of
+     * {@code editedPersons} with its value, as a single change of the team's membership.
+     * {@code target} and the persons must exist in the address book.
+     */
+    void setTeamMembership(Team target, Team editedTeam, Map<Person, Person> editedPersons);
+
+    /**
+     * Adds the persons in the keys of {@code editedPersons} to {@code team}, replacing each with its value, as a
+     * single change of the team's membership.
+     * {@code team} and the persons must exist in the address book, and the persons must not be members of the team.
+     */
+    void addTeamMembers(Team team, Map<Person, Person> editedPersons);
+
     /**
      * Removes the given team from the address book.
      */
@@ -137,7 +200,10 @@ public interface Model {
      */
     boolean setSubteam(String parentTeamId, String subteamId);
 
-    /* Sorts the list of persons according to the given selector and comparator.
+    /**
+     * Sorts the filtered person list according to the given comparator.
+     * Only the displayed order changes; the persons in the address book keep their order.
+     *
      * @param comparator The comparator used to compare the selected keys.
      */
     void sortPersons(Comparator<Person> comparator);
@@ -4,16 +4,26 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.audit.AuditLog;
+import seedu.address.model.payroll.PayrollSummary;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.team.Subteams;
 import seedu.address.model.team.Team;
@@ -27,7 +37,13 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    /** The persons matching {@code nameSearch}, looked up in the name search index. */
+    private final ObservableList<Person> nameSearchResults = FXCollections.observableArrayList();
+    /** Either {@code filteredPersons} or {@code nameSearchResults}. */
+    private final SwitchableList<Person> shownPersons;
     private final SortedList<Person> sortedPersons;
+    /** The current name search, or null if the persons shown are filtered by a predicate. */
+    private NameContainsKeywordsPredicate nameSearch;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -40,7 +56,9 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        sortedPersons = new SortedList<>(filteredPersons);
+        shownPersons = new SwitchableList<>(filteredPersons);
+        sortedPersons = new SortedList<>(shownPersons);
+        this.addressBook.getPersonList().addListener(this::updateNameSearchResults);
         // Set the address book reference in Subteams static class
         Subteams.setAddressBook(this.addressBook);
     }
@@ -96,6 +114,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookModificationCount() {
+        return addressBook.getModificationCount();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -114,6 +137,48 @@ public class ModelManager implements Model {
         return (addressBook.getTeamById(teamId) != null);
     }
 
+    @Override
+    public Team findTeamById(String teamId) {
+        requireNonNull(teamId);
+        return addressBook.getTeamById(teamId);
+    }
+
+    @Override
+    public PayrollSummary getPayroll(String teamId) {
+        requireNonNull(teamId);
+        return addressBook.getPayroll(teamId);
+    }
+
+    @Override
+    public void setTeamMembership(Team target, Team editedTeam, Map<Person, Person> editedPersons) {
+        requireAllNonNull(target, editedTeam, editedPersons);
+        addressBook.setTeamMembership(target, editedTeam, editedPersons);
+    }
+
+    @Override
+    public void addTeamMembers(Team team, Map<Person, Person> editedPersons) {
+        requireAllNonNull(team, editedPersons);
+        addressBook.addTeamMembers(team, editedPersons);
+    }
+
+    @Override
+    public boolean isTeamMember(String teamId, String personId) {
+        requireAllNonNull(teamId, personId);
+        return addressBook.isTeamMember(teamId, personId);
+    }
+
+    @Override
+    public Set<String> getTeamIdsOf(String personId) {
+        requireNonNull(personId);
+        return addressBook.getTeamIdsOf(personId);
+    }
+
+    @Override
+    public Set<String> getLedTeamIds(String personId) {
+        requireNonNull(personId);
+        return addressBook.getLedTeamIds(personId);
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
@@ -152,6 +217,12 @@ public class ModelManager implements Model {
         return addressBook.getPersonList().stream().filter(predicate).findFirst().orElse(null);
     }
 
+    @Override
+    public Person findById(String personId) {
+        requireNonNull(personId);
+        return addressBook.getPersonById(personId);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -166,7 +237,79 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        nameSearch = null;
         filteredPersons.setPredicate(predicate);
+        shownPersons.setSource(filteredPersons);
+        nameSearchResults.clear();
+    }
+
+    /**
+     * Shows the persons found by looking up {@code predicate} in the name search index, so that only the matching
+     * persons are visited. Until the filter is next updated, the results are kept in step with the address book.
+     */
+    @Override
+    public void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        nameSearch = predicate;
+        nameSearchResults.setAll(addressBook.findPersonsByName(predicate));
+        shownPersons.setSource(nameSearchResults);
+    }
+
+    /**
+     * Applies {@code change} to the persons in the address book to the results of the current name search, if any:
+     * a replaced person keeps its place if it still matches the search, removed persons are dropped by position and
+     * added persons are appended if they match the search.
+     */
+    private void updateNameSearchResults(ListChangeListener.Change<? extends Person> change) {
+        if (nameSearch == null) {
+            return;
+        }
+
+        Map<Person, Integer> positions = null;
+        Set<Integer> removedPositions = new TreeSet<>(Comparator.reverseOrder());
+        List<Person> added = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            List<? extends Person> removedPersons = change.getRemoved();
+            List<? extends Person> addedPersons = change.getAddedSubList();
+            if (positions == null && !removedPersons.isEmpty()) {
+                positions = positionsOf(nameSearchResults);
+            }
+            for (int i = 0; i < Math.max(removedPersons.size(), addedPersons.size()); i++) {
+                Person before = i < removedPersons.size() ? removedPersons.get(i) : null;
+                Person after = i < addedPersons.size() ? addedPersons.get(i) : null;
+                if (before == after) {
+                    // a person left as it was by a replacement of several persons at once
+                    continue;
+                }
+                Integer position = before == null ? null : positions.get(before);
+                boolean isMatch = after != null && nameSearch.test(after);
+                if (position != null && isMatch && before.id().equals(after.id())) {
+                    nameSearchResults.set(position, after);
+                    continue;
+                }
+                if (position != null) {
+                    removedPositions.add(position);
+                }
+                if (isMatch) {
+                    added.add(after);
+                }
+            }
+        }
+        for (int position : removedPositions) {
+            nameSearchResults.remove(position);
+        }
+        nameSearchResults.addAll(added);
+    }
+
+    private static Map<Person, Integer> positionsOf(List<Person> persons) {
+        Map<Person, Integer> positions = new IdentityHashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            positions.put(persons.get(i), i);
+        }
+        return positions;
     }
 
     @Override
@@ -182,11 +325,11 @@ public class ModelManager implements Model {
 
         boolean isSameAddressBook = addressBook.equals(otherModelManager.addressBook);
         boolean isSameUserPrefs = userPrefs.equals(otherModelManager.userPrefs);
-        boolean isSameFilteredPersons = filteredPersons.equals(otherModelManager.filteredPersons);
+        boolean isSameFilteredPersons = shownPersons.equals(otherModelManager.shownPersons);
 
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && shownPersons.equals(otherModelManager.shownPersons);
     }
 
     //=========== Audit Log Entry  =============================================================
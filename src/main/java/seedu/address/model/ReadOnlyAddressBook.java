@@ -18,4 +18,11 @@ public interface ReadOnlyAddressBook {
 
     AuditLog getAuditLog();
     ObservableList<Team> getTeamList();
+
+    /**
+     * Returns the latest change made to the persons and teams, or null if changes are not tracked.
+     */
+    default DataChange getLatestChange() {
+        return null;
+    }
 }
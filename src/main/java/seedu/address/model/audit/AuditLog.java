@@ -1,29 +1,305 @@
 package seedu.address.model.audit;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
 /**
  * Manages audit log entries for the address book.
+ *
+ * Once an {@link AuditLogArchive} is attached, only the newest {@link #DEFAULT_TAIL_CAPACITY} entries are held in
+ * memory, and older entries are read back from the archive when the whole history is asked for.
+ *
+ * The first {@link #query} reads the whole history once to build an {@link AuditLogIndex}, which is then kept up to
+ * date as entries are added, so that later queries only read the entries on the page they return.
  */
 public class AuditLog {
-    private final List<AuditLogEntry> entries;
+    public static final int DEFAULT_TAIL_CAPACITY = 1000;
+
+    /** The newest entries, newest first. */
+    private final Deque<AuditLogEntry> tail;
+    private final int tailCapacity;
+    /** Number of entries ever added, including those that are now only in the archive. */
+    private long totalEntryCount;
+    private AuditLogArchive archive;
+    /** Number of changes made to the entries, used to tell whether the log has changed. */
+    private long modificationCount;
+    /** The index of the entries, or null until the log is first queried. */
+    private AuditLogIndex index;
+    /** Changes to persons and teams made since the last entry was added, to be recorded in the next entry. */
+    private final ChangeRecorder recordedChanges = new ChangeRecorder();
 
     public AuditLog() {
-        this.entries = new ArrayList<>();
+        this(DEFAULT_TAIL_CAPACITY);
+    }
+
+    /**
+     * Creates an empty AuditLog that holds at most {@code tailCapacity} entries in memory once an archive is
+     * attached.
+     */
+    public AuditLog(int tailCapacity) {
+        this.tail = new ArrayDeque<>();
+        this.tailCapacity = tailCapacity;
+    }
+
+    /**
+     * Creates an AuditLog of {@code totalEntryCount} entries, of which {@code newestEntries}, oldest first, are the
+     * newest. The older entries can be read once an archive that holds them is attached.
+     */
+    public AuditLog(List<AuditLogEntry> newestEntries, long totalEntryCount) {
+        this();
+        requireNonNull(newestEntries);
+        newestEntries.forEach(tail::addFirst);
+        this.totalEntryCount = totalEntryCount;
+    }
+
+    /**
+     * Creates an AuditLog holding the same entries as {@code toBeCopied}, in the same order.
+     * The copy is not attached to {@code toBeCopied}'s archive.
+     */
+    public AuditLog(AuditLog toBeCopied) {
+        this.tail = new ArrayDeque<>(toBeCopied.tail);
+        this.tailCapacity = toBeCopied.tailCapacity;
+        this.totalEntryCount = toBeCopied.totalEntryCount;
     }
 
+    /**
+     * Adds an entry for an action, which records the changes to persons and teams recorded since the last entry was
+     * added.
+     */
     public void addEntry(String action, String details, LocalDateTime timestamp) {
-        entries.add(0, new AuditLogEntry(timestamp, action, details));
+        add(new AuditLogEntry(timestamp, action, details, recordedChanges.take()));
+        modificationCount++;
+    }
+
+    /**
+     * Records that the person {@code before} was replaced by {@code after}, to be recorded in the next entry added.
+     * {@code before} is null for a person that was added, and {@code after} for a person that was removed.
+     */
+    public void recordChange(Person before, Person after) {
+        String beforeId = before == null ? null : before.id();
+        String afterId = after == null ? null : after.id();
+        if (beforeId != null && !beforeId.equals(afterId)) {
+            recordedChanges.record(beforeId, before, null);
+        }
+        if (afterId != null) {
+            recordedChanges.record(afterId, afterId.equals(beforeId) ? before : null, after);
+        }
+    }
+
+    /**
+     * Records that the team {@code before} was replaced by {@code after}, to be recorded in the next entry added.
+     * {@code before} is null for a team that was added, and {@code after} for a team that was removed.
+     */
+    public void recordChange(Team before, Team after) {
+        String beforeId = before == null ? null : before.getId();
+        String afterId = after == null ? null : after.getId();
+        if (beforeId != null && !beforeId.equals(afterId)) {
+            recordedChanges.record(beforeId, before, null);
+        }
+        if (afterId != null) {
+            recordedChanges.record(afterId, afterId.equals(beforeId) ? before : null, after);
+        }
+    }
+
+    /**
+     * Records that {@code teams} are about to be changed in place, to be recorded in the next entry added.
+     * The fields of the teams are read now and again when the entry is added.
+     */
+    public void recordInPlaceChange(Team... teams) {
+        for (Team team : teams) {
+            recordedChanges.record(team.getId(), team, team);
+        }
+    }
+
+    /**
+     * Forgets the changes recorded since the last entry was added, so that they are not recorded in the next one.
+     */
+    public void discardRecordedChanges() {
+        recordedChanges.discard();
+    }
+
+    /**
+     * Adds all of {@code newEntries}, as if {@link #addEntry} were called on each of them in order.
+     */
+    public void addEntries(List<AuditLogEntry> newEntries) {
+        newEntries.forEach(this::add);
+        modificationCount++;
+    }
+
+    private void add(AuditLogEntry entry) {
+        tail.addFirst(entry);
+        totalEntryCount++;
+        if (index != null) {
+            index.add(entry);
+        }
+        if (archive != null) {
+            archive.append(entry);
+            trimTail();
+        }
+    }
+
+    private void trimTail() {
+        while (tail.size() > tailCapacity) {
+            tail.removeLast();
+        }
     }
 
+    /**
+     * Returns the entries held in memory, newest first. Older entries may only be in the archive.
+     *
+     * @see #getHistory()
+     */
     public List<AuditLogEntry> getEntries() {
-        return Collections.unmodifiableList(entries);
+        return Collections.unmodifiableList(new ArrayList<>(tail));
+    }
+
+    /**
+     * Returns every entry ever added, newest first, reading those that are no longer held in memory from the
+     * archive.
+     *
+     * @throws IOException if the archived entries could not be read.
+     */
+    public List<AuditLogEntry> getHistory() throws IOException {
+        long archivedOnlyCount = totalEntryCount - tail.size();
+        if (archive == null || archivedOnlyCount <= 0) {
+            return getEntries();
+        }
+        List<AuditLogEntry> history = new ArrayList<>(archive.readEntries(0, archivedOnlyCount));
+        Collections.reverse(history);
+        history.addAll(0, tail);
+        return Collections.unmodifiableList(history);
+    }
+
+    /**
+     * Returns the page of entries matching {@code query}, newest first, reading the entries on the page that are no
+     * longer held in memory from the archive.
+     *
+     * @throws IOException if the history could not be read to build the index, or an entry on the page could not be
+     *     read from the archive.
+     */
+    public AuditQueryResult query(AuditQuery query) throws IOException {
+        requireNonNull(query);
+        if (index == null) {
+            index = buildIndex();
+        }
+
+        long[] matches = index.find(query);
+        int pageCount = (matches.length + AuditQuery.PAGE_SIZE - 1) / AuditQuery.PAGE_SIZE;
+        int skipped = (query.page() - 1) * AuditQuery.PAGE_SIZE;
+        int last = matches.length - 1 - skipped;
+        List<AuditLogEntry> page = readEntriesNewestFirst(matches, Math.max(0, last - AuditQuery.PAGE_SIZE + 1),
+                last + 1);
+        return new AuditQueryResult(page, query.page(), pageCount, matches.length);
+    }
+
+    /**
+     * Returns the entries that changed the person or team with id {@code entityId}, or that mention it in their
+     * details, newest first. Only those entries are read, so that the time taken grows with the history of the
+     * entity rather than with the whole log, once the log has been indexed by the first query.
+     *
+     * @throws IOException if the history could not be read to build the index, or an entry could not be read from
+     *     the archive.
+     */
+    public List<AuditLogEntry> getEntityHistory(String entityId) throws IOException {
+        requireNonNull(entityId);
+        if (index == null) {
+            index = buildIndex();
+        }
+
+        long[] matches = index.findEntity(entityId);
+        return readEntriesNewestFirst(matches, 0, matches.length);
+    }
+
+    /**
+     * Returns the entries numbered {@code entryNumbers[from]} to {@code entryNumbers[to - 1]}, newest first, where
+     * {@code entryNumbers} is in ascending order.
+     */
+    private List<AuditLogEntry> readEntriesNewestFirst(long[] entryNumbers, int from, int to) throws IOException {
+        List<AuditLogEntry> entries = new ArrayList<>();
+        if (from >= to) {
+            return entries;
+        }
+        List<AuditLogEntry> newestEntries = new ArrayList<>(tail);
+        long oldestInMemory = totalEntryCount - tail.size();
+        for (int i = to - 1; i >= from; i--) {
+            long entryNumber = entryNumbers[i];
+            entries.add(entryNumber >= oldestInMemory
+                    ? newestEntries.get((int) (totalEntryCount - 1 - entryNumber))
+                    : readArchivedEntry(entryNumber));
+        }
+        return entries;
+    }
+
+    private AuditLogIndex buildIndex() throws IOException {
+        List<AuditLogEntry> history = getHistory();
+        AuditLogIndex built = new AuditLogIndex(totalEntryCount - history.size());
+        for (int i = history.size() - 1; i >= 0; i--) {
+            built.add(history.get(i));
+        }
+        return built;
+    }
+
+    private AuditLogEntry readArchivedEntry(long entryNumber) throws IOException {
+        List<AuditLogEntry> entries = archive.readEntries(entryNumber, entryNumber + 1);
+        if (entries.isEmpty()) {
+            throw new IOException("Audit log entry " + entryNumber + " is missing from the archive");
+        }
+        return entries.get(0);
+    }
+
+    /**
+     * Returns the number of entries ever added to this log, including those that are only in the archive.
+     */
+    public long getTotalEntryCount() {
+        return totalEntryCount;
+    }
+
+    /**
+     * Attaches {@code archive}, which must already hold every entry of this log, and hands it every entry added
+     * from now on. Only the newest entries are held in memory from then on.
+     */
+    public void attachArchive(AuditLogArchive archive) {
+        requireNonNull(archive);
+        this.archive = archive;
+        trimTail();
+    }
+
+    /**
+     * Replaces the entries of this log with those of {@code newAuditLog}, without handing them to the archive.
+     */
+    public void resetData(AuditLog newAuditLog) {
+        requireNonNull(newAuditLog);
+        tail.clear();
+        tail.addAll(newAuditLog.tail);
+        totalEntryCount = newAuditLog.totalEntryCount;
+        index = null;
+        if (archive != null) {
+            trimTail();
+        }
+        modificationCount++;
     }
 
     public void clear() {
-        entries.clear();
+        tail.clear();
+        totalEntryCount = 0;
+        index = null;
+        modificationCount++;
+    }
+
+    /**
+     * Returns a counter that is advanced whenever the entries change.
+     */
+    public long getModificationCount() {
+        return modificationCount;
     }
 }
@@ -0,0 +1,24 @@
+package seedu.address.model.audit;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Keeps every entry ever added to an {@link AuditLog}, so that the log only needs to hold its newest entries in
+ * memory. Entries are numbered from 0, the oldest entry, in the order they were added.
+ */
+public interface AuditLogArchive {
+
+    /**
+     * Records {@code entry}, the newest entry of the log, to be kept in the archive.
+     * This is called for every entry added to the log, so it should not block on writing the entry out.
+     */
+    void append(AuditLogEntry entry);
+
+    /**
+     * Returns the entries numbered from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive, oldest first.
+     *
+     * @throws IOException if the entries could not be read.
+     */
+    List<AuditLogEntry> readEntries(long fromIndex, long toIndex) throws IOException;
+}
@@ -2,10 +2,12 @@ package seedu.address.model.audit;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 /**
  * Represents an audit log entry in the address book.
- * Each entry contains a timestamp, an action performed, and details about that action.
+ * Each entry contains a timestamp, an action performed, and details about that action, along with the changes the
+ * action made to the fields of persons and teams.
  * Audit log entries are immutable once created.
  */
 public class AuditLogEntry {
@@ -14,18 +16,34 @@ public class AuditLogEntry {
     private final LocalDateTime timestamp;
     private final String action;
     private final String details;
+    private final List<FieldChange> changes;
+    private final List<String> entityIds;
 
     /**
-     * Constructs an AuditLogEntry with the specified timestamp, action, and details.
+     * Constructs an AuditLogEntry with the specified timestamp, action, and details, that records no field changes.
      *
      * @param timestamp The date and time when the action occurred.
      * @param action The type of action performed (e.g., "ADD", "DELETE", "EDIT").
      * @param details Additional information about the action.
      */
     public AuditLogEntry(LocalDateTime timestamp, String action, String details) {
+        this(timestamp, action, details, List.of());
+    }
+
+    /**
+     * Constructs an AuditLogEntry with the specified timestamp, action, details and field changes.
+     *
+     * @param timestamp The date and time when the action occurred.
+     * @param action The type of action performed (e.g., "ADD", "DELETE", "EDIT").
+     * @param details Additional information about the action.
+     * @param changes The changes the action made to the fields of persons and teams.
+     */
+    public AuditLogEntry(LocalDateTime timestamp, String action, String details, List<FieldChange> changes) {
         this.timestamp = timestamp;
         this.action = action;
         this.details = details;
+        this.changes = List.copyOf(changes);
+        this.entityIds = this.changes.stream().map(FieldChange::entityId).distinct().toList();
     }
 
     /**
@@ -55,6 +73,24 @@ public class AuditLogEntry {
         return details;
     }
 
+    /**
+     * Returns the changes the action made to the fields of persons and teams.
+     *
+     * @return The field changes of this audit log entry, in the order the entities were first changed.
+     */
+    public List<FieldChange> getChanges() {
+        return changes;
+    }
+
+    /**
+     * Returns the ids of the persons and teams whose fields the action changed.
+     *
+     * @return The ids of the entities changed by this audit log entry, without repeats.
+     */
+    public List<String> getEntityIds() {
+        return entityIds;
+    }
+
     /**
      * Returns a formatted string representation of this audit log entry.
      * The format is: "[yyyy-MM-dd HH:mm:ss] action: details"
@@ -0,0 +1,255 @@
+package seedu.address.model.audit;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Indexes audit log entries by time, action and the words of their details, so that an {@link AuditQuery} can be
+ * answered without reading the entries themselves.
+ *
+ * Entries are indexed in the order they were added, by position. Their times are kept in an array, which is sorted
+ * as long as the clock never went back, so that a time range is found by binary search. Each action and each word
+ * maps to the sorted positions of the entries it occurs in, and the entries matching several terms are found by
+ * walking the shortest of their lists and looking the positions up in the others. The ids of the persons and teams
+ * an entry changed map to its position in the same way.
+ */
+class AuditLogIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{Alnum}]+");
+
+    /** The entry number of the entry at position 0. */
+    private final long firstEntryNumber;
+    private long[] epochSeconds = new long[16];
+    private int size;
+    private boolean isTimeOrdered = true;
+    private final Map<String, Postings> actions = new HashMap<>();
+    private final Map<String, Postings> tokens = new HashMap<>();
+    private final Map<String, Postings> entities = new HashMap<>();
+
+    /**
+     * Creates an empty index whose first entry will be entry number {@code firstEntryNumber} of the log.
+     */
+    AuditLogIndex(long firstEntryNumber) {
+        this.firstEntryNumber = firstEntryNumber;
+    }
+
+    /**
+     * Returns the lower-case words of {@code text}, split at anything that is not a letter or digit.
+     */
+    static List<String> tokensOf(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Indexes {@code entry} as the entry after the last one indexed.
+     */
+    void add(AuditLogEntry entry) {
+        if (size == epochSeconds.length) {
+            epochSeconds = Arrays.copyOf(epochSeconds, size * 2);
+        }
+        long time = toEpochSecond(entry.getTimestamp());
+        if (size > 0 && time < epochSeconds[size - 1]) {
+            isTimeOrdered = false;
+        }
+        epochSeconds[size] = time;
+
+        actions.computeIfAbsent(actionKey(entry.getAction()), key -> new Postings()).add(size);
+        for (String token : tokensOf(entry.getDetails())) {
+            tokens.computeIfAbsent(token, key -> new Postings()).add(size);
+        }
+        for (String entityId : entry.getEntityIds()) {
+            entities.computeIfAbsent(entityKey(entityId), key -> new Postings()).add(size);
+        }
+        size++;
+    }
+
+    /**
+     * Returns the numbers of the entries that changed the entity {@code entityId} or mention it in their details,
+     * oldest first.
+     */
+    long[] findEntity(String entityId) {
+        Postings postings = entityPostings(entityId);
+        long[] matches = new long[postings.size];
+        for (int i = 0; i < postings.size; i++) {
+            matches[i] = firstEntryNumber + postings.positions[i];
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the positions of the entries that changed the entity {@code entityId} or mention it in their details.
+     */
+    private Postings entityPostings(String entityId) {
+        Postings changed = entities.getOrDefault(entityKey(entityId), new Postings());
+        Postings mentioned = tokens.getOrDefault(entityId.toLowerCase(Locale.ROOT), new Postings());
+
+        Postings merged = new Postings();
+        int i = 0;
+        int j = 0;
+        while (i < changed.size || j < mentioned.size) {
+            if (j == mentioned.size || (i < changed.size && changed.positions[i] <= mentioned.positions[j])) {
+                merged.add(changed.positions[i++]);
+            } else {
+                merged.add(mentioned.positions[j++]);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Returns the numbers of the entries matching {@code query}, ignoring its page, oldest first.
+     */
+    long[] find(AuditQuery query) {
+        int from = 0;
+        int to = size;
+        if (isTimeOrdered) {
+            from = query.from() == null ? 0 : firstAtOrAfter(toEpochSecond(query.from()));
+            to = query.to() == null ? size : firstAtOrAfter(toEpochSecond(query.to()) + 1);
+        }
+
+        List<Postings> required = new ArrayList<>();
+        if (query.hasTermFilter() && !collectPostings(query, required)) {
+            return new long[0];
+        }
+
+        long[] matches = new long[Math.max(0, to - from)];
+        int matchCount = 0;
+        if (required.isEmpty()) {
+            for (int position = from; position < to; position++) {
+                if (isInTimeRange(position, query)) {
+                    matches[matchCount++] = firstEntryNumber + position;
+                }
+            }
+            return Arrays.copyOf(matches, matchCount);
+        }
+
+        required.sort(Comparator.comparingInt(postings -> postings.size));
+        Postings shortest = required.get(0);
+        for (int i = shortest.indexOfFirstAtOrAfter(from); i < shortest.size; i++) {
+            int position = shortest.positions[i];
+            if (position >= to) {
+                break;
+            }
+            if (isInTimeRange(position, query) && containsAll(required, position)) {
+                matches[matchCount++] = firstEntryNumber + position;
+            }
+        }
+        return Arrays.copyOf(matches, matchCount);
+    }
+
+    /**
+     * Adds the postings of every term of {@code query} to {@code required}.
+     * Returns false if some term occurs in no entry, so that nothing can match.
+     */
+    private boolean collectPostings(AuditQuery query, List<Postings> required) {
+        List<Postings> found = new ArrayList<>();
+        if (query.action() != null) {
+            found.add(actions.get(actionKey(query.action())));
+        }
+        if (query.entityId() != null) {
+            Postings entity = entityPostings(query.entityId());
+            found.add(entity.size == 0 ? null : entity);
+        }
+        List<String> words = new ArrayList<>();
+        for (String keyword : query.keywords()) {
+            words.addAll(tokensOf(keyword));
+        }
+        for (String word : words) {
+            found.add(tokens.get(word));
+        }
+        if (found.contains(null)) {
+            return false;
+        }
+        required.addAll(found);
+        return true;
+    }
+
+    private static boolean containsAll(List<Postings> required, int position) {
+        for (int i = 1; i < required.size(); i++) {
+            if (!required.get(i).contains(position)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isInTimeRange(int position, AuditQuery query) {
+        if (isTimeOrdered) {
+            return true;
+        }
+        long time = epochSeconds[position];
+        return (query.from() == null || time >= toEpochSecond(query.from()))
+                && (query.to() == null || time <= toEpochSecond(query.to()));
+    }
+
+    /**
+     * Returns the first position whose time is at or after {@code time}, or the number of entries if there is none.
+     * Only valid while the times are sorted.
+     */
+    private int firstAtOrAfter(long time) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (epochSeconds[middle] < time) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static long toEpochSecond(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static String entityKey(String entityId) {
+        return entityId.toUpperCase(Locale.ROOT);
+    }
+
+    private static String actionKey(String action) {
+        return action.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * The positions of the entries a term occurs in, in ascending order without repeats.
+     */
+    private static class Postings {
+        private int[] positions = new int[4];
+        private int size;
+
+        void add(int position) {
+            if (size > 0 && positions[size - 1] == position) {
+                return;
+            }
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
+
+        boolean contains(int position) {
+            return Arrays.binarySearch(positions, 0, size, position) >= 0;
+        }
+
+        int indexOfFirstAtOrAfter(int position) {
+            int index = Arrays.binarySearch(positions, 0, size, position);
+            return index >= 0 ? index : -index - 1;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.model.audit;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Selects a page of the audit log entries that match every given filter, newest first.
+ * A filter that is null, or an empty list of keywords, matches every entry.
+ *
+ * @param action the action of the entries, ignoring case.
+ * @param entityId the id, such as {@code E0001} or {@code T0001}, of a person or team that the entries changed or
+ *     mention in their details.
+ * @param keywords words that the details of the entries all contain, ignoring case.
+ * @param from the earliest time of the entries, inclusive.
+ * @param to the latest time of the entries, inclusive.
+ * @param page the page of matching entries to select, starting from 1.
+ */
+public record AuditQuery(String action, String entityId, List<String> keywords, LocalDateTime from,
+        LocalDateTime to, int page) {
+
+    public static final int PAGE_SIZE = 50;
+
+    /** Selects the newest page of all entries. */
+    public static final AuditQuery ALL = new AuditQuery(null, null, List.of(), null, null, 1);
+
+    /**
+     * Checks that the page is positive, and copies the keywords.
+     */
+    public AuditQuery {
+        requireNonNull(keywords);
+        checkArgument(page > 0, "Page must be positive");
+        keywords = List.copyOf(keywords);
+    }
+
+    /**
+     * Returns true if this query filters the entries by anything other than time.
+     */
+    boolean hasTermFilter() {
+        return action != null || entityId != null || !keywords.isEmpty();
+    }
+}
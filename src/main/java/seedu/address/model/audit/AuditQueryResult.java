@@ -0,0 +1,18 @@
+package seedu.address.model.audit;
+
+import java.util.List;
+
+/**
+ * A page of the audit log entries that match an {@link AuditQuery}.
+ *
+ * @param entries the entries on the page, newest first.
+ * @param page the page, starting from 1.
+ * @param pageCount the number of pages the matching entries fill, which is 0 if no entry matches.
+ * @param matchCount the number of matching entries on all pages.
+ */
+public record AuditQueryResult(List<AuditLogEntry> entries, int page, int pageCount, int matchCount) {
+
+    public AuditQueryResult {
+        entries = List.copyOf(entries);
+    }
+}
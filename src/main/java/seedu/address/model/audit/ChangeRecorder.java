@@ -0,0 +1,216 @@
+package seedu.address.model.audit;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
+
+/**
+ * Collects the changes made to persons and teams until they are taken as the changes of one audit log entry.
+ *
+ * Only the state of each entity before its first change and after its last change is kept, so an entity changed
+ * several times by one command yields one change per field that differs in the end. Persons are immutable and are
+ * kept as they are. Teams can be changed in place, so the fields of a team are captured before its first change,
+ * and the team itself is read again when the changes are taken.
+ *
+ * Fields are compared by value, and only the fields that differ are turned into text. The members of a team are
+ * recorded as the ids of the members who left and of those who joined.
+ */
+class ChangeRecorder {
+
+    private final Map<String, PersonChange> personChanges = new HashMap<>();
+    private final Map<String, TeamChange> teamChanges = new HashMap<>();
+    /** The changed entities, in the order first changed. */
+    private final List<RecordedChange> changes = new ArrayList<>();
+
+    /**
+     * Records that the person {@code personId} changed from {@code before} to {@code after}, where null stands for
+     * the person not existing.
+     */
+    void record(String personId, Person before, Person after) {
+        PersonChange change = personChanges.get(personId);
+        if (change == null) {
+            change = new PersonChange(personId, before);
+            personChanges.put(personId, change);
+            changes.add(change);
+        }
+        change.after = after;
+    }
+
+    /**
+     * Records that the team {@code teamId} changed from {@code before} to {@code after}, where null stands for the
+     * team not existing. The fields of {@code before} are read now, and those of {@code after} when the changes are
+     * taken, so a team that is about to be changed in place can be passed as both.
+     */
+    void record(String teamId, Team before, Team after) {
+        TeamChange change = teamChanges.get(teamId);
+        if (change == null) {
+            change = new TeamChange(teamId, before == null ? null : TeamFields.of(before));
+            teamChanges.put(teamId, change);
+            changes.add(change);
+        }
+        change.after = after;
+    }
+
+    /**
+     * Returns the field changes recorded since they were last taken, and forgets them.
+     */
+    List<FieldChange> take() {
+        List<FieldChange> fieldChanges = new ArrayList<>();
+        for (RecordedChange change : changes) {
+            change.addFieldChanges(fieldChanges);
+        }
+        discard();
+        return fieldChanges;
+    }
+
+    void discard() {
+        personChanges.clear();
+        teamChanges.clear();
+        changes.clear();
+    }
+
+    /**
+     * Adds the change of {@code field} to {@code fieldChanges} if its value differs between {@code before} and
+     * {@code after}, where null stands for the entity not existing. The values are turned into text only once they
+     * are known to differ, and a value whose text is empty is treated as an empty field.
+     */
+    private static <T, V> void addIfChanged(List<FieldChange> fieldChanges, String entityId, String field,
+            T before, T after, Function<T, V> valueOf, Function<V, String> textOf) {
+        V beforeValue = before == null ? null : valueOf.apply(before);
+        V afterValue = after == null ? null : valueOf.apply(after);
+        if (Objects.equals(beforeValue, afterValue)) {
+            return;
+        }
+        String beforeText = textOrNull(beforeValue, textOf);
+        String afterText = textOrNull(afterValue, textOf);
+        if (!Objects.equals(beforeText, afterText)) {
+            fieldChanges.add(new FieldChange(entityId, field, beforeText, afterText));
+        }
+    }
+
+    private static <V> String textOrNull(V value, Function<V, String> textOf) {
+        String text = value == null ? null : textOf.apply(value);
+        return text == null || text.isEmpty() ? null : text;
+    }
+
+    private static String joinSorted(List<String> values) {
+        return values.stream().sorted().collect(Collectors.joining(", "));
+    }
+
+    /**
+     * The states of one entity before its first recorded change and after its last.
+     */
+    private abstract static class RecordedChange {
+        protected final String entityId;
+
+        RecordedChange(String entityId) {
+            this.entityId = entityId;
+        }
+
+        /**
+         * Adds the changes of the fields that differ between the two states to {@code fieldChanges}.
+         */
+        abstract void addFieldChanges(List<FieldChange> fieldChanges);
+    }
+
+    private static class PersonChange extends RecordedChange {
+        private final Person before;
+        private Person after;
+
+        PersonChange(String personId, Person before) {
+            super(personId);
+            this.before = before;
+        }
+
+        @Override
+        void addFieldChanges(List<FieldChange> fieldChanges) {
+            add(fieldChanges, "name", Person::name, name -> name.fullName());
+            add(fieldChanges, "phone", Person::phone, phone -> phone.value());
+            add(fieldChanges, "email", Person::email, email -> email.value());
+            add(fieldChanges, "address", Person::address, address -> address.value());
+            add(fieldChanges, "github", Person::gitHubUsername, gitHubUsername -> gitHubUsername.value());
+            add(fieldChanges, "salary", Person::salary, salary -> salary.toPlainString());
+            add(fieldChanges, "teams", Person::teamIds, teamIds -> joinSorted(List.copyOf(teamIds)));
+            add(fieldChanges, "tags", Person::tags,
+                    tags -> joinSorted(tags.stream().map(tag -> tag.tagName).toList()));
+        }
+
+        private <V> void add(List<FieldChange> fieldChanges, String field, Function<Person, V> valueOf,
+                Function<V, String> textOf) {
+            addIfChanged(fieldChanges, entityId, field, before, after, valueOf, textOf);
+        }
+    }
+
+    private static class TeamChange extends RecordedChange {
+        private final TeamFields before;
+        private Team after;
+
+        TeamChange(String teamId, TeamFields before) {
+            super(teamId);
+            this.before = before;
+        }
+
+        @Override
+        void addFieldChanges(List<FieldChange> fieldChanges) {
+            TeamFields afterFields = after == null ? null : TeamFields.of(after);
+            addIfChanged(fieldChanges, entityId, "name", before, afterFields, TeamFields::name,
+                    name -> name.teamName());
+            addIfChanged(fieldChanges, entityId, "leader", before, afterFields, TeamFields::leaderId,
+                    Function.identity());
+            addMemberChange(fieldChanges, afterFields);
+            addIfChanged(fieldChanges, entityId, "subteams", before, afterFields, TeamFields::subteams,
+                    subteams -> String.join(", ", subteams));
+            addIfChanged(fieldChanges, entityId, "parent", before, afterFields, TeamFields::parentTeamId,
+                    Function.identity());
+        }
+
+        /**
+         * Adds the change of the members to {@code fieldChanges} as the ids of the members who left and of those who
+         * joined, rather than the whole member lists, if anyone left or joined.
+         */
+        private void addMemberChange(List<FieldChange> fieldChanges, TeamFields afterFields) {
+            List<String> membersBefore = before == null ? List.of() : before.members();
+            List<String> membersAfter = afterFields == null ? List.of() : afterFields.members();
+            if (membersBefore.equals(membersAfter)) {
+                return;
+            }
+            String left = joinNotIn(membersBefore, membersAfter);
+            String joined = joinNotIn(membersAfter, membersBefore);
+            if (left != null || joined != null) {
+                fieldChanges.add(new FieldChange(entityId, FieldChange.MEMBERS_FIELD, left, joined));
+            }
+        }
+
+        /**
+         * Returns the ids in {@code ids} that are not in {@code others}, in order, or null if there are none.
+         */
+        private static String joinNotIn(List<String> ids, List<String> others) {
+            Set<String> excluded = new HashSet<>(others);
+            String joined = ids.stream().filter(id -> !excluded.contains(id)).collect(Collectors.joining(", "));
+            return joined.isEmpty() ? null : joined;
+        }
+    }
+
+    /**
+     * The fields of a team at one point in time. The member list of a team is replaced rather than changed when
+     * its members change, so it is kept as it is.
+     */
+    private record TeamFields(TeamName name, String leaderId, List<String> members, List<String> subteams,
+            String parentTeamId) {
+
+        static TeamFields of(Team team) {
+            return new TeamFields(team.getTeamName(), team.getLeaderId(), team.getMembers(),
+                    List.copyOf(team.getSubteams().getUnmodifiableList()), team.getParentTeamId());
+        }
+    }
+}
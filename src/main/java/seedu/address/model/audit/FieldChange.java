@@ -0,0 +1,23 @@
+package seedu.address.model.audit;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+/**
+ * A change to one field of a person or team, as recorded in an {@link AuditLogEntry}.
+ * A change to the {@link #MEMBERS_FIELD} of a team holds the ids of the members who left as {@code before}, and of
+ * those who joined as {@code after}.
+ *
+ * @param entityId the id of the person or team.
+ * @param field the name of the field.
+ * @param before the value before the change, or null if the field was empty or the entity did not exist.
+ * @param after the value after the change, or null if the field became empty or the entity was removed.
+ */
+public record FieldChange(String entityId, String field, String before, String after) {
+
+    /** The field of a team whose change holds the ids of the members who left and joined. */
+    public static final String MEMBERS_FIELD = "members";
+
+    public FieldChange {
+        requireAllNonNull(entityId, field);
+    }
+}
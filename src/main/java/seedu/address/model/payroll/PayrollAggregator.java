@@ -0,0 +1,276 @@
+package seedu.address.model.payroll;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * Keeps the payroll of every team, including the members of all its nested subteams, up to date as persons and
+ * teams change, so that a team's figures can be read without walking the hierarchy.
+ *
+ * For each team, the aggregator records how many teams in its subtree list each person as a member. A person
+ * contributes to the team's figures while that count is positive and the person exists, so someone who is in both
+ * a team and one of its subteams is only counted once. Membership and nesting are read from {@code Team} members
+ * and parent team ids; a member id without a matching person is not counted.
+ */
+public class PayrollAggregator {
+
+    /** Salary in cents of every known person, by person id. */
+    private final Map<String, Long> salaries = new HashMap<>();
+    /** Direct members of every known team as last recorded, by team id. */
+    private final Map<String, Set<String>> membersByTeam = new HashMap<>();
+    /** Parent of every known team that is nested under another known team, by team id. */
+    private final Map<String, String> parents = new HashMap<>();
+    private final Map<String, Rollup> rollups = new HashMap<>();
+    /** Ids of the teams whose roll-up includes each person, by person id. */
+    private final Map<String, Set<String>> teamsByPerson = new HashMap<>();
+
+    /**
+     * Discards all recorded data and recomputes the roll-ups from {@code persons} and {@code teams}.
+     */
+    public void rebuild(List<Person> persons, List<Team> teams) {
+        requireNonNull(persons);
+        requireNonNull(teams);
+        salaries.clear();
+        membersByTeam.clear();
+        parents.clear();
+        rollups.clear();
+        teamsByPerson.clear();
+
+        for (Person person : persons) {
+            updatePerson(person);
+        }
+        for (Team team : teams) {
+            rollups.put(team.getId(), new Rollup());
+            membersByTeam.put(team.getId(), new HashSet<>());
+        }
+        for (Team team : teams) {
+            updateTeam(team);
+        }
+    }
+
+    /**
+     * Records the current salary of {@code person}, adding the person if they were not known before.
+     */
+    public void updatePerson(Person person) {
+        requireNonNull(person);
+        long cents = person.salary().inCents();
+        Long previous = salaries.put(person.id(), cents);
+        if (previous != null && previous == cents) {
+            return;
+        }
+        for (String teamId : teamsByPerson.getOrDefault(person.id(), Set.of())) {
+            Rollup rollup = rollups.get(teamId);
+            if (previous != null) {
+                rollup.exclude(previous);
+            }
+            rollup.include(cents);
+        }
+    }
+
+    /**
+     * Forgets the person with the given id. Team memberships referring to the id are kept but no longer counted.
+     */
+    public void removePerson(String personId) {
+        requireNonNull(personId);
+        Long previous = salaries.remove(personId);
+        if (previous == null) {
+            return;
+        }
+        for (String teamId : teamsByPerson.getOrDefault(personId, Set.of())) {
+            rollups.get(teamId).exclude(previous);
+        }
+    }
+
+    /**
+     * Records the current members and parent of {@code team}, adding the team if it was not known before.
+     * Only the differences from what was last recorded for the team are applied.
+     */
+    public void updateTeam(Team team) {
+        requireNonNull(team);
+        String teamId = team.getId();
+        rollups.computeIfAbsent(teamId, id -> new Rollup());
+        Set<String> recordedMembers = membersByTeam.computeIfAbsent(teamId, id -> new HashSet<>());
+        Set<String> currentMembers = new HashSet<>(team.getMembers());
+
+        for (String personId : new ArrayList<>(recordedMembers)) {
+            if (!currentMembers.contains(personId)) {
+                recordedMembers.remove(personId);
+                changeMembership(teamId, personId, -1);
+            }
+        }
+        for (String personId : currentMembers) {
+            if (recordedMembers.add(personId)) {
+                changeMembership(teamId, personId, 1);
+            }
+        }
+
+        String parentId = team.getParentTeamId();
+        if (parentId != null && (!rollups.containsKey(parentId) || isInSubtree(parentId, teamId))) {
+            parentId = null;
+        }
+        if (!Objects.equals(parents.get(teamId), parentId)) {
+            detach(teamId);
+            if (parentId != null) {
+                attach(teamId, parentId);
+            }
+        }
+    }
+
+    /**
+     * Records that the persons with ids {@code personIds} joined the team with id {@code teamId}, without reading
+     * the team's other members. The team must be known.
+     */
+    public void addMembers(String teamId, Collection<String> personIds) {
+        requireNonNull(teamId);
+        requireNonNull(personIds);
+        Set<String> recordedMembers = membersByTeam.get(teamId);
+        for (String personId : personIds) {
+            if (recordedMembers.add(personId)) {
+                changeMembership(teamId, personId, 1);
+            }
+        }
+    }
+
+    /**
+     * Forgets the team with the given id. Its subteams become top-level teams.
+     */
+    public void removeTeam(String teamId) {
+        requireNonNull(teamId);
+        if (!rollups.containsKey(teamId)) {
+            return;
+        }
+        List<String> children = new ArrayList<>();
+        parents.forEach((childId, parentId) -> {
+            if (parentId.equals(teamId)) {
+                children.add(childId);
+            }
+        });
+        children.forEach(this::detach);
+        for (String personId : membersByTeam.remove(teamId)) {
+            changeMembership(teamId, personId, -1);
+        }
+        detach(teamId);
+        rollups.remove(teamId);
+    }
+
+    /**
+     * Returns the payroll of the team with the given id, or null if the team is not known.
+     */
+    public PayrollSummary getSummary(String teamId) {
+        requireNonNull(teamId);
+        Rollup rollup = rollups.get(teamId);
+        if (rollup == null) {
+            return null;
+        }
+        long maxCents = rollup.salaryCounts.isEmpty() ? 0 : rollup.salaryCounts.lastKey();
+        return new PayrollSummary(teamId, rollup.headcount, rollup.totalCents, maxCents);
+    }
+
+    /**
+     * Applies a change of {@code delta} in the membership of {@code personId} to {@code teamId} and its ancestors.
+     */
+    private void changeMembership(String teamId, String personId, int delta) {
+        for (String id = teamId; id != null; id = parents.get(id)) {
+            adjust(id, personId, delta);
+        }
+    }
+
+    private void attach(String childId, String parentId) {
+        Map<String, Integer> childCounts = rollups.get(childId).memberCounts;
+        for (String id = parentId; id != null; id = parents.get(id)) {
+            for (Map.Entry<String, Integer> entry : childCounts.entrySet()) {
+                adjust(id, entry.getKey(), entry.getValue());
+            }
+        }
+        parents.put(childId, parentId);
+    }
+
+    private void detach(String childId) {
+        String parentId = parents.remove(childId);
+        if (parentId == null) {
+            return;
+        }
+        Map<String, Integer> childCounts = rollups.get(childId).memberCounts;
+        for (String id = parentId; id != null; id = parents.get(id)) {
+            for (Map.Entry<String, Integer> entry : childCounts.entrySet()) {
+                adjust(id, entry.getKey(), -entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code teamId} is {@code rootId} or nested under it.
+     */
+    private boolean isInSubtree(String teamId, String rootId) {
+        for (String id = teamId; id != null; id = parents.get(id)) {
+            if (id.equals(rootId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void adjust(String teamId, String personId, int delta) {
+        Rollup rollup = rollups.get(teamId);
+        int previous = rollup.memberCounts.getOrDefault(personId, 0);
+        int current = previous + delta;
+        if (current == 0) {
+            rollup.memberCounts.remove(personId);
+        } else {
+            rollup.memberCounts.put(personId, current);
+        }
+
+        Long cents = salaries.get(personId);
+        if (previous == 0 && current > 0) {
+            teamsByPerson.computeIfAbsent(personId, id -> new HashSet<>()).add(teamId);
+            if (cents != null) {
+                rollup.include(cents);
+            }
+        } else if (previous > 0 && current == 0) {
+            Set<String> teamIds = teamsByPerson.get(personId);
+            teamIds.remove(teamId);
+            if (teamIds.isEmpty()) {
+                teamsByPerson.remove(personId);
+            }
+            if (cents != null) {
+                rollup.exclude(cents);
+            }
+        }
+    }
+
+    /**
+     * Payroll figures of one team and the membership counts they are derived from.
+     */
+    private static class Rollup {
+        /** Number of teams in this team's subtree that list each person, by person id. */
+        private final Map<String, Integer> memberCounts = new HashMap<>();
+        /** Number of counted persons earning each salary, by salary in cents. */
+        private final TreeMap<Long, Integer> salaryCounts = new TreeMap<>();
+        private long totalCents;
+        private int headcount;
+
+        private void include(long cents) {
+            totalCents += cents;
+            headcount++;
+            salaryCounts.merge(cents, 1, Integer::sum);
+        }
+
+        private void exclude(long cents) {
+            totalCents -= cents;
+            headcount--;
+            salaryCounts.computeIfPresent(cents, (salary, count) -> count == 1 ? null : count - 1);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.address.model.payroll;
+
+import seedu.address.model.person.Salary;
+
+/**
+ * Monthly payroll figures for a team, covering the distinct members of the team and of all its nested subteams.
+ *
+ * @param teamId The id of the team.
+ * @param headcount The number of distinct persons counted.
+ * @param totalCents The sum of their salaries, in cents.
+ * @param maxCents The highest of their salaries in cents, or 0 if no one is counted.
+ */
+public record PayrollSummary(String teamId, int headcount, long totalCents, long maxCents) {
+
+    /**
+     * Returns the total salary formatted as a salary is shown. The total may be more than the highest salary, so it
+     * is not returned as a {@code Salary}.
+     */
+    public String getTotal() {
+        return Salary.format(totalCents);
+    }
+
+    /**
+     * Returns the average salary, rounded half up to the nearest cent, or zero if no one is counted.
+     */
+    public Salary getAverage() {
+        if (headcount == 0) {
+            return Salary.fromCents(0);
+        }
+        return Salary.fromCents((totalCents + headcount / 2) / headcount);
+    }
+
+    public Salary getMax() {
+        return Salary.fromCents(maxCents);
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's GitHub username.
  * Guarantees: immutable; is valid as declared in {@link #isValidGitHubUsername(String)}
@@ -30,6 +32,7 @@ public record GitHubUsername(String value) {
      * Returns true if a given string is a valid GitHub username.
      */
     public static boolean isValidGitHubUsername(String test) {
-        return test.matches(VALIDATION_REGEX) || test.isEmpty();
+        return test.isEmpty() || (test.startsWith("@")
+                && ValidationUtil.isSeparatedAlphanumeric(test.substring(1), '-', 3, 39));
     }
 }
@@ -0,0 +1,119 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ranks persons by how closely their names match a list of keywords.
+ * Each person is scored against the keywords once, into a {@code Hit}, and the hits are then sorted, so that no
+ * string work is repeated while comparing.
+ *
+ * For a single keyword, a lower score is a closer match:
+ * 0 = the full name equals the keyword ignoring case,
+ * 1 = a word of the name equals the keyword ignoring case,
+ * 2 = the keyword is a substring of the name ignoring case,
+ * 3 = no match.
+ */
+public class NameMatchRanker {
+
+    private static final int NO_MATCH = 3;
+
+    /** More matched keywords first, then lower total score, then earliest matching keyword, then by name. */
+    private static final Comparator<Hit> HIT_ORDER = Comparator
+            .comparingInt((Hit hit) -> -hit.matchCount())
+            .thenComparingInt(Hit::scoreSum)
+            .thenComparingInt(Hit::firstKeywordIndex)
+            .thenComparing(hit -> hit.person().name().fullName(), String::compareToIgnoreCase);
+
+    private final List<String> keywords;
+    private final List<String> trimmedKeywords = new ArrayList<>();
+    private final List<String> lowerCaseKeywords = new ArrayList<>();
+
+    /**
+     * Creates a ranker for the given non-empty, single-word {@code keywords}.
+     */
+    public NameMatchRanker(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+        for (String keyword : keywords) {
+            trimmedKeywords.add(keyword.trim());
+            lowerCaseKeywords.add(keyword.toLowerCase());
+        }
+    }
+
+    /**
+     * A person together with its scores against the keywords.
+     */
+    public record Hit(Person person, int matchCount, int scoreSum, int firstKeywordIndex) {}
+
+    /**
+     * Scores {@code person} against every keyword.
+     */
+    public Hit score(Person person) {
+        String fullName = person.name().fullName();
+        String lowerCaseName = fullName.toLowerCase();
+        String[] words = fullName.split("\\s+");
+
+        int matchCount = 0;
+        int scoreSum = 0;
+        int firstKeywordIndex = Integer.MAX_VALUE;
+        for (int i = 0; i < keywords.size(); i++) {
+            int score = scoreForKeyword(fullName, lowerCaseName, words, i);
+            scoreSum += score;
+            if (score < NO_MATCH) {
+                matchCount++;
+                firstKeywordIndex = Math.min(firstKeywordIndex, i);
+            }
+        }
+        return new Hit(person, matchCount, scoreSum, firstKeywordIndex);
+    }
+
+    /**
+     * Returns the hits for {@code persons}, closest match first.
+     */
+    public List<Hit> rank(List<Person> persons) {
+        requireNonNull(persons);
+        List<Hit> hits = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            hits.add(score(person));
+        }
+        hits.sort(HIT_ORDER);
+        return hits;
+    }
+
+    /**
+     * Returns a comparator that orders {@code persons} by their rank, closest match first.
+     * Each of {@code persons} is scored once, when this method is called, and compared by its position in the
+     * ranking afterwards. Persons that were not in {@code persons} are placed after them and compare as equal to
+     * one another, so that a stable sort keeps them in their original order without scoring them.
+     */
+    public Comparator<Person> comparatorFor(List<Person> persons) {
+        List<Hit> hits = rank(persons);
+        Map<Name, Integer> positions = new HashMap<>(hits.size() * 2);
+        for (int i = 0; i < hits.size(); i++) {
+            positions.put(hits.get(i).person().name(), i);
+        }
+        return Comparator.comparingInt(person -> positions.getOrDefault(person.name(), Integer.MAX_VALUE));
+    }
+
+    private int scoreForKeyword(String fullName, String lowerCaseName, String[] words, int keywordIndex) {
+        if (fullName.equalsIgnoreCase(keywords.get(keywordIndex))) {
+            return 0;
+        }
+        String trimmedKeyword = trimmedKeywords.get(keywordIndex);
+        for (String word : words) {
+            if (word.equalsIgnoreCase(trimmedKeyword)) {
+                return 1;
+            }
+        }
+        if (lowerCaseName.contains(lowerCaseKeywords.get(keywordIndex))) {
+            return 2;
+        }
+        return NO_MATCH;
+    }
+}
@@ -0,0 +1,152 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * An index over the names of the persons in a {@code UniquePersonList}, used to answer case-insensitive substring
+ * searches without scanning every name.
+ *
+ * Names are split into lower-cased word tokens. Each token maps to the names containing it, and every character
+ * n-gram of up to {@value #MAX_GRAM_LENGTH} characters maps to the tokens containing it. A keyword of at most
+ * {@value #MAX_GRAM_LENGTH} characters is answered by a single n-gram lookup; a longer keyword intersects the token
+ * sets of its trigrams and checks the few remaining tokens directly.
+ */
+public class NameSearchIndex {
+
+    private static final int MAX_GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Name>> namesByToken = new HashMap<>();
+    private final Map<String, Set<String>> tokensByGram = new HashMap<>();
+
+    /**
+     * Adds {@code name} to the index.
+     */
+    public void add(Name name) {
+        requireNonNull(name);
+        for (String token : tokenize(name)) {
+            namesByToken.computeIfAbsent(token, this::indexGrams).add(name);
+        }
+    }
+
+    /**
+     * Removes {@code name} from the index.
+     */
+    public void remove(Name name) {
+        requireNonNull(name);
+        for (String token : tokenize(name)) {
+            Set<Name> names = namesByToken.get(token);
+            if (names != null && names.remove(name) && names.isEmpty()) {
+                namesByToken.remove(token);
+                unindexGrams(token);
+            }
+        }
+    }
+
+    /**
+     * Removes every name from the index.
+     */
+    public void clear() {
+        namesByToken.clear();
+        tokensByGram.clear();
+    }
+
+    /**
+     * Returns the indexed names that contain {@code keyword}, ignoring case.
+     * {@code keyword} must be a single word.
+     */
+    public Set<Name> search(String keyword) {
+        requireNonNull(keyword);
+        Set<Name> names = new HashSet<>();
+        for (String token : tokensContaining(keyword.toLowerCase())) {
+            names.addAll(namesByToken.get(token));
+        }
+        return names;
+    }
+
+    /**
+     * Returns the indexed names that match {@code predicate}, or an empty {@code Optional} if its keywords cannot be
+     * answered from this index. Only keywords that are single, non-empty words can be answered from the index.
+     */
+    public Optional<Set<Name>> searchAll(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        List<String> keywords = predicate.getKeywords();
+        if (keywords.stream().anyMatch(keyword -> keyword.isEmpty() || keyword.split("\\s+", -1).length > 1)) {
+            return Optional.empty();
+        }
+
+        Set<Name> names = new HashSet<>();
+        for (String keyword : keywords) {
+            names.addAll(search(keyword));
+        }
+        return Optional.of(names);
+    }
+
+    private Set<String> tokensContaining(String keyword) {
+        if (keyword.length() <= MAX_GRAM_LENGTH) {
+            return tokensByGram.getOrDefault(keyword, Collections.emptySet());
+        }
+
+        Set<String> smallest = null;
+        for (int i = 0; i + MAX_GRAM_LENGTH <= keyword.length(); i++) {
+            Set<String> tokens = tokensByGram.get(keyword.substring(i, i + MAX_GRAM_LENGTH));
+            if (tokens == null) {
+                return Collections.emptySet();
+            }
+            if (smallest == null || tokens.size() < smallest.size()) {
+                smallest = tokens;
+            }
+        }
+
+        Set<String> matches = new HashSet<>();
+        for (String token : smallest) {
+            if (token.contains(keyword)) {
+                matches.add(token);
+            }
+        }
+        return matches;
+    }
+
+    private Set<Name> indexGrams(String token) {
+        for (String gram : gramsOf(token)) {
+            tokensByGram.computeIfAbsent(gram, g -> new HashSet<>()).add(token);
+        }
+        return new HashSet<>();
+    }
+
+    private void unindexGrams(String token) {
+        for (String gram : gramsOf(token)) {
+            Set<String> tokens = tokensByGram.get(gram);
+            if (tokens != null && tokens.remove(token) && tokens.isEmpty()) {
+                tokensByGram.remove(gram);
+            }
+        }
+    }
+
+    private static Set<String> gramsOf(String token) {
+        Set<String> grams = new HashSet<>();
+        for (int length = 1; length <= MAX_GRAM_LENGTH; length++) {
+            for (int i = 0; i + length <= token.length(); i++) {
+                grams.add(token.substring(i, i + length));
+            }
+        }
+        return grams;
+    }
+
+    private static Set<String> tokenize(Name name) {
+        Set<String> tokens = new HashSet<>();
+        for (String token : name.fullName().toLowerCase().split("\\s+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
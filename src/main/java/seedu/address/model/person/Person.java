@@ -99,22 +99,29 @@ public record Person(
 
     /**
      * Returns a new Person with the given team id added to the person's team id set.
-     * Idempotent: adding an existing id has no effect.
+     * Idempotent: adding an existing id returns this person. The tag set is shared, as neither person changes it.
      */
     public Person withAddedTeam(String newTeamId) {
+        if (teamIds.contains(newTeamId)) {
+            return this;
+        }
         Set<String> newTeamIds = new HashSet<>(teamIds);
         newTeamIds.add(newTeamId);
-        return new Person(id, name, phone, email, address, gitHubUsername, newTeamIds, new HashSet<>(tags), salary);
+        return new Person(id, name, phone, email, address, gitHubUsername, newTeamIds, tags, salary);
     }
 
     /**
      * Returns a new Person with the given team id removed from the person's team id set.
-     * Idempotent: removing a non-existing id has no effect.
+     * Idempotent: removing a non-existing id returns this person. The tag set is shared, as neither person changes
+     * it.
      */
     public Person withRemovedTeam(String removeTeamId) {
+        if (!teamIds.contains(removeTeamId)) {
+            return this;
+        }
         Set<String> newTeamIds = new HashSet<>(teamIds);
         newTeamIds.remove(removeTeamId);
-        return new Person(id, name, phone, email, address, gitHubUsername, newTeamIds, new HashSet<>(tags), salary);
+        return new Person(id, name, phone, email, address, gitHubUsername, newTeamIds, tags, salary);
     }
 
     /**
@@ -235,7 +242,7 @@ public record Person(
          * @return This builder object.
          */
         public Builder withSalaryInCents(long salaryInCents) {
-            this.salary = new Salary(salaryInCents / 100.0);
+            this.salary = Salary.fromCents(salaryInCents);
             return this;
         }
 
@@ -2,22 +2,78 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.text.DecimalFormat;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 /**
  * Represents a Person's salary in the address book, rounded to 2 decimal places.
- * @param value The salary in dollars.
+ * The salary is held as a whole number of cents, so comparing and adding salaries is exact and does not allocate.
  */
-public record Salary(double value) implements Comparable<Salary> {
-    public static final String MESSAGE_CONSTRAINTS = "Salary should be a positive number.";
+public final class Salary implements Comparable<Salary> {
+    public static final String MESSAGE_CONSTRAINTS =
+            "Salary should be a positive number of at most 1,000,000,000,000 dollars.";
+    /**
+     * The highest salary, in dollars. Payroll totals of up to 90,000 such salaries still fit in a {@code long} of
+     * cents, but not in a {@code Salary}, so they are formatted with {@link #format(long)}.
+     */
+    public static final double MAX_DOLLARS = 1e12;
+
+    private static final int CENTS_PER_DOLLAR = 100;
+    private static final long MAX_CENTS = 100_000_000_000_000L;
+    private static final BigDecimal MAX_CENTS_DECIMAL = BigDecimal.valueOf(MAX_CENTS);
+
+    private final long cents;
+    /** Display string, built on first use. */
+    private String displayString;
 
-    public Salary {
-        checkArgument(value >= 0, MESSAGE_CONSTRAINTS);
+    /**
+     * Constructs a {@code Salary} of {@code value} dollars, rounded half up to the nearest cent.
+     *
+     * @param value The salary in dollars.
+     */
+    public Salary(double value) {
+        this(toCents(value));
     }
 
-    @Override
+    private Salary(long cents) {
+        checkArgument(cents >= 0 && cents <= MAX_CENTS, MESSAGE_CONSTRAINTS);
+        this.cents = cents;
+    }
+
+    /**
+     * Returns true if {@code value} is a valid salary in dollars, from 0 to {@link #MAX_DOLLARS}.
+     */
+    public static boolean isValidSalary(double value) {
+        return value >= 0 && value <= MAX_DOLLARS;
+    }
+
+    /**
+     * Returns a {@code Salary} of {@code cents} cents.
+     */
+    public static Salary fromCents(long cents) {
+        return new Salary(cents);
+    }
+
+    /**
+     * Parses a salary in dollars, such as {@code "1234.5"}, without going through a {@code double}.
+     * Digits beyond the second decimal place are rounded half up.
+     *
+     * @throws NumberFormatException if {@code dollars} is not a number.
+     * @throws IllegalArgumentException if {@code dollars} is negative or more than {@link #MAX_DOLLARS}.
+     */
+    public static Salary parse(String dollars) {
+        long cents = parsePlainCents(dollars);
+        if (cents < 0) {
+            cents = toCents(new BigDecimal(dollars));
+        }
+        return new Salary(cents);
+    }
+
+    /**
+     * Returns the salary in dollars.
+     */
     public double value() {
-        return Double.parseDouble(String.format("%.2f", value));
+        return (double) cents / CENTS_PER_DOLLAR;
     }
 
     /**
@@ -25,7 +81,7 @@ public record Salary(double value) implements Comparable<Salary> {
      * @return The salary as cents.
      */
     public long inCents() {
-        return Math.round(value * 100);
+        return cents;
     }
 
     /**
@@ -37,14 +93,126 @@ public record Salary(double value) implements Comparable<Salary> {
         return value();
     }
 
+    /**
+     * Returns the sum of this salary and {@code other}.
+     */
+    public Salary plus(Salary other) {
+        return new Salary(Math.addExact(cents, other.cents));
+    }
+
+    /**
+     * Returns the salary in dollars with exactly two decimal places and no grouping, e.g. {@code "1234.50"}.
+     */
+    public String toPlainString() {
+        long fraction = cents % CENTS_PER_DOLLAR;
+        return (cents / CENTS_PER_DOLLAR) + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+
     @Override
     public int compareTo(Salary other) {
-        return Double.compare(this.value(), other.value());
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Salary otherSalary)) {
+            return false;
+        }
+
+        return cents == otherSalary.cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
     }
 
     @Override
     public String toString() {
-        DecimalFormat format = new DecimalFormat("#,###.##");
-        return String.format("$%s / month", format.format(value()));
+        String result = displayString;
+        if (result == null) {
+            result = format(cents);
+            displayString = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns a monthly amount of {@code cents} cents as a salary is shown, e.g. {@code "$1,234.5 / month"}.
+     * The amount may be above {@link #MAX_DOLLARS}, e.g. the total of several salaries.
+     */
+    public static String format(long cents) {
+        checkArgument(cents >= 0, MESSAGE_CONSTRAINTS);
+        return "$" + formatDollars(cents) + " / month";
+    }
+
+    private static long toCents(double value) {
+        checkArgument(isValidSalary(value), MESSAGE_CONSTRAINTS);
+        return toCents(BigDecimal.valueOf(value));
+    }
+
+    private static long toCents(BigDecimal dollars) {
+        BigDecimal cents = dollars.movePointRight(2).setScale(0, RoundingMode.HALF_UP);
+        checkArgument(cents.signum() >= 0 && cents.compareTo(MAX_CENTS_DECIMAL) <= 0, MESSAGE_CONSTRAINTS);
+        return cents.longValueExact();
+    }
+
+    /**
+     * Returns the cents in {@code dollars} if it is a plain decimal with at most two decimal places,
+     * such as {@code "1234"} or {@code "1234.5"}, or -1 otherwise.
+     */
+    private static long parsePlainCents(String dollars) {
+        int length = dollars.length();
+        int point = dollars.indexOf('.');
+        int wholeEnd = point < 0 ? length : point;
+        int fractionDigits = point < 0 ? 0 : length - point - 1;
+        if (wholeEnd == 0 || wholeEnd > 15 || fractionDigits > 2) {
+            return -1;
+        }
+
+        long cents = 0;
+        for (int i = 0; i < length; i++) {
+            if (i == point) {
+                continue;
+            }
+            char c = dollars.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            cents = cents * 10 + (c - '0');
+        }
+        for (int i = fractionDigits; i < 2; i++) {
+            cents *= 10;
+        }
+        return cents;
+    }
+
+    /**
+     * Formats {@code cents} as dollars with thousands separators and up to two decimal places,
+     * as {@code new DecimalFormat("#,###.##")} would.
+     */
+    private static String formatDollars(long cents) {
+        String whole = Long.toString(cents / CENTS_PER_DOLLAR);
+        StringBuilder builder = new StringBuilder(whole.length() + whole.length() / 3 + 3);
+        for (int i = 0; i < whole.length(); i++) {
+            if (i > 0 && (whole.length() - i) % 3 == 0) {
+                builder.append(',');
+            }
+            builder.append(whole.charAt(i));
+        }
+
+        long fraction = cents % CENTS_PER_DOLLAR;
+        if (fraction != 0) {
+            builder.append('.').append(fraction / 10);
+            if (fraction % 10 != 0) {
+                builder.append(fraction % 10);
+            }
+        }
+        return builder.toString();
     }
 }
@@ -3,9 +3,15 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +25,9 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Lookups by identity, by id and by position are answered from hash indexes that are kept in step with the
+ * backing list, so {@code contains}, {@code add} and {@code setPerson} do not scan the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -28,6 +37,11 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    /** Position of each person in {@code internalList}, keyed by the name used for identity. */
+    private final Map<Name, Integer> positionsByName = new HashMap<>();
+    /** Persons keyed by their id. */
+    private final Map<String, Person> personsById = new HashMap<>();
+    private final NameSearchIndex nameSearchIndex = new NameSearchIndex();
 
     /**
      * Sorts the internal list using the given comparator.
@@ -36,6 +50,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void sort(Comparator<Person> comparator) {
         requireNonNull(comparator);
         internalList.sort(comparator);
+        reindexFrom(0);
     }
 
     /**
@@ -43,7 +58,37 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positionsByName.containsKey(toCheck.name());
+    }
+
+    /**
+     * Returns the person with the given {@code id}, or null if there is no such person.
+     */
+    public Person getPersonById(String id) {
+        requireNonNull(id);
+        return personsById.get(id);
+    }
+
+    /**
+     * Returns the persons whose names match {@code predicate}, in list order.
+     * The names are looked up in the name search index, so only the matching persons are visited, unless the
+     * keywords cannot be answered from the index.
+     *
+     * @see NameSearchIndex#searchAll(NameContainsKeywordsPredicate)
+     */
+    public List<Person> findByName(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        Optional<Set<Name>> names = nameSearchIndex.searchAll(predicate);
+        if (names.isEmpty()) {
+            return internalList.stream().filter(predicate).toList();
+        }
+
+        int[] positions = names.get().stream().mapToInt(positionsByName::get).sorted().toArray();
+        List<Person> matches = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            matches.add(internalList.get(position));
+        }
+        return matches;
     }
 
     /**
@@ -56,6 +101,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        index(toAdd, internalList.size() - 1);
+        nameSearchIndex.add(toAdd.name());
     }
 
     /**
@@ -66,7 +113,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -75,7 +122,13 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person replaced = internalList.set(index, editedPerson);
+        unindex(replaced);
+        index(editedPerson, index);
+        if (!replaced.name().equals(editedPerson.name())) {
+            nameSearchIndex.remove(replaced.name());
+            nameSearchIndex.add(editedPerson.name());
+        }
     }
 
     /**
@@ -84,14 +137,62 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        Person removed = internalList.remove(index);
+        unindex(removed);
+        reindexFrom(index);
+        nameSearchIndex.remove(removed.name());
+    }
+
+    /**
+     * Replaces each person in the keys of {@code editedPersons} with its value, keeping its position, in a single
+     * change of the list. The persons in the keys must exist in the list.
+     * The persons must be unique once all of them are replaced, so one may take the name another gives up.
+     */
+    public void setPersons(Map<Person, Person> editedPersons) {
+        requireNonNull(editedPersons);
+        requireAllNonNull(editedPersons.keySet());
+        requireAllNonNull(editedPersons.values());
+
+        List<Person> updated = new ArrayList<>(internalList);
+        for (Map.Entry<Person, Person> edit : editedPersons.entrySet()) {
+            int index = indexOf(edit.getKey());
+            if (index == -1) {
+                throw new PersonNotFoundException();
+            }
+            updated.set(index, edit.getValue());
+        }
+        if (!personsAreUnique(updated)) {
+            throw new DuplicatePersonException();
+        }
+
+        internalList.setAll(updated);
+        positionsByName.clear();
+        personsById.clear();
+        reindexFrom(0);
+        for (Person replaced : editedPersons.keySet()) {
+            nameSearchIndex.remove(replaced.name());
+        }
+        for (Person edited : editedPersons.values()) {
+            nameSearchIndex.add(edited.name());
+        }
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        positionsByName.clear();
+        positionsByName.putAll(replacement.positionsByName);
+        personsById.clear();
+        personsById.putAll(replacement.personsById);
+        rebuildNameSearchIndex();
     }
 
     /**
@@ -105,6 +206,10 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        positionsByName.clear();
+        personsById.clear();
+        reindexFrom(0);
+        rebuildNameSearchIndex();
     }
 
     /**
@@ -116,7 +221,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -147,13 +252,64 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Name> seen = new HashSet<>();
+        for (Person person : persons) {
+            if (!seen.add(person.name())) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Returns the position of the person equal to {@code person}, or -1 if there is no such person.
+     */
+    private int indexOf(Person person) {
+        Integer index = positionsByName.get(person.name());
+        if (index == null || !internalList.get(index).equals(person)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Records {@code person} as being at {@code index} of the backing list.
+     */
+    private void index(Person person, int index) {
+        positionsByName.put(person.name(), index);
+        personsById.putIfAbsent(person.id(), person);
+    }
+
+    /**
+     * Drops {@code person} from the indexes. If another person shares its id, that person takes over the id entry.
+     */
+    private void unindex(Person person) {
+        positionsByName.remove(person.name());
+        if (!personsById.remove(person.id(), person) || personsById.size() == positionsByName.size()) {
+            return;
+        }
+        // Ids are not unique in this list, so look for another person holding the same id.
+        for (Person other : internalList) {
+            if (other.id().equals(person.id()) && other != person) {
+                personsById.putIfAbsent(other.id(), other);
+                return;
+            }
+        }
+    }
+
+    private void rebuildNameSearchIndex() {
+        nameSearchIndex.clear();
+        for (Person person : internalList) {
+            nameSearchIndex.add(person.name());
+        }
+    }
+
+    /**
+     * Refreshes the index entries of every person from position {@code from} onwards.
+     */
+    private void reindexFrom(int from) {
+        for (int i = from; i < internalList.size(); i++) {
+            index(internalList.get(i), i);
+        }
+    }
 }
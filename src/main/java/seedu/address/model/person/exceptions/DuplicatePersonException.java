@@ -8,4 +8,11 @@ public class DuplicatePersonException extends RuntimeException {
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
     }
+
+    /**
+     * Creates an exception naming the persons that would be duplicated.
+     */
+    public DuplicatePersonException(String duplicates) {
+        super("Operation would result in duplicate persons: " + duplicates);
+    }
 }
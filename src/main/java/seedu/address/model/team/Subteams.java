@@ -43,6 +43,21 @@ public class Subteams {
         addressBook = ab;
     }
 
+    /**
+     * Returns the team with the given ID from the AddressBook set for team lookups.
+     *
+     * @param teamId the ID of the team to look up
+     * @throws TeamNotFoundException if no such team exists
+     */
+    static Team lookUpTeam(String teamId) throws TeamNotFoundException {
+        assert(addressBook != null) : "AddressBook must be set for subteams before looking up teams.";
+        Team team = addressBook.getTeamById(teamId);
+        if (team == null) {
+            throw new TeamNotFoundException();
+        }
+        return team;
+    }
+
     /**
      * Adds a team to the subteams list.
      *
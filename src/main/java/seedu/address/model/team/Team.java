@@ -4,22 +4,27 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.team.exceptions.InvalidSubteamNesting;
 
 /**
  * Represents a Team in the address book.
- * Members are represented as a list of person IDs (String).
+ * Members are represented as an ordered set of person IDs (String), so membership checks take constant time.
  * Leader is represented by a person ID (String).
  */
 public class Team {
     private final String id;
     private final TeamName teamName;
     private final Subteams subteams;
-    private List<String> members = new ArrayList<>();
+    private final Set<String> members = new LinkedHashSet<>();
+    /** Read-only list of {@code members}, built on first use after the members change. */
+    private List<String> memberList;
     private String leaderId = null;
     private String parentTeamId = null;
 
@@ -46,10 +51,20 @@ public class Team {
     }
 
     /**
-     * Returns an unmodifiable view of the members (person IDs).
+     * Returns an unmodifiable list of the members (person IDs), in the order they joined.
      */
     public List<String> getMembers() {
-        return Collections.unmodifiableList(members);
+        if (memberList == null) {
+            memberList = Collections.unmodifiableList(new ArrayList<>(members));
+        }
+        return memberList;
+    }
+
+    /**
+     * Returns true if the person with the given ID is a member of this team.
+     */
+    public boolean hasMember(String personId) {
+        return members.contains(personId);
     }
 
     public String getLeaderId() {
@@ -62,6 +77,7 @@ public class Team {
 
     /**
      * Adds a new subteam to this team.
+     * The subteam must not already have a parent team, and must not be this team or one of the teams above it.
      */
     public Team addToSubteam(String subteamId) throws InvalidSubteamNesting {
         requireNonNull(subteamId);
@@ -69,15 +85,34 @@ public class Team {
         if (subteamId.equals(this.id) || subteamId.equals(this.parentTeamId)) {
             throw new InvalidSubteamNesting();
         }
+        Team subteam = Subteams.lookUpTeam(subteamId);
+        if (subteam.getParentTeamId() != null || subteams.getUnmodifiableList().contains(subteamId)) {
+            throw new InvalidSubteamNesting();
+        }
         // prevent cycles
-        if (subteams.contains(subteamId)) {
+        if (isNestedUnder(subteamId)) {
             throw new InvalidSubteamNesting();
-        } else {
-            subteams.add(subteamId, this.id);
         }
+        subteams.add(subteamId, this.id);
         return this;
     }
 
+    /**
+     * Returns true if the team with the given ID is one of the teams above this team,
+     * by walking up the chain of parent team IDs once.
+     */
+    private boolean isNestedUnder(String teamId) {
+        Set<String> visited = new HashSet<>();
+        String ancestorId = this.parentTeamId;
+        while (ancestorId != null && visited.add(ancestorId)) {
+            if (ancestorId.equals(teamId)) {
+                return true;
+            }
+            ancestorId = Subteams.lookUpTeam(ancestorId).getParentTeamId();
+        }
+        return false;
+    }
+
     /**
      * Checks if a team with the given ID is in this team's nested subteams.
      *
@@ -125,7 +160,9 @@ public class Team {
      */
     public Team withMembers(List<String> newMembers) {
         requireNonNull(newMembers);
-        this.members = new ArrayList<>(newMembers);
+        members.clear();
+        members.addAll(newMembers);
+        memberList = null;
         return this;
     }
 
@@ -137,8 +174,8 @@ public class Team {
      */
     public void addMember(String personId) {
         requireNonNull(personId);
-        if (!members.contains(personId)) {
-            members.add(personId);
+        if (members.add(personId)) {
+            memberList = null;
         }
     }
 
@@ -149,7 +186,9 @@ public class Team {
      */
     public void removeMember(String personId) {
         requireNonNull(personId);
-        members.remove(personId);
+        if (members.remove(personId)) {
+            memberList = null;
+        }
         if (Objects.equals(leaderId, personId)) {
             leaderId = null;
         }
@@ -164,9 +203,7 @@ public class Team {
      */
     public void changeLeader(String personId) {
         requireNonNull(personId);
-        if (!members.contains(personId)) {
-            members.add(personId);
-        }
+        addMember(personId);
         this.leaderId = personId;
     }
 
@@ -0,0 +1,180 @@
+package seedu.address.model.team;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A closure table over the team hierarchy, recording for every team all the teams above it and all the teams
+ * nested under it, so that ancestor and descendant questions are answered without walking the hierarchy.
+ *
+ * "Is one team nested under another" is answered in O(1), and the teams above or under a team are returned in
+ * O(1) as a read-only view. Nesting or un-nesting a subtree updates only the entries of the teams in that subtree
+ * and of the teams above it.
+ */
+public class TeamHierarchyIndex {
+
+    private final Map<String, String> parentById = new HashMap<>();
+    private final Map<String, Set<String>> childrenById = new HashMap<>();
+    /** All teams above each team, by team id. */
+    private final Map<String, Set<String>> ancestorsById = new HashMap<>();
+    /** All teams nested under each team, by team id. */
+    private final Map<String, Set<String>> descendantsById = new HashMap<>();
+
+    /**
+     * Discards all recorded teams.
+     */
+    public void clear() {
+        parentById.clear();
+        childrenById.clear();
+        ancestorsById.clear();
+        descendantsById.clear();
+    }
+
+    /**
+     * Records the team with the given id as a top-level team, if it is not already recorded.
+     */
+    public void add(String teamId) {
+        requireNonNull(teamId);
+        childrenById.putIfAbsent(teamId, new HashSet<>());
+        ancestorsById.putIfAbsent(teamId, new HashSet<>());
+        descendantsById.putIfAbsent(teamId, new HashSet<>());
+    }
+
+    /**
+     * Forgets the team with the given id. Its subteams become top-level teams.
+     */
+    public void remove(String teamId) {
+        requireNonNull(teamId);
+        if (!contains(teamId)) {
+            return;
+        }
+        for (String childId : new ArrayList<>(childrenById.get(teamId))) {
+            detach(childId);
+        }
+        detach(teamId);
+        childrenById.remove(teamId);
+        ancestorsById.remove(teamId);
+        descendantsById.remove(teamId);
+    }
+
+    /**
+     * Nests the team {@code childId} directly under {@code parentId}, or makes it a top-level team if
+     * {@code parentId} is null. Nothing is changed if the child already has that parent.
+     *
+     * @return true if the child now has the given parent, false if either team is not recorded or
+     *     the nesting would make a team nested under itself
+     */
+    public boolean setParent(String childId, String parentId) {
+        requireNonNull(childId);
+        if (!contains(childId) || (parentId != null && !contains(parentId))) {
+            return false;
+        }
+        if (Objects.equals(parentById.get(childId), parentId)) {
+            return true;
+        }
+        if (parentId != null && (parentId.equals(childId) || isNestedUnder(parentId, childId))) {
+            return false;
+        }
+        detach(childId);
+        if (parentId != null) {
+            attach(childId, parentId);
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the team {@code teamId} is nested, directly or indirectly, under {@code ancestorId}.
+     */
+    public boolean isNestedUnder(String teamId, String ancestorId) {
+        requireNonNull(teamId);
+        requireNonNull(ancestorId);
+        Set<String> descendants = descendantsById.get(ancestorId);
+        return descendants != null && descendants.contains(teamId);
+    }
+
+    /**
+     * Returns the id of the team directly above {@code teamId}, or null if it is a top-level or unknown team.
+     */
+    public String getParentId(String teamId) {
+        requireNonNull(teamId);
+        return parentById.get(teamId);
+    }
+
+    /**
+     * Returns a read-only view of the ids of all teams above {@code teamId}, or an empty set if it is unknown.
+     */
+    public Set<String> getAncestorIds(String teamId) {
+        requireNonNull(teamId);
+        return Collections.unmodifiableSet(ancestorsById.getOrDefault(teamId, Set.of()));
+    }
+
+    /**
+     * Returns a read-only view of the ids of all teams nested under {@code teamId}, or an empty set if it is unknown.
+     */
+    public Set<String> getDescendantIds(String teamId) {
+        requireNonNull(teamId);
+        return Collections.unmodifiableSet(descendantsById.getOrDefault(teamId, Set.of()));
+    }
+
+    private boolean contains(String teamId) {
+        return childrenById.containsKey(teamId);
+    }
+
+    /**
+     * Nests the top-level team {@code childId} and its subtree under {@code parentId}.
+     */
+    private void attach(String childId, String parentId) {
+        List<String> subtree = subtreeOf(childId);
+        List<String> above = new ArrayList<>(ancestorsById.get(parentId));
+        above.add(parentId);
+
+        for (String ancestorId : above) {
+            descendantsById.get(ancestorId).addAll(subtree);
+        }
+        for (String teamId : subtree) {
+            ancestorsById.get(teamId).addAll(above);
+        }
+        parentById.put(childId, parentId);
+        childrenById.get(parentId).add(childId);
+    }
+
+    /**
+     * Makes {@code childId} and its subtree a top-level subtree, if it is nested under another team.
+     */
+    private void detach(String childId) {
+        String parentId = parentById.remove(childId);
+        if (parentId == null) {
+            return;
+        }
+        childrenById.get(parentId).remove(childId);
+
+        List<String> subtree = subtreeOf(childId);
+        List<String> above = new ArrayList<>(ancestorsById.get(childId));
+        for (String ancestorId : above) {
+            Set<String> descendants = descendantsById.get(ancestorId);
+            subtree.forEach(descendants::remove);
+        }
+        for (String teamId : subtree) {
+            Set<String> ancestors = ancestorsById.get(teamId);
+            above.forEach(ancestors::remove);
+        }
+    }
+
+    /**
+     * Returns {@code teamId} followed by the ids of all teams nested under it.
+     */
+    private List<String> subtreeOf(String teamId) {
+        List<String> subtree = new ArrayList<>(descendantsById.get(teamId).size() + 1);
+        subtree.add(teamId);
+        subtree.addAll(descendantsById.get(teamId));
+        return subtree;
+    }
+}
@@ -0,0 +1,135 @@
+package seedu.address.model.team;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Maps each person to the teams they are a member of, and to the teams they lead, so that the teams of a person can
+ * be found without going through every team. Whether a person is a member of a given team is answered by the team
+ * itself.
+ *
+ * The index is told about each change to the teams, and applies it by going through the members of the teams
+ * involved, so no set of members is copied.
+ */
+public class TeamMembershipIndex {
+
+    private final Map<String, Set<String>> teamsByPerson = new HashMap<>();
+    private final Map<String, Set<String>> ledTeamsByPerson = new HashMap<>();
+
+    /**
+     * Discards all recorded teams.
+     */
+    public void clear() {
+        teamsByPerson.clear();
+        ledTeamsByPerson.clear();
+    }
+
+    /**
+     * Records the members and leader of {@code team}, which was not recorded before.
+     */
+    public void addTeam(Team team) {
+        requireNonNull(team);
+        for (String personId : team.getMembers()) {
+            link(teamsByPerson, personId, team.getId());
+        }
+        if (team.getLeaderId() != null) {
+            link(ledTeamsByPerson, team.getLeaderId(), team.getId());
+        }
+    }
+
+    /**
+     * Forgets the members and leader of {@code team}.
+     */
+    public void removeTeam(Team team) {
+        requireNonNull(team);
+        for (String personId : team.getMembers()) {
+            unlink(teamsByPerson, personId, team.getId());
+        }
+        if (team.getLeaderId() != null) {
+            unlink(ledTeamsByPerson, team.getLeaderId(), team.getId());
+        }
+    }
+
+    /**
+     * Records that {@code target} was replaced by {@code editedTeam}, applying only the members who left or joined
+     * and any change of leader. {@code editedTeam} must be a different object from {@code target}.
+     */
+    public void replaceTeam(Team target, Team editedTeam) {
+        requireNonNull(target);
+        requireNonNull(editedTeam);
+        if (!target.getId().equals(editedTeam.getId())) {
+            removeTeam(target);
+            addTeam(editedTeam);
+            return;
+        }
+
+        String teamId = target.getId();
+        for (String personId : target.getMembers()) {
+            if (!editedTeam.hasMember(personId)) {
+                unlink(teamsByPerson, personId, teamId);
+            }
+        }
+        for (String personId : editedTeam.getMembers()) {
+            if (!target.hasMember(personId)) {
+                link(teamsByPerson, personId, teamId);
+            }
+        }
+        if (!Objects.equals(target.getLeaderId(), editedTeam.getLeaderId())) {
+            if (target.getLeaderId() != null) {
+                unlink(ledTeamsByPerson, target.getLeaderId(), teamId);
+            }
+            if (editedTeam.getLeaderId() != null) {
+                link(ledTeamsByPerson, editedTeam.getLeaderId(), teamId);
+            }
+        }
+    }
+
+    /**
+     * Records that the persons with ids {@code personIds} joined the team with id {@code teamId}.
+     */
+    public void addMembers(String teamId, Collection<String> personIds) {
+        requireNonNull(teamId);
+        requireNonNull(personIds);
+        for (String personId : personIds) {
+            link(teamsByPerson, personId, teamId);
+        }
+    }
+
+    /**
+     * Returns a read-only view of the ids of the teams the person with id {@code personId} is a member of.
+     */
+    public Set<String> getTeamIds(String personId) {
+        requireNonNull(personId);
+        return Collections.unmodifiableSet(teamsByPerson.getOrDefault(personId, Set.of()));
+    }
+
+    /**
+     * Returns a read-only view of the ids of the teams led by the person with id {@code personId}.
+     */
+    public Set<String> getLedTeamIds(String personId) {
+        requireNonNull(personId);
+        return Collections.unmodifiableSet(ledTeamsByPerson.getOrDefault(personId, Set.of()));
+    }
+
+    private static void link(Map<String, Set<String>> teamsByPerson, String personId, String teamId) {
+        teamsByPerson.computeIfAbsent(personId, id -> new HashSet<>()).add(teamId);
+    }
+
+    private static void unlink(Map<String, Set<String>> teamsByPerson, String personId, String teamId) {
+        Set<String> teamIds = teamsByPerson.get(personId);
+        if (teamIds == null) {
+            return;
+        }
+        teamIds.remove(teamId);
+        if (teamIds.isEmpty()) {
+            teamsByPerson.remove(personId);
+        }
+    }
+}
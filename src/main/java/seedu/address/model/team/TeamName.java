@@ -3,6 +3,8 @@ package seedu.address.model.team;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Team's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidTeamName(String)}
@@ -32,7 +34,7 @@ public record TeamName(String teamName) {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidTeamName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumeric(test, 1, 40);
     }
 
     /**
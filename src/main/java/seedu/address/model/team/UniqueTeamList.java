@@ -2,8 +2,12 @@ package seedu.address.model.team;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -14,19 +18,30 @@ import seedu.address.model.team.exceptions.TeamNotFoundException;
 /**
  * A list of teams that enforces uniqueness between its elements and does not allow nulls.
  * Identity is checked using Team#isSameTeam(Team).
+ *
+ * The position of every team is kept in a hash index by team id, so lookups, {@code contains}, {@code setTeam} and
+ * {@code setSubteam} do not scan the list. The nesting of teams is mirrored in a {@link TeamHierarchyIndex} that is
+ * updated by {@code setSubteam}, {@code setTeam} and {@code remove}.
  */
 public class UniqueTeamList implements Iterable<Team> {
 
     private final ObservableList<Team> internalList = FXCollections.observableArrayList();
     private final ObservableList<Team> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    /** Position of each team in {@code internalList}, keyed by team id. */
+    private final Map<String, Integer> positionsById = new HashMap<>();
+    private final TeamHierarchyIndex hierarchy = new TeamHierarchyIndex();
+    /** Last rendering of each team's subtree in the hierarchy string, by team id. */
+    private final Map<String, RenderedSubtree> renderedSubtrees = new HashMap<>();
+    /** The hierarchy string, or null if a team has changed since it was last built. */
+    private String hierarchyString;
 
     /**
      * Returns true if the list contains an equivalent team as the given argument.
      */
     public boolean contains(Team toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTeam);
+        return positionsById.containsKey(toCheck.getId());
     }
 
     /**
@@ -34,13 +49,20 @@ public class UniqueTeamList implements Iterable<Team> {
      * Throws TeamNotFoundException if no such team is found.
      */
     public Team getTeamById(String teamId) {
-        requireNonNull(teamId);
-        for (Team team : internalList) {
-            if (team.getId().equals(teamId)) {
-                return team;
-            }
+        Team team = findTeamById(teamId);
+        if (team == null) {
+            throw new TeamNotFoundException();
         }
-        throw new TeamNotFoundException();
+        return team;
+    }
+
+    /**
+     * Returns the team with the given teamId, or null if no such team is found.
+     */
+    public Team findTeamById(String teamId) {
+        requireNonNull(teamId);
+        Integer index = positionsById.get(teamId);
+        return index == null ? null : internalList.get(index);
     }
 
     /**
@@ -53,6 +75,10 @@ public class UniqueTeamList implements Iterable<Team> {
             throw new DuplicateTeamException();
         }
         internalList.add(toAdd);
+        positionsById.put(toAdd.getId(), internalList.size() - 1);
+        invalidateRendering(toAdd);
+        hierarchy.add(toAdd.getId());
+        hierarchy.setParent(toAdd.getId(), toAdd.getParentTeamId());
     }
 
     /**
@@ -64,7 +90,7 @@ public class UniqueTeamList implements Iterable<Team> {
         requireNonNull(target);
         requireNonNull(editedTeam);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new TeamNotFoundException();
         }
@@ -73,7 +99,16 @@ public class UniqueTeamList implements Iterable<Team> {
             throw new DuplicateTeamException();
         }
 
+        invalidateRendering(target);
         internalList.set(index, editedTeam);
+        invalidateRendering(editedTeam);
+        positionsById.remove(target.getId());
+        positionsById.put(editedTeam.getId(), index);
+        if (!target.getId().equals(editedTeam.getId())) {
+            hierarchy.remove(target.getId());
+            hierarchy.add(editedTeam.getId());
+        }
+        hierarchy.setParent(editedTeam.getId(), editedTeam.getParentTeamId());
     }
 
     /**
@@ -82,9 +117,15 @@ public class UniqueTeamList implements Iterable<Team> {
      */
     public void remove(Team toRemove) throws TeamNotFoundException {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new TeamNotFoundException();
         }
+        invalidateRendering(toRemove);
+        internalList.remove(index);
+        positionsById.remove(toRemove.getId());
+        reindexFrom(index);
+        hierarchy.remove(toRemove.getId());
     }
 
     /**
@@ -97,6 +138,28 @@ public class UniqueTeamList implements Iterable<Team> {
             throw new DuplicateTeamException();
         }
         internalList.setAll(teams);
+        renderedSubtrees.clear();
+        hierarchyString = null;
+        positionsById.clear();
+        reindexFrom(0);
+        rebuildHierarchy();
+    }
+
+    /**
+     * Adds the persons with ids {@code personIds} to the members of {@code team}, changing the team in place.
+     * The team must exist in the list.
+     */
+    public void addMembers(Team team, List<String> personIds) {
+        requireNonNull(team);
+        requireNonNull(personIds);
+
+        int index = indexOf(team);
+        if (index == -1) {
+            throw new TeamNotFoundException();
+        }
+        personIds.forEach(team::addMember);
+        internalList.set(index, team);
+        invalidateRendering(team);
     }
 
     /**
@@ -110,20 +173,47 @@ public class UniqueTeamList implements Iterable<Team> {
         requireNonNull(parentTeam);
         requireNonNull(subteam);
 
-        int index = internalList.indexOf(parentTeam);
+        int index = indexOf(parentTeam);
         if (index == -1) {
             throw new TeamNotFoundException();
         }
+        if (hierarchy.isNestedUnder(parentTeam.getId(), subteam.getId())) {
+            return false;
+        }
         try {
             parentTeam.addToSubteam(subteam.getId());
             subteam.setParentTeamId(parentTeam.getId());
             internalList.set(index, parentTeam);
+            invalidateRendering(parentTeam);
+            invalidateRendering(subteam);
+            hierarchy.setParent(subteam.getId(), parentTeam.getId());
         } catch (InvalidSubteamNesting e) {
             return false;
         }
         return true;
     }
 
+    /**
+     * Returns true if the team {@code teamId} is nested, directly or indirectly, under the team {@code ancestorId}.
+     */
+    public boolean isNestedUnder(String teamId, String ancestorId) {
+        return hierarchy.isNestedUnder(teamId, ancestorId);
+    }
+
+    /**
+     * Returns the ids of all teams above the team {@code teamId}.
+     */
+    public Set<String> getAncestorIds(String teamId) {
+        return hierarchy.getAncestorIds(teamId);
+    }
+
+    /**
+     * Returns the ids of all teams nested, directly or indirectly, under the team {@code teamId}.
+     */
+    public Set<String> getDescendantIds(String teamId) {
+        return hierarchy.getDescendantIds(teamId);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -133,7 +223,7 @@ public class UniqueTeamList implements Iterable<Team> {
 
     @Override
     public Iterator<Team> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -159,52 +249,69 @@ public class UniqueTeamList implements Iterable<Team> {
 
     /**
      * Build the hierarchy string recursively.
+     * The string is kept until a team changes, and the rendering of each team's subtree is reused until that team
+     * or one of its subteams changes, so only the paths from changed teams up to their roots are rendered again.
      *
      * @return String representation of all the teams in Linux tree format.
      */
     public String getHierarchyString() {
-        StringBuilder sb = new StringBuilder();
-        for (Team team : internalList) {
-            if (team.getParentTeamId() == null) {
-                // Build tree from root
-                sb.append(buildTeamDisplayString(team, ""));
-                generateHierarchyTree(team.getSubteams(), sb, "");
+        if (hierarchyString == null) {
+            StringBuilder sb = new StringBuilder();
+            for (Team team : internalList) {
+                if (team.getParentTeamId() == null) {
+                    // Build tree from root
+                    sb.append(renderSubtree(team, "", ""));
+                }
             }
+            hierarchyString = sb.toString();
         }
-        return sb.toString();
+        return hierarchyString;
     }
 
     /**
-     * Recursive helper method to build the tree structure.
+     * Returns the lines for {@code team} and all its nested subteams, reusing the last rendering of the subtree if
+     * the team has not changed since and is drawn with the same prefixes.
      *
-     * @param subteams The subteams to process.
-     * @param sb The StringBuilder to append the tree structure to.
-     * @param prefix The current line prefix (e.g., "│   ").
-     */
-    private void generateHierarchyTree(Subteams subteams, StringBuilder sb, String prefix) {
-        int subteamSize = subteams.getUnmodifiableList().size();
-        for (String teamId : subteams.getUnmodifiableList()) {
-            Team team = getTeamById(teamId);
-            boolean isTeamLast = subteams.getUnmodifiableList().indexOf(teamId) == subteamSize - 1;
-
-            // 1. Append the appropriate branch symbol and team name
-            sb.append(prefix);
+     * @param team The team at the top of the subtree.
+     * @param linePrefix The prefix of the team's own line, including its branch symbol (e.g., "│   └── ").
+     * @param childPrefix The prefix to continue the tree with for the team's subteams (e.g., "│       ").
+     */
+    private String renderSubtree(Team team, String linePrefix, String childPrefix) {
+        RenderedSubtree cached = renderedSubtrees.get(team.getId());
+        if (cached != null && cached.linePrefix().equals(linePrefix) && cached.childPrefix().equals(childPrefix)) {
+            return cached.text();
+        }
+
+        StringBuilder sb = new StringBuilder(linePrefix).append(buildTeamDisplayString(team, linePrefix));
+        List<String> subteamIds = team.getSubteams().getUnmodifiableList();
+        for (int i = 0; i < subteamIds.size(); i++) {
+            Team subteam = getTeamById(subteamIds.get(i));
+            boolean isTeamLast = i == subteamIds.size() - 1;
             if (isTeamLast) {
-                sb.append("└── "); // Last child in the list
+                sb.append(renderSubtree(subteam, childPrefix + "└── ", childPrefix + "    "));
             } else {
-                sb.append("├── "); // Not the last child
+                sb.append(renderSubtree(subteam, childPrefix + "├── ", childPrefix + "│   "));
             }
-            sb.append(buildTeamDisplayString(team, prefix));
+        }
 
-            // 2. Calculate the new prefix for the subteams
-            String newPrefix = (isTeamLast) ? prefix + "    " : prefix + "│   ";
+        String text = sb.toString();
+        renderedSubtrees.put(team.getId(), new RenderedSubtree(linePrefix, childPrefix, text));
+        return text;
+    }
 
-            // 3. Recurse for the team's subteams
-            if (team.getSubteams().size() != 0) {
-                generateHierarchyTree(team.getSubteams(), sb, newPrefix);
-            }
+    /**
+     * Discards the hierarchy string and the renderings of {@code team} and every team above it.
+     */
+    private void invalidateRendering(Team team) {
+        hierarchyString = null;
+        renderedSubtrees.remove(team.getId());
+        Set<String> visited = new HashSet<>();
+        String ancestorId = team.getParentTeamId();
+        while (ancestorId != null && visited.add(ancestorId)) {
+            renderedSubtrees.remove(ancestorId);
+            Team ancestor = findTeamById(ancestorId);
+            ancestorId = ancestor == null ? null : ancestor.getParentTeamId();
         }
-
     }
 
     /**
@@ -227,13 +334,51 @@ public class UniqueTeamList implements Iterable<Team> {
      * Returns true if {@code teams} contains only unique teams.
      */
     private boolean teamsAreUnique(List<Team> teams) {
-        for (int i = 0; i < teams.size() - 1; i++) {
-            for (int j = i + 1; j < teams.size(); j++) {
-                if (teams.get(i).isSameTeam(teams.get(j))) {
-                    return false;
-                }
+        Set<String> seenIds = new HashSet<>();
+        for (Team team : teams) {
+            if (!seenIds.add(team.getId())) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Returns the position of {@code team} in the list, or -1 if it is not in the list.
+     */
+    private int indexOf(Team team) {
+        Integer index = positionsById.get(team.getId());
+        if (index == null || !internalList.get(index).equals(team)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Rebuilds the hierarchy index from the parent team ids of the teams in the list.
+     * Parent ids that refer to unknown teams or would form a cycle are left out.
+     */
+    private void rebuildHierarchy() {
+        hierarchy.clear();
+        for (Team team : internalList) {
+            hierarchy.add(team.getId());
+        }
+        for (Team team : internalList) {
+            hierarchy.setParent(team.getId(), team.getParentTeamId());
+        }
+    }
+
+    /**
+     * Refreshes the positions of every team from position {@code from} onwards.
+     */
+    private void reindexFrom(int from) {
+        for (int i = from; i < internalList.size(); i++) {
+            positionsById.put(internalList.get(i).getId(), i);
+        }
+    }
+
+    /**
+     * The rendering of a team's subtree together with the prefixes it was drawn with.
+     */
+    private record RenderedSubtree(String linePrefix, String childPrefix, String text) {}
 }
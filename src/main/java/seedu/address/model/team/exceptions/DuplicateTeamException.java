@@ -7,4 +7,11 @@ public class DuplicateTeamException extends RuntimeException {
     public DuplicateTeamException() {
         super("Operation would result in duplicate teams");
     }
+
+    /**
+     * Creates an exception naming the teams that would be duplicated.
+     */
+    public DuplicateTeamException(String duplicates) {
+        super("Operation would result in duplicate teams: " + duplicates);
+    }
 }
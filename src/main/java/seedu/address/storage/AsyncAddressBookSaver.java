@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@link AddressBookStorage} on a background thread, so that callers do not wait for the
+ * data to be written.
+ *
+ * Only the latest submitted address book is kept: address books submitted while a save is in progress replace each
+ * other, and only the last of them is written once that save completes. Submitted address books must not change
+ * afterwards; see {@link seedu.address.model.AddressBookSnapshot}. Failed saves are passed to the failure handler on
+ * the background thread.
+ */
+public class AsyncAddressBookSaver {
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /** The address book waiting to be saved, if any. */
+    private final AtomicReference<ReadOnlyAddressBook> pending = new AtomicReference<>();
+    /** Whether a save of {@code pending} has been queued and has not started yet. */
+    private final AtomicBoolean isSaveQueued = new AtomicBoolean();
+    private volatile Consumer<IOException> failureHandler = e -> { };
+
+    /**
+     * Creates a saver that writes to {@code storage}.
+     */
+    public AsyncAddressBookSaver(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Sets the handler that is given the exception of each failed save.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules {@code addressBook} to be saved, replacing any address book that is still waiting to be saved.
+     */
+    public void submit(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        pending.set(addressBook);
+        if (isSaveQueued.compareAndSet(false, true)) {
+            executor.execute(this::savePending);
+        }
+    }
+
+    /**
+     * Waits until every address book submitted so far has been saved or has failed to save.
+     */
+    public void flush() {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Saves every address book submitted so far, then stops the background thread.
+     * No address book may be submitted afterwards.
+     */
+    public void close() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void savePending() {
+        // Cleared before taking the address book, so that a submission made after this point queues another save.
+        isSaveQueued.set(false);
+        ReadOnlyAddressBook addressBook = pending.getAndSet(null);
+        if (addressBook == null) {
+            return;
+        }
+        try {
+            storage.saveAddressBook(addressBook);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book: " + e.getMessage());
+            failureHandler.accept(e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.audit.AuditLog;
+import seedu.address.model.audit.AuditLogArchive;
+
+/**
+ * Represents a storage for the {@link AuditLog} of an address book, kept apart from the address book data file.
+ * Entries handed to {@link #append} are kept in memory until {@link #saveAuditLog()} writes them out.
+ */
+public interface AuditLogStorage extends AuditLogArchive {
+
+    /**
+     * Returns the path of the directory the audit log is stored in.
+     */
+    Path getAuditLogDirectoryPath();
+
+    /**
+     * Returns the stored audit log, holding its newest entries in memory.
+     * Returns an empty audit log if nothing has been stored yet.
+     *
+     * @throws DataLoadingException if loading the audit log failed.
+     */
+    AuditLog readAuditLog() throws DataLoadingException;
+
+    /**
+     * Writes out the entries appended since the last save.
+     *
+     * @throws IOException if there was any problem writing the entries.
+     */
+    void saveAuditLog() throws IOException;
+
+}
@@ -0,0 +1,231 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.BinaryAddressBookStorage.FORMAT_VERSION;
+import static seedu.address.storage.BinaryAddressBookStorage.MAGIC;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.audit.AuditLogEntry;
+import seedu.address.model.audit.FieldChange;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * An address book file in the format written by {@link BinaryAddressBookStorage}, read into a heap buffer.
+ * The file is read in full and closed before it is decoded, so that nothing keeps it open for the next save to
+ * replace.
+ *
+ * Opening the file checks its header and checksum and records where each string and record starts. Strings are
+ * decoded once, on first use, as the records that refer to them are decoded.
+ */
+class BinaryAddressBookFile {
+
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int CHECKSUM_SIZE = Integer.BYTES;
+
+    private final ByteBuffer buffer;
+    private final int[] stringOffsets;
+    private final String[] strings;
+    private final int[] personOffsets;
+    private final int[] teamOffsets;
+    private final int[] auditEntryOffsets;
+
+    /**
+     * Indexes the address book in {@code buffer}.
+     *
+     * @throws IOException if the data is not in a supported version of the format or is corrupted.
+     */
+    BinaryAddressBookFile(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer.slice().asReadOnlyBuffer();
+        checkHeaderAndChecksum();
+
+        try {
+            ByteBuffer body = this.buffer.duplicate().position(HEADER_SIZE).limit(this.buffer.limit() - CHECKSUM_SIZE);
+            stringOffsets = indexRecords(body);
+            strings = new String[stringOffsets.length];
+            personOffsets = indexRecords(body);
+            teamOffsets = indexRecords(body);
+            auditEntryOffsets = indexRecords(body);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Binary address book is truncated or malformed", e);
+        }
+    }
+
+    /**
+     * Reads and indexes the address book file {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read, is not in a supported version of the format or is corrupted.
+     */
+    static BinaryAddressBookFile open(Path filePath) throws IOException {
+        return new BinaryAddressBookFile(ByteBuffer.wrap(Files.readAllBytes(filePath)));
+    }
+
+    private void checkHeaderAndChecksum() throws IOException {
+        if (buffer.limit() < HEADER_SIZE + CHECKSUM_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a binary address book file");
+        }
+        int version = buffer.getInt(Integer.BYTES);
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported binary address book version " + version);
+        }
+        int checksumPosition = buffer.limit() - CHECKSUM_SIZE;
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.duplicate().limit(checksumPosition));
+        if ((int) checksum.getValue() != buffer.getInt(checksumPosition)) {
+            throw new IOException("Binary address book checksum does not match, the file is corrupted");
+        }
+    }
+
+    /**
+     * Reads a count from {@code body}, followed by that many length-prefixed records, and returns the position of
+     * each record's length. Moves {@code body} past the records without decoding them.
+     */
+    private static int[] indexRecords(ByteBuffer body) {
+        int[] offsets = new int[readVarInt(body)];
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = body.position();
+            int length = readVarInt(body);
+            body.position(body.position() + length);
+        }
+        return offsets;
+    }
+
+    /**
+     * Returns the record whose length is at {@code offset}.
+     * Fields added to a record by later versions of the format are left unread.
+     */
+    private ByteBuffer recordAt(int offset) {
+        ByteBuffer lengthPrefix = buffer.duplicate().position(offset);
+        int length = readVarInt(lengthPrefix);
+        return buffer.slice(lengthPrefix.position(), length);
+    }
+
+    /**
+     * Decodes the whole address book.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    AddressBook toAddressBook() throws IllegalValueException {
+        AddressBook.Builder builder = new AddressBook.Builder();
+        for (int i = 0; i < personOffsets.length; i++) {
+            builder.addPerson(decodePerson(i));
+        }
+        for (Team team : decodeTeams()) {
+            builder.addTeam(team);
+        }
+        for (AuditLogEntry entry : decodeAuditEntries()) {
+            builder.addAuditEntry(entry);
+        }
+        return builder.build();
+    }
+
+    private Person decodePerson(int index) throws IllegalValueException {
+        ByteBuffer record = recordAt(personOffsets[index]);
+        String id = readString(record);
+        String name = readString(record);
+        String phone = readString(record);
+        String email = readString(record);
+        String address = readString(record);
+        String gitHubUsername = readString(record);
+        String salary = readString(record);
+        List<String> teamIds = readStrings(record);
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        for (String tagName : readStrings(record)) {
+            tags.add(new JsonAdaptedTag(tagName));
+        }
+        return new JsonAdaptedPerson(id, name, phone, email, address, gitHubUsername, salary, teamIds, tags)
+                .toModelType();
+    }
+
+    private List<Team> decodeTeams() throws IllegalValueException {
+        List<Team> decoded = new ArrayList<>(teamOffsets.length);
+        for (int offset : teamOffsets) {
+            ByteBuffer record = recordAt(offset);
+            String id = readString(record);
+            String name = readString(record);
+            String leaderId = readString(record);
+            List<String> members = readStrings(record);
+            decoded.add(new JsonAdaptedTeam(id, name, leaderId, members).toModelType());
+        }
+        return decoded;
+    }
+
+    private List<AuditLogEntry> decodeAuditEntries() throws IllegalValueException {
+        List<AuditLogEntry> decoded = new ArrayList<>(auditEntryOffsets.length);
+        for (int offset : auditEntryOffsets) {
+            ByteBuffer record = recordAt(offset);
+            LocalDateTime timestamp = LocalDateTime.ofEpochSecond(record.getLong(), 0, ZoneOffset.UTC);
+            String action = readString(record);
+            String details = readString(record);
+            if (action == null || details == null) {
+                throw new IllegalValueException("Missing audit log entry fields");
+            }
+            // entries written before field changes were kept end here
+            List<FieldChange> changes = new ArrayList<>();
+            int changeCount = record.hasRemaining() ? readVarInt(record) : 0;
+            for (int i = 0; i < changeCount; i++) {
+                String entityId = readString(record);
+                String field = readString(record);
+                if (entityId == null || field == null) {
+                    throw new IllegalValueException("Missing audit log field change fields");
+                }
+                changes.add(new FieldChange(entityId, field, readString(record), readString(record)));
+            }
+            decoded.add(new AuditLogEntry(timestamp, action, details, changes));
+        }
+        return decoded;
+    }
+
+    /**
+     * Reads a reference to the string table, where 0 stands for null and {@code i + 1} for the {@code i}th string.
+     */
+    private String readString(ByteBuffer record) {
+        int reference = readVarInt(record);
+        if (reference == 0) {
+            return null;
+        }
+        String string = strings[reference - 1];
+        if (string == null) {
+            ByteBuffer bytes = recordAt(stringOffsets[reference - 1]);
+            string = StandardCharsets.UTF_8.decode(bytes).toString();
+            strings[reference - 1] = string;
+        }
+        return string;
+    }
+
+    private List<String> readStrings(ByteBuffer record) {
+        int count = readVarInt(record);
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(readString(record));
+        }
+        return values;
+    }
+
+    /**
+     * Reads an integer written by {@link BinaryAddressBookStorage} in 7-bit groups, least significant first.
+     */
+    static int readVarInt(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IndexOutOfBoundsException("Variable-length integer is too long");
+    }
+}
@@ -0,0 +1,303 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.audit.AuditLogEntry;
+import seedu.address.model.audit.FieldChange;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ *
+ * The file starts with a magic number and a format version, followed by a table of every distinct string in the
+ * address book, so that values repeated across persons such as tags, team ids and addresses are stored once. Then
+ * come the persons, teams and audit log entries, each as a length-prefixed record that refers to strings by their
+ * index in the table. The file ends with a CRC-32 checksum of everything before it. The file is read through a
+ * {@link BinaryAddressBookFile}.
+ *
+ * A file that does not start with the magic number is read as a json address book, so an existing json data file
+ * can be switched to this format without a separate import. It is written in this format on the next save.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** "HENR" in ASCII. */
+    static final int MAGIC = 0x48454E52;
+    static final int FORMAT_VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<AddressBook> addressBook;
+        try {
+            addressBook = isBinaryFile(filePath)
+                    ? Optional.of(BinaryAddressBookFile.open(filePath).toAddressBook())
+                    : new JsonAddressBookReader().read(filePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        if (addressBook.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(addressBook.get());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeFileAtomically(filePath, out -> encode(addressBook, out));
+    }
+
+    /**
+     * Returns true if {@code filePath} exists and starts with {@link #MAGIC}.
+     */
+    static boolean isBinaryFile(Path filePath) throws IOException {
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        try (InputStream in = Files.newInputStream(filePath)) {
+            byte[] header = in.readNBytes(Integer.BYTES);
+            return header.length == Integer.BYTES && ByteBuffer.wrap(header).getInt() == MAGIC;
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the binary format.
+     */
+    static void encode(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        StringTable strings = new StringTable(addressBook);
+        CRC32 checksum = new CRC32();
+        DataOutputStream checkedOut = new DataOutputStream(new CheckedOutputStream(out, checksum));
+        checkedOut.writeInt(MAGIC);
+        checkedOut.writeInt(FORMAT_VERSION);
+
+        writeVarInt(checkedOut, strings.size());
+        for (String string : strings.values()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(checkedOut, bytes.length);
+            checkedOut.write(bytes);
+        }
+
+        RecordWriter record = new RecordWriter(strings);
+        writeVarInt(checkedOut, addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            record.writePerson(person);
+            record.writeTo(checkedOut);
+        }
+        writeVarInt(checkedOut, addressBook.getTeamList().size());
+        for (Team team : addressBook.getTeamList()) {
+            record.writeTeam(team);
+            record.writeTo(checkedOut);
+        }
+        List<AuditLogEntry> entries = addressBook.getAuditLog().getEntries();
+        writeVarInt(checkedOut, entries.size());
+        for (AuditLogEntry entry : entries) {
+            record.writeAuditEntry(entry);
+            record.writeTo(checkedOut);
+        }
+
+        checkedOut.flush();
+        new DataOutputStream(out).writeInt((int) checksum.getValue());
+    }
+
+    /**
+     * Writes {@code value}, which must not be negative, in 7-bit groups, least significant first, with the high bit
+     * of every byte but the last set.
+     */
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        assert value >= 0;
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * The distinct strings of an address book, in the order they are first used.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> indices = new LinkedHashMap<>();
+
+        StringTable(ReadOnlyAddressBook addressBook) {
+            for (Person person : addressBook.getPersonList()) {
+                add(person.id());
+                add(person.name().fullName());
+                add(person.phone().value());
+                add(person.email().value());
+                add(person.address().value());
+                add(person.gitHubUsername().value());
+                add(person.salary().toPlainString());
+                person.teamIds().forEach(this::add);
+                person.tags().forEach(tag -> add(tag.tagName));
+            }
+            for (Team team : addressBook.getTeamList()) {
+                add(team.getId());
+                add(team.getTeamName().teamName());
+                add(team.getLeaderId());
+                team.getMembers().forEach(this::add);
+            }
+            for (AuditLogEntry entry : addressBook.getAuditLog().getEntries()) {
+                add(entry.getAction());
+                add(entry.getDetails());
+                for (FieldChange change : entry.getChanges()) {
+                    add(change.entityId());
+                    add(change.field());
+                    add(change.before());
+                    add(change.after());
+                }
+            }
+        }
+
+        private void add(String string) {
+            if (string != null) {
+                indices.putIfAbsent(string, indices.size());
+            }
+        }
+
+        int size() {
+            return indices.size();
+        }
+
+        Iterable<String> values() {
+            return indices.keySet();
+        }
+
+        /**
+         * Returns the reference to {@code string} as read by {@link #readString}.
+         */
+        int referenceTo(String string) {
+            return string == null ? 0 : indices.get(string) + 1;
+        }
+    }
+
+    /**
+     * Encodes one record at a time into a reused buffer, so that it can be written with its length in front.
+     */
+    private static class RecordWriter {
+        private final StringTable strings;
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+
+        RecordWriter(StringTable strings) {
+            this.strings = strings;
+        }
+
+        void writePerson(Person person) throws IOException {
+            writeString(person.id());
+            writeString(person.name().fullName());
+            writeString(person.phone().value());
+            writeString(person.email().value());
+            writeString(person.address().value());
+            writeString(person.gitHubUsername().value());
+            writeString(person.salary().toPlainString());
+            writeStrings(person.teamIds());
+            writeStrings(person.tags().stream().map(tag -> tag.tagName).toList());
+        }
+
+        void writeTeam(Team team) throws IOException {
+            writeString(team.getId());
+            writeString(team.getTeamName().teamName());
+            writeString(team.getLeaderId());
+            writeStrings(team.getMembers());
+        }
+
+        void writeAuditEntry(AuditLogEntry entry) throws IOException {
+            out.writeLong(entry.getTimestamp().toEpochSecond(ZoneOffset.UTC));
+            writeString(entry.getAction());
+            writeString(entry.getDetails());
+            writeVarInt(out, entry.getChanges().size());
+            for (FieldChange change : entry.getChanges()) {
+                writeString(change.entityId());
+                writeString(change.field());
+                writeString(change.before());
+                writeString(change.after());
+            }
+        }
+
+        /**
+         * Writes the record encoded so far to {@code target}, prefixed with its length, and starts a new record.
+         */
+        void writeTo(DataOutputStream target) throws IOException {
+            writeVarInt(target, bytes.size());
+            bytes.writeTo(target);
+            bytes.reset();
+        }
+
+        private void writeString(String string) throws IOException {
+            writeVarInt(out, strings.referenceTo(string));
+        }
+
+        private void writeStrings(Collection<String> values) throws IOException {
+            writeVarInt(out, values.size());
+            for (String value : values) {
+                writeString(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,359 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.DataChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.audit.AuditLogEntry;
+import seedu.address.model.team.Team;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file plus a journal of the changes made since the
+ * snapshot was written.
+ *
+ * Saving appends only the persons, teams and audit log entries that changed since the address book was last saved
+ * or read to the journal, as one line of JSON. The changed persons and teams are found by following the chain of
+ * {@link DataChange}s of the address book, rather than by comparing it with the one last saved. The snapshot is
+ * rewritten in full, and the journal discarded, when the journal would grow past a size limit or when a change
+ * cannot be described as such a delta, e.g. after the persons are reordered in the address book itself. Reading
+ * replays the journal on top of the snapshot.
+ *
+ * The snapshot file is a plain address book json file, so it can be read by {@link JsonAddressBookStorage}, and
+ * the journal is kept next to it, in a file with the same name followed by {@code .journal}.
+ */
+public class JournalingAddressBookStorage implements AddressBookStorage {
+
+    public static final long DEFAULT_MAX_JOURNAL_BYTES = 1 << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalingAddressBookStorage.class);
+    private static final String JOURNAL_SUFFIX = ".journal";
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final long maxJournalBytes;
+
+    /** State of the address book as last saved or read, or null if nothing was saved or read yet. */
+    private SavedState saved;
+    private long journalBytes;
+
+    public JournalingAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_MAX_JOURNAL_BYTES);
+    }
+
+    /**
+     * Creates a storage for the snapshot file {@code filePath} that rewrites the snapshot whenever the journal would
+     * grow past {@code maxJournalBytes}.
+     */
+    public JournalingAddressBookStorage(Path filePath, long maxJournalBytes) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.journalPath = getJournalPath(filePath);
+        this.maxJournalBytes = maxJournalBytes;
+    }
+
+    /**
+     * Returns the path of the journal kept for the snapshot file {@code filePath}.
+     */
+    public static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Reading another file than this storage's does not affect what the next save of this storage writes.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<AddressBook> snapshot;
+        JournalStatus journalStatus;
+        try {
+            snapshot = new JsonAddressBookReader().read(filePath);
+            if (snapshot.isEmpty()) {
+                return Optional.empty();
+            }
+            journalStatus = replayJournal(filePath, snapshot.get());
+        } catch (IOException e) {
+            logger.warning("Error reading from file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        AddressBook addressBook = snapshot.get();
+        if (filePath.equals(this.filePath)) {
+            rememberRead(addressBook, journalStatus);
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Another file than this storage's is written in full, as a plain address book json file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeJsonFile(addressBook, filePath);
+            return;
+        }
+
+        JsonAddressBookChange change = saved == null ? null : saved.changeTo(addressBook);
+        if (change == null) {
+            writeSnapshot(addressBook);
+            return;
+        }
+        if (change.isEmpty()) {
+            return;
+        }
+
+        byte[] line = (JsonUtil.toCompactJsonString(change) + "\n").getBytes(StandardCharsets.UTF_8);
+        if (journalBytes + line.length > maxJournalBytes) {
+            writeSnapshot(addressBook);
+            return;
+        }
+        if (journalBytes == 0) {
+            startJournal();
+        }
+        Files.write(journalPath, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        journalBytes += line.length;
+        saved = SavedState.of(addressBook);
+    }
+
+    private static void writeJsonFile(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonUtil.writeJsonFile(filePath, false, generator -> JsonSerializableAddressBook.write(addressBook, generator));
+    }
+
+    /**
+     * Records {@code addressBook}, just read from this storage's file, as the state that the next save is compared
+     * with, and how much of the journal is already in use.
+     */
+    private void rememberRead(AddressBook addressBook, JournalStatus journalStatus) throws DataLoadingException {
+        switch (journalStatus) {
+        case COMPLETE:
+            saved = SavedState.of(addressBook);
+            try {
+                journalBytes = Files.size(journalPath);
+            } catch (IOException e) {
+                throw new DataLoadingException(e);
+            }
+            break;
+        case INCOMPLETE:
+            // Appending after a cut short line would corrupt the journal, so the next save rewrites the snapshot.
+            saved = null;
+            break;
+        default:
+            saved = SavedState.of(addressBook);
+            journalBytes = 0;
+        }
+    }
+
+    /**
+     * Rewrites the snapshot with {@code addressBook} and discards the journal.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        writeJsonFile(addressBook, filePath);
+        // Once the snapshot is written, a journal left behind by a failure here no longer matches it and is ignored.
+        Files.deleteIfExists(journalPath);
+        journalBytes = 0;
+        saved = SavedState.of(addressBook);
+    }
+
+    /**
+     * Starts a new journal on the current snapshot file.
+     */
+    private void startJournal() throws IOException {
+        JsonJournalHeader header = new JsonJournalHeader(Files.size(filePath),
+                Files.getLastModifiedTime(filePath).toMillis());
+        byte[] line = (JsonUtil.toCompactJsonString(header) + "\n").getBytes(StandardCharsets.UTF_8);
+        Files.write(journalPath, line, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        journalBytes = line.length;
+    }
+
+    /**
+     * Applies the changes in the journal of the snapshot file {@code filePath} to {@code addressBook}, which was
+     * read from that snapshot file. A journal that was not started on the snapshot file is ignored, and so is a
+     * last line that was cut short, e.g. by the application being stopped while writing it.
+     */
+    private JournalStatus replayJournal(Path filePath, AddressBook addressBook)
+            throws DataLoadingException, IllegalValueException {
+        Path journal = getJournalPath(filePath);
+        if (!Files.exists(journal)) {
+            return JournalStatus.NONE;
+        }
+
+        List<String> lines;
+        JsonJournalHeader header;
+        try {
+            lines = Files.readAllLines(journal, StandardCharsets.UTF_8);
+            if (lines.isEmpty()) {
+                return JournalStatus.NONE;
+            }
+            header = JsonUtil.fromJsonString(lines.get(0), JsonJournalHeader.class);
+            if (!header.matches(Files.size(filePath), Files.getLastModifiedTime(filePath).toMillis())) {
+                logger.info("Ignoring journal " + journal + " as it was not started on the current snapshot.");
+                return JournalStatus.NONE;
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from journal " + journal + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        for (int i = 1; i < lines.size(); i++) {
+            JsonAddressBookChange change;
+            try {
+                change = JsonUtil.fromJsonString(lines.get(i), JsonAddressBookChange.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last line of journal " + journal + ": " + e);
+                    return JournalStatus.INCOMPLETE;
+                }
+                logger.warning("Error reading from journal " + journal + ": " + e);
+                throw new DataLoadingException(e);
+            }
+            change.applyTo(addressBook);
+        }
+        return JournalStatus.COMPLETE;
+    }
+
+    /**
+     * How much of the journal of a snapshot file could be replayed.
+     */
+    private enum JournalStatus {
+        /** There is no journal for the snapshot file, or it was not started on it. */
+        NONE,
+        /** Every line of the journal was replayed. */
+        COMPLETE,
+        /** Every line but an incomplete last line was replayed. */
+        INCOMPLETE
+    }
+
+    /**
+     * The point in the chain of changes of an address book, and the state of its audit log, as they were when it
+     * was last saved or read.
+     *
+     * @param change the latest change made to the persons and teams, or null if they were not tracked.
+     * @param auditLogSize the number of audit log entries.
+     * @param newestAuditEntry the newest audit log entry, or null if the audit log was empty.
+     */
+    private record SavedState(DataChange change, int auditLogSize, AuditLogEntry newestAuditEntry) {
+
+        static SavedState of(ReadOnlyAddressBook addressBook) {
+            List<AuditLogEntry> entries = addressBook.getAuditLog().getEntries();
+            return new SavedState(addressBook.getLatestChange(), entries.size(),
+                    entries.isEmpty() ? null : entries.get(0));
+        }
+
+        /**
+         * Returns the change from this state to {@code addressBook}, or null if the change cannot be replayed
+         * as a {@link JsonAddressBookChange}, e.g. because persons were reordered or audit log entries were removed.
+         * The persons and teams to record are read from the chain of changes of the address book, so only the
+         * teams that changed are looked up and nothing else is compared.
+         */
+        JsonAddressBookChange changeTo(ReadOnlyAddressBook addressBook) {
+            DataChange latest = addressBook.getLatestChange();
+            if (change == null || latest == null) {
+                return null;
+            }
+            Optional<DataChange.Changes> changes = change.changesUntil(latest);
+            if (changes.isEmpty()) {
+                return null;
+            }
+
+            JsonAddressBookChange jsonChange = new JsonAddressBookChange();
+            changes.get().persons().forEach((personId, person) -> {
+                if (person == null) {
+                    jsonChange.recordRemovedPerson(personId);
+                } else {
+                    jsonChange.recordPerson(person);
+                }
+            });
+            recordTeams(changes.get().teamIds(), addressBook.getTeamList(), jsonChange);
+
+            List<AuditLogEntry> entries = addressBook.getAuditLog().getEntries();
+            int newEntries = entries.size() - auditLogSize;
+            if (newEntries < 0 || (auditLogSize > 0 && !isSameEntry(entries.get(newEntries), newestAuditEntry))) {
+                return null;
+            }
+            for (int i = newEntries - 1; i >= 0; i--) {
+                jsonChange.recordAuditEntry(entries.get(i));
+            }
+            return jsonChange;
+        }
+
+        /**
+         * Records the teams with ids {@code teamIds} in {@code jsonChange}, in that order, as they are in
+         * {@code teams}, or as removed if they are not in {@code teams}.
+         */
+        private static void recordTeams(Set<String> teamIds, List<Team> teams, JsonAddressBookChange jsonChange) {
+            if (teamIds.isEmpty()) {
+                return;
+            }
+            Map<String, Team> changedTeams = new HashMap<>();
+            for (Team team : teams) {
+                if (teamIds.contains(team.getId())) {
+                    changedTeams.put(team.getId(), team);
+                }
+            }
+            for (String teamId : teamIds) {
+                Team team = changedTeams.get(teamId);
+                if (team == null) {
+                    jsonChange.recordRemovedTeam(teamId);
+                } else {
+                    jsonChange.recordTeam(team);
+                }
+            }
+        }
+
+        private static boolean isSameEntry(AuditLogEntry entry, AuditLogEntry other) {
+            return entry == other || (entry.getTimestamp().equals(other.getTimestamp())
+                    && entry.getAction().equals(other.getAction())
+                    && entry.getDetails().equals(other.getDetails()));
+        }
+    }
+}
@@ -2,12 +2,16 @@ package seedu.address.storage;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.audit.AuditLogEntry;
+import seedu.address.model.audit.FieldChange;
 
 /**
  * Jackson-friendly version of {@link AuditLogEntry}.
@@ -19,20 +23,30 @@ class JsonAdaptedAuditLogEntry {
     private final String timestamp;
     private final String action;
     private final String details;
+    /** Left out when empty, which keeps entries without changes as they were written before changes were kept. */
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<JsonAdaptedFieldChange> changes = new ArrayList<>();
 
     @JsonCreator
     public JsonAdaptedAuditLogEntry(@JsonProperty("timestamp") String timestamp,
                                     @JsonProperty("action") String action,
-                                    @JsonProperty("details") String details) {
+                                    @JsonProperty("details") String details,
+                                    @JsonProperty("changes") List<JsonAdaptedFieldChange> changes) {
         this.timestamp = timestamp;
         this.action = action;
         this.details = details;
+        if (changes != null) {
+            this.changes.addAll(changes);
+        }
     }
 
     public JsonAdaptedAuditLogEntry(AuditLogEntry source) {
         timestamp = source.getTimestamp().format(FORMATTER);
         action = source.getAction();
         details = source.getDetails();
+        for (FieldChange change : source.getChanges()) {
+            changes.add(new JsonAdaptedFieldChange(change));
+        }
     }
 
     public AuditLogEntry toModelType() throws IllegalValueException {
@@ -40,6 +54,10 @@ class JsonAdaptedAuditLogEntry {
             throw new IllegalValueException("Missing audit log entry fields");
         }
         LocalDateTime dateTime = LocalDateTime.parse(timestamp, FORMATTER);
-        return new AuditLogEntry(dateTime, action, details);
+        List<FieldChange> modelChanges = new ArrayList<>();
+        for (JsonAdaptedFieldChange change : changes) {
+            modelChanges.add(change.toModelType());
+        }
+        return new AuditLogEntry(dateTime, action, details, modelChanges);
     }
 }
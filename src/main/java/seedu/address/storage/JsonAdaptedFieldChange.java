@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.audit.FieldChange;
+
+/**
+ * Jackson-friendly version of {@link FieldChange}.
+ */
+class JsonAdaptedFieldChange {
+
+    private final String entityId;
+    private final String field;
+    private final String before;
+    private final String after;
+
+    /**
+     * Constructs a {@code JsonAdaptedFieldChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedFieldChange(@JsonProperty("entityId") String entityId, @JsonProperty("field") String field,
+                                  @JsonProperty("before") String before, @JsonProperty("after") String after) {
+        this.entityId = entityId;
+        this.field = field;
+        this.before = before;
+        this.after = after;
+    }
+
+    /**
+     * Converts a given {@code FieldChange} into this class for Jackson use.
+     */
+    public JsonAdaptedFieldChange(FieldChange source) {
+        entityId = source.entityId();
+        field = source.field();
+        before = source.before();
+        after = source.after();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change object into the model's {@code FieldChange} object.
+     *
+     * @throws IllegalValueException if the entity id or field is missing.
+     */
+    public FieldChange toModelType() throws IllegalValueException {
+        if (entityId == null || field == null) {
+            throw new IllegalValueException("Missing audit log field change fields");
+        }
+        return new FieldChange(entityId, field, before, after);
+    }
+}
@@ -72,7 +72,7 @@ class JsonAdaptedPerson {
         email = source.email().value();
         address = source.address().value();
         gitHubUsername = source.gitHubUsername().value();
-        salary = String.valueOf(source.salary().toDouble());
+        salary = source.salary().toPlainString();
         if (!source.teamIds().isEmpty()) {
             teamIds.addAll(source.teamIds());
         }
@@ -143,7 +143,7 @@ class JsonAdaptedPerson {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Salary.class.getSimpleName()));
         }
-        final Salary modelSalary = new Salary(Double.parseDouble(salary));
+        final Salary modelSalary = Salary.parse(salary);
 
         return new Person(id, modelName, modelPhone, modelEmail, modelAddress,
                 modelGitHubUsername, teamIds, modelTags, modelSalary);
@@ -0,0 +1,159 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.audit.AuditLogEntry;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.team.Team;
+
+/**
+ * A change to an address book that is serializable to JSON format, recorded as one line of the journal kept by
+ * {@link JournalingAddressBookStorage}. Empty lists are left out to keep the line short.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+class JsonAddressBookChange {
+
+    public static final String MESSAGE_DUPLICATE_PERSON = "Journal leaves two persons with the same name.";
+
+    /** Persons that were added or changed, in the order they appear in the address book. */
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private final List<String> removedPersonIds = new ArrayList<>();
+    /** Teams that were added or changed, in the order they appear in the address book. */
+    private final List<JsonAdaptedTeam> teams = new ArrayList<>();
+    private final List<String> removedTeamIds = new ArrayList<>();
+    /** New audit log entries, oldest first. */
+    private final List<JsonAdaptedAuditLogEntry> auditLog = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAddressBookChange} with the given changes.
+     */
+    @JsonCreator
+    public JsonAddressBookChange(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+                                 @JsonProperty("removedPersonIds") List<String> removedPersonIds,
+                                 @JsonProperty("teams") List<JsonAdaptedTeam> teams,
+                                 @JsonProperty("removedTeamIds") List<String> removedTeamIds,
+                                 @JsonProperty("auditLog") List<JsonAdaptedAuditLogEntry> auditLog) {
+        addAllIfPresent(this.persons, persons);
+        addAllIfPresent(this.removedPersonIds, removedPersonIds);
+        addAllIfPresent(this.teams, teams);
+        addAllIfPresent(this.removedTeamIds, removedTeamIds);
+        addAllIfPresent(this.auditLog, auditLog);
+    }
+
+    /**
+     * Constructs an empty change, to be filled in by the {@code record} methods.
+     */
+    public JsonAddressBookChange() {}
+
+    public void recordPerson(Person person) {
+        persons.add(new JsonAdaptedPerson(person));
+    }
+
+    public void recordRemovedPerson(String personId) {
+        removedPersonIds.add(personId);
+    }
+
+    public void recordTeam(Team team) {
+        teams.add(new JsonAdaptedTeam(team));
+    }
+
+    public void recordRemovedTeam(String teamId) {
+        removedTeamIds.add(teamId);
+    }
+
+    public void recordAuditEntry(AuditLogEntry entry) {
+        auditLog.add(new JsonAdaptedAuditLogEntry(entry));
+    }
+
+    /**
+     * Returns true if this change records nothing.
+     */
+    public boolean isEmpty() {
+        return persons.isEmpty() && removedPersonIds.isEmpty() && teams.isEmpty() && removedTeamIds.isEmpty()
+                && auditLog.isEmpty();
+    }
+
+    /**
+     * Applies this change to {@code addressBook}. Removals are applied first, then additions and changes, so
+     * that persons and teams added by this change end up at the end of their lists, as they did when recorded.
+     * The persons are replaced all at once, as the changes to them were not necessarily made in the order
+     * recorded, e.g. a person may take the name another person gave up later in the same change.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        applyToPersons(addressBook);
+        for (String teamId : removedTeamIds) {
+            Team team = addressBook.getTeamById(teamId);
+            if (team != null) {
+                addressBook.removeTeam(team);
+            }
+        }
+        for (JsonAdaptedTeam jsonAdaptedTeam : teams) {
+            Team team = jsonAdaptedTeam.toModelType();
+            Team existing = addressBook.getTeamById(team.getId());
+            if (existing == null) {
+                addressBook.addTeam(team);
+            } else {
+                addressBook.setTeam(existing, team);
+            }
+        }
+        List<AuditLogEntry> entries = new ArrayList<>();
+        for (JsonAdaptedAuditLogEntry jsonAdaptedEntry : auditLog) {
+            entries.add(jsonAdaptedEntry.toModelType());
+        }
+        addressBook.getAuditLog().addEntries(entries);
+    }
+
+    /**
+     * Replaces the persons of {@code addressBook} with those after this change, checking that their names are
+     * unique only once all of them are in place.
+     */
+    private void applyToPersons(AddressBook addressBook) throws IllegalValueException {
+        if (persons.isEmpty() && removedPersonIds.isEmpty()) {
+            return;
+        }
+        Set<String> removed = new HashSet<>(removedPersonIds);
+        List<Person> updated = new ArrayList<>();
+        Map<String, Integer> positionsById = new HashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            if (!removed.contains(person.id())) {
+                positionsById.put(person.id(), updated.size());
+                updated.add(person);
+            }
+        }
+        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+            Person person = jsonAdaptedPerson.toModelType();
+            Integer position = positionsById.get(person.id());
+            if (position == null) {
+                positionsById.put(person.id(), updated.size());
+                updated.add(person);
+            } else {
+                updated.set(position, person);
+            }
+        }
+        try {
+            addressBook.setPersons(updated);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+    }
+
+    private static <T> void addAllIfPresent(List<T> target, List<T> source) {
+        if (source != null) {
+            target.addAll(source);
+        }
+    }
+}
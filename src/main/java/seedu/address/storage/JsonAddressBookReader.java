@@ -0,0 +1,183 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.audit.AuditLogEntry;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * Reads an address book json file, in the format written by {@link JsonSerializableAddressBook}, with a streaming
+ * parser.
+ *
+ * Persons, teams and audit log entries are parsed in file order and handed out in batches to be validated and
+ * converted to the model's objects in parallel, while the parser moves on. The results are then added to the
+ * address book in file order, so the address book and the first invalid record reported are the same as when the
+ * file is read whole with {@link JsonSerializableAddressBook#toModelType()}.
+ */
+class JsonAddressBookReader {
+
+    static final int BATCH_SIZE = 256;
+
+    private final Executor executor;
+
+    /**
+     * Creates a reader that converts records on the common {@link ForkJoinPool}.
+     */
+    JsonAddressBookReader() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a reader that converts records on {@code executor}.
+     */
+    JsonAddressBookReader(Executor executor) {
+        requireNonNull(executor);
+        this.executor = executor;
+    }
+
+    /**
+     * Reads the address book in {@code filePath}, or returns {@code Optional.empty()} if the file does not exist.
+     *
+     * @throws IOException if the file cannot be read or is not valid json.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    Optional<AddressBook> read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return Optional.of(read(parser));
+        }
+    }
+
+    private AddressBook read(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+
+        List<CompletableFuture<List<Person>>> persons = new ArrayList<>();
+        List<CompletableFuture<List<Team>>> teams = new ArrayList<>();
+        List<CompletableFuture<List<AuditLogEntry>>> auditLogEntries = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case "persons":
+                readArray(parser, JsonAdaptedPerson.class, JsonAdaptedPerson::toModelType, persons);
+                break;
+            case "teams":
+                readArray(parser, JsonAdaptedTeam.class, JsonAdaptedTeam::toModelType, teams);
+                break;
+            case "auditLog":
+                readArray(parser, JsonAdaptedAuditLogEntry.class, JsonAdaptedAuditLogEntry::toModelType,
+                        auditLogEntries);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+
+        AddressBook.Builder builder = new AddressBook.Builder();
+        for (Person person : joinInOrder(persons)) {
+            builder.addPerson(person);
+        }
+        for (Team team : joinInOrder(teams)) {
+            builder.addTeam(team);
+        }
+        for (AuditLogEntry entry : joinInOrder(auditLogEntries)) {
+            builder.addAuditEntry(entry);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Parses the array at the current token of {@code parser} into objects of {@code adaptedClass}, and adds to
+     * {@code batches} one conversion for every {@link #BATCH_SIZE} of them. A null array is read as an empty one.
+     */
+    private <A, M> void readArray(JsonParser parser, Class<A> adaptedClass, Converter<A, M> converter,
+            List<CompletableFuture<List<M>>> batches) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array");
+        }
+
+        List<A> batch = new ArrayList<>(BATCH_SIZE);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            batch.add(parser.readValueAs(adaptedClass));
+            if (batch.size() == BATCH_SIZE) {
+                batches.add(convertLater(batch, converter));
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(convertLater(batch, converter));
+        }
+    }
+
+    private <A, M> CompletableFuture<List<M>> convertLater(List<A> batch, Converter<A, M> converter) {
+        return CompletableFuture.supplyAsync(() -> {
+            List<M> converted = new ArrayList<>(batch.size());
+            for (A adapted : batch) {
+                try {
+                    converted.add(converter.convert(adapted));
+                } catch (IllegalValueException ive) {
+                    throw new CompletionException(ive);
+                }
+            }
+            return converted;
+        }, executor);
+    }
+
+    /**
+     * Waits for the conversion of every batch and returns the converted objects in file order.
+     *
+     * @throws IllegalValueException if any object is invalid, for the first such object in file order.
+     */
+    private static <M> List<M> joinInOrder(List<CompletableFuture<List<M>>> batches) throws IllegalValueException {
+        List<M> converted = new ArrayList<>();
+        for (CompletableFuture<List<M>> batch : batches) {
+            try {
+                converted.addAll(batch.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof IllegalValueException ive) {
+                    throw ive;
+                }
+                if (e.getCause() instanceof RuntimeException re) {
+                    throw re;
+                }
+                throw e;
+            }
+        }
+        return converted;
+    }
+
+    /**
+     * Converts a Jackson-friendly adapted object into the model's object.
+     */
+    @FunctionalInterface
+    private interface Converter<A, M> {
+        M convert(A adapted) throws IllegalValueException;
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The first line of the journal kept by {@link JournalingAddressBookStorage}, identifying the snapshot file the
+ * journal was started on. A journal whose header does not match the snapshot file is left over from before the
+ * snapshot was last written, and its changes are already part of the snapshot.
+ */
+class JsonJournalHeader {
+
+    private final long snapshotSize;
+    private final long snapshotModifiedMillis;
+
+    /**
+     * Constructs a {@code JsonJournalHeader} for a snapshot file of the given size and modification time.
+     */
+    @JsonCreator
+    public JsonJournalHeader(@JsonProperty("snapshotSize") long snapshotSize,
+                             @JsonProperty("snapshotModifiedMillis") long snapshotModifiedMillis) {
+        this.snapshotSize = snapshotSize;
+        this.snapshotModifiedMillis = snapshotModifiedMillis;
+    }
+
+    /**
+     * Returns true if this header was written for a snapshot file of the given size and modification time.
+     */
+    public boolean matches(long size, long modifiedMillis) {
+        return snapshotSize == size && snapshotModifiedMillis == modifiedMillis;
+    }
+}
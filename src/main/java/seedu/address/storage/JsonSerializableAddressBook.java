@@ -1,11 +1,13 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
@@ -54,26 +56,50 @@ class JsonSerializableAddressBook {
                 .map(JsonAdaptedAuditLogEntry::new).toList());
     }
 
+    /**
+     * Writes {@code source} to {@code generator} in the same format as this class is serialized to, converting one
+     * person, team or audit log entry at a time instead of the whole address book at once.
+     */
+    public static void write(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("persons");
+        for (Person person : source.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("teams");
+        for (Team team : source.getTeamList()) {
+            generator.writeObject(new JsonAdaptedTeam(team));
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("auditLog");
+        for (AuditLogEntry entry : source.getAuditLog().getEntries()) {
+            generator.writeObject(new JsonAdaptedAuditLogEntry(entry));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
     /**
      * Converts this address book into the model's {@code AddressBook} object.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        AddressBook.Builder builder = new AddressBook.Builder();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
             Person person = jsonAdaptedPerson.toModelType();
-            addressBook.addPerson(person);
+            builder.addPerson(person);
         }
         for (JsonAdaptedTeam jsonAdaptedTeam : teams) {
             Team team = jsonAdaptedTeam.toModelType();
-            addressBook.addTeam(team);
+            builder.addTeam(team);
         }
         for (JsonAdaptedAuditLogEntry jsonAdaptedEntry : auditLogEntries) {
             AuditLogEntry entry = jsonAdaptedEntry.toModelType();
-            addressBook.getAuditLog().addEntry(entry.getAction(), entry.getDetails(), entry.getTimestamp());
+            builder.addAuditEntry(entry);
         }
-        return addressBook;
+        return builder.build();
     }
 
 }
@@ -0,0 +1,295 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.LruCache;
+import seedu.address.model.audit.AuditLog;
+import seedu.address.model.audit.AuditLogEntry;
+
+/**
+ * A class to access the audit log stored as append-only segment files in a directory on the hard disk.
+ *
+ * Each segment holds consecutive entries, one compact json object per line, oldest first, and is named after the
+ * number of its first entry, so that the segment holding any entry can be found without reading the others.
+ * New entries are appended to the newest segment until it grows past a maximum size, and then a new segment is
+ * started. A last line that was cut short, e.g. by the application being stopped while writing it, is removed
+ * before anything more is appended.
+ *
+ * Segments that are no longer appended to never change, so the entries of the most recently read of them are kept
+ * parsed, which lets entries of the same few segments be read one at a time without reading the files again.
+ *
+ * Appending only takes the lock of the pending entries, which is never held while the files are read or written,
+ * so the thread that appends entries does not wait for a save in progress. Reading and saving the files take a
+ * separate lock.
+ */
+public class SegmentedAuditLogStorage implements AuditLogStorage {
+
+    public static final long DEFAULT_MAX_SEGMENT_BYTES = 256 * 1024;
+    public static final int DEFAULT_SEGMENT_CACHE_CAPACITY = 8;
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAuditLogStorage.class);
+    private static final String DIRECTORY_SUFFIX = ".audit";
+    private static final String SEGMENT_NAME_FORMAT = "segment-%012d.log";
+    private static final Pattern SEGMENT_NAME_PATTERN = Pattern.compile("segment-(\\d{12})\\.log");
+
+    private final Path directory;
+    private final long maxSegmentBytes;
+    /** Entries appended but not yet written, oldest first. Guarded by this storage's lock. */
+    private final List<AuditLogEntry> pending = new ArrayList<>();
+    /** Guards the segment files and the fields below. It is taken before this storage's lock, never after it. */
+    private final Object fileLock = new Object();
+    /** The entries of segments that are no longer appended to, by the number of their first entry. */
+    private final LruCache<Long, List<AuditLogEntry>> closedSegments = new LruCache<>(DEFAULT_SEGMENT_CACHE_CAPACITY);
+
+    /** The segments by the number of their first entry, or null until the directory has been read. */
+    private NavigableMap<Long, Path> segments;
+    /** Number of entries written to the segments. */
+    private long storedEntryCount;
+    private long lastSegmentSize;
+
+    public SegmentedAuditLogStorage(Path directory) {
+        this(directory, DEFAULT_MAX_SEGMENT_BYTES);
+    }
+
+    /**
+     * Creates a storage for the audit log in {@code directory}, which starts a new segment once the newest one
+     * grows past {@code maxSegmentBytes}.
+     */
+    public SegmentedAuditLogStorage(Path directory, long maxSegmentBytes) {
+        requireNonNull(directory);
+        this.directory = directory;
+        this.maxSegmentBytes = maxSegmentBytes;
+    }
+
+    /**
+     * Returns the directory the audit log of the address book file {@code addressBookFilePath} is kept in.
+     */
+    public static Path getDirectoryFor(Path addressBookFilePath) {
+        return addressBookFilePath.resolveSibling(addressBookFilePath.getFileName() + DIRECTORY_SUFFIX);
+    }
+
+    @Override
+    public Path getAuditLogDirectoryPath() {
+        return directory;
+    }
+
+    @Override
+    public synchronized void append(AuditLogEntry entry) {
+        requireNonNull(entry);
+        pending.add(entry);
+    }
+
+    @Override
+    public AuditLog readAuditLog() throws DataLoadingException {
+        synchronized (fileLock) {
+            try {
+                readSegmentNames();
+                long fromIndex = Math.max(0, storedEntryCount - AuditLog.DEFAULT_TAIL_CAPACITY);
+                return new AuditLog(readStoredEntries(fromIndex, storedEntryCount), storedEntryCount);
+            } catch (IOException e) {
+                logger.warning("Error reading from audit log " + directory + ": " + e);
+                throw new DataLoadingException(e);
+            }
+        }
+    }
+
+    @Override
+    public List<AuditLogEntry> readEntries(long fromIndex, long toIndex) throws IOException {
+        synchronized (fileLock) {
+            readSegmentNames();
+            List<AuditLogEntry> entries = readStoredEntries(fromIndex, Math.min(toIndex, storedEntryCount));
+            synchronized (this) {
+                for (long index = Math.max(fromIndex, storedEntryCount); index < toIndex; index++) {
+                    long pendingIndex = index - storedEntryCount;
+                    if (pendingIndex >= pending.size()) {
+                        break;
+                    }
+                    entries.add(pending.get((int) pendingIndex));
+                }
+            }
+            return entries;
+        }
+    }
+
+    /**
+     * Writes the entries appended so far to the segments. The entries are taken from the pending entries under the
+     * lock, and written without holding it; they stay pending until they are written, so that a failed save is
+     * retried by the next one.
+     */
+    @Override
+    public void saveAuditLog() throws IOException {
+        synchronized (fileLock) {
+            List<AuditLogEntry> toSave;
+            synchronized (this) {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                toSave = new ArrayList<>(pending);
+            }
+            readSegmentNames();
+            Files.createDirectories(directory);
+
+            int saved = 0;
+            while (saved < toSave.size()) {
+                boolean isNewSegment = segments.isEmpty() || lastSegmentSize >= maxSegmentBytes;
+                Path segment = isNewSegment
+                        ? directory.resolve(String.format(SEGMENT_NAME_FORMAT, storedEntryCount))
+                        : segments.lastEntry().getValue();
+                long segmentSize = isNewSegment ? 0 : lastSegmentSize;
+
+                ByteArrayOutputStream lines = new ByteArrayOutputStream();
+                int lineCount = 0;
+                while (saved + lineCount < toSave.size() && segmentSize + lines.size() < maxSegmentBytes) {
+                    AuditLogEntry entry = toSave.get(saved + lineCount);
+                    String line = JsonUtil.toCompactJsonString(new JsonAdaptedAuditLogEntry(entry));
+                    lines.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+                    lineCount++;
+                }
+                writeSegment(segment, segmentSize, lines.toByteArray());
+
+                if (isNewSegment) {
+                    segments.put(storedEntryCount, segment);
+                }
+                lastSegmentSize = segmentSize + lines.size();
+                synchronized (this) {
+                    storedEntryCount += lineCount;
+                    pending.subList(0, lineCount).clear();
+                }
+                saved += lineCount;
+            }
+        }
+    }
+
+    /**
+     * Appends {@code lines} to {@code segment}, which holds {@code segmentSize} bytes of complete lines. Whatever
+     * follows them, e.g. part of a line left by a write that failed, is removed first.
+     */
+    private static void writeSegment(Path segment, long segmentSize, byte[] lines) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            if (channel.size() > segmentSize) {
+                channel.truncate(segmentSize);
+            }
+            channel.position(segmentSize);
+            ByteBuffer buffer = ByteBuffer.wrap(lines);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Finds the segments in the directory, if not already done, and counts the entries stored in them.
+     */
+    private void readSegmentNames() throws IOException {
+        if (segments != null) {
+            return;
+        }
+
+        NavigableMap<Long, Path> found = new TreeMap<>();
+        if (Files.isDirectory(directory)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+                for (Path file : files) {
+                    Matcher matcher = SEGMENT_NAME_PATTERN.matcher(file.getFileName().toString());
+                    if (matcher.matches()) {
+                        found.put(Long.parseLong(matcher.group(1)), file);
+                    }
+                }
+            }
+        }
+
+        storedEntryCount = 0;
+        lastSegmentSize = 0;
+        if (!found.isEmpty()) {
+            Map.Entry<Long, Path> last = found.lastEntry();
+            byte[] bytes = Files.readAllBytes(last.getValue());
+            int completeLength = bytes.length;
+            while (completeLength > 0 && bytes[completeLength - 1] != '\n') {
+                completeLength--;
+            }
+            if (completeLength < bytes.length) {
+                logger.warning("Removing incomplete last line of audit log segment " + last.getValue());
+                try (FileChannel channel = FileChannel.open(last.getValue(), StandardOpenOption.WRITE)) {
+                    channel.truncate(completeLength);
+                }
+            }
+
+            int lineCount = 0;
+            for (int i = 0; i < completeLength; i++) {
+                if (bytes[i] == '\n') {
+                    lineCount++;
+                }
+            }
+            storedEntryCount = last.getKey() + lineCount;
+            lastSegmentSize = completeLength;
+        }
+        segments = found;
+    }
+
+    /**
+     * Returns the stored entries numbered from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive, oldest
+     * first, reading only the segments that hold them.
+     */
+    private List<AuditLogEntry> readStoredEntries(long fromIndex, long toIndex) throws IOException {
+        List<AuditLogEntry> entries = new ArrayList<>();
+        if (fromIndex >= toIndex) {
+            return entries;
+        }
+
+        Long firstSegment = segments.floorKey(fromIndex);
+        for (Map.Entry<Long, Path> segment : segments.tailMap(firstSegment == null ? 0 : firstSegment, true)
+                .entrySet()) {
+            long firstIndex = segment.getKey();
+            if (firstIndex >= toIndex) {
+                break;
+            }
+            List<AuditLogEntry> segmentEntries = firstIndex == segments.lastKey()
+                    ? readSegment(segment.getValue())
+                    : closedSegments.get(firstIndex, key -> readSegment(segment.getValue()));
+            int from = (int) Math.max(0, fromIndex - firstIndex);
+            int to = (int) Math.min(segmentEntries.size(), toIndex - firstIndex);
+            if (from < to) {
+                entries.addAll(segmentEntries.subList(from, to));
+            }
+        }
+        return entries;
+    }
+
+    private static List<AuditLogEntry> readSegment(Path segment) throws IOException {
+        List<AuditLogEntry> entries = new ArrayList<>();
+        for (String line : Files.readAllLines(segment, StandardCharsets.UTF_8)) {
+            entries.add(parseEntry(line, segment));
+        }
+        return entries;
+    }
+
+    private static AuditLogEntry parseEntry(String line, Path segment) throws IOException {
+        try {
+            return JsonUtil.fromJsonString(line, JsonAdaptedAuditLogEntry.class).toModelType();
+        } catch (IllegalValueException | DateTimeParseException e) {
+            throw new IOException("Invalid audit log entry in " + segment + ": " + e.getMessage(), e);
+        }
+    }
+}
@@ -2,30 +2,51 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.DataChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.audit.AuditLog;
+import seedu.address.model.audit.AuditLogEntry;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * The audit log is kept in its own storage, so it is left out of the address book data file.
  */
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private AuditLogStorage auditLogStorage;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}, which
+     * keeps the audit log next to the address book data file.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, new SegmentedAuditLogStorage(
+                SegmentedAuditLogStorage.getDirectoryFor(addressBookStorage.getAddressBookFilePath())));
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage}, {@code UserPrefStorage} and
+     * {@code AuditLogStorage}.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            AuditLogStorage auditLogStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.auditLogStorage = auditLogStorage;
     }
 
     // ================ UserPrefs methods ==============================
@@ -64,15 +85,88 @@ public class StorageManager implements Storage {
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    /**
+     * Saves the persons and teams of {@code addressBook} to the data file, and writes out the audit log entries
+     * appended since the last save.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAuditLog();
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
     }
 
+    /**
+     * Saves the persons and teams of {@code addressBook} to {@code filePath}.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        addressBookStorage.saveAddressBook(withoutAuditLog(addressBook), filePath);
+    }
+
+    /**
+     * Returns a view of the persons and teams of {@code addressBook}, with an empty audit log.
+     * The audit log is deliberately left out: its entries are written to {@code auditLogStorage} by
+     * {@link #saveAuditLog()}, so an address book data file saved through this manager holds no audit log entries,
+     * and reading it back gives an empty audit log. {@code MainApp} loads the entries from {@link #readAuditLog()}.
+     */
+    private static ReadOnlyAddressBook withoutAuditLog(ReadOnlyAddressBook addressBook) {
+        return new PersonsAndTeams(addressBook, new AuditLog());
+    }
+
+    /**
+     * The persons and teams of an address book, paired with an audit log that is not the address book's own.
+     */
+    private record PersonsAndTeams(ReadOnlyAddressBook addressBook, AuditLog auditLog)
+            implements ReadOnlyAddressBook {
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return addressBook.getPersonList();
+        }
+
+        @Override
+        public ObservableList<Team> getTeamList() {
+            return addressBook.getTeamList();
+        }
+
+        @Override
+        public AuditLog getAuditLog() {
+            return auditLog;
+        }
+
+        @Override
+        public DataChange getLatestChange() {
+            return addressBook.getLatestChange();
+        }
+    }
+
+    // ================ AuditLog methods ==============================
+
+    @Override
+    public Path getAuditLogDirectoryPath() {
+        return auditLogStorage.getAuditLogDirectoryPath();
+    }
+
+    @Override
+    public AuditLog readAuditLog() throws DataLoadingException {
+        logger.fine("Attempting to read audit log from: " + getAuditLogDirectoryPath());
+        return auditLogStorage.readAuditLog();
+    }
+
+    @Override
+    public void saveAuditLog() throws IOException {
+        auditLogStorage.saveAuditLog();
+    }
+
+    @Override
+    public void append(AuditLogEntry entry) {
+        auditLogStorage.append(entry);
+    }
+
+    @Override
+    public List<AuditLogEntry> readEntries(long fromIndex, long toIndex) throws IOException {
+        return auditLogStorage.readEntries(fromIndex, toIndex);
     }
 
 }
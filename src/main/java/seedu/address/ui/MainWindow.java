@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -128,6 +129,8 @@ public class MainWindow extends UiPart<Stage> {
 
         organizationPanel = new OrganizationPanel(logic.getOrganizationHierarchyString());
         organizationPanelPlaceholder.getChildren().add(organizationPanel.getRoot());
+
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
     }
 
     /**
@@ -184,7 +187,9 @@ public class MainWindow extends UiPart<Stage> {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-            organizationPanel.updateDetails(logic.getOrganizationHierarchyString());
+            if (logic.hasHierarchyChanged()) {
+                organizationPanel.updateDetails(logic.getOrganizationHierarchyString());
+            }
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
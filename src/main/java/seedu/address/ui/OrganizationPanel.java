@@ -27,10 +27,14 @@ public class OrganizationPanel extends UiPart<Region> {
     }
 
     /**
-     * Updates the organization details displayed.
+     * Updates the organization details displayed. Nothing is re-rendered if the details are unchanged.
      * @param organizationHierarchyString the new details of the organization in Linux tree format.
      */
     public void updateDetails(String organizationHierarchyString) {
+        // The model hands back the same string until a team changes, so this is usually a reference check.
+        if (organizationHierarchyString.equals(organizationDetails.getText())) {
+            return;
+        }
         organizationDetails.setText(organizationHierarchyString);
     }
 }
@@ -39,10 +39,37 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_batchAndSaveInterval_success() {
+        parametersStub.namedParameters.put("batch", "commands.txt");
+        parametersStub.namedParameters.put("save-every", "1000");
+        expected.setBatchPath(Paths.get("commands.txt"));
+        expected.setSaveInterval(1000);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidSaveInterval_savesAtEnd() {
+        parametersStub.namedParameters.put("batch", "-");
+        parametersStub.namedParameters.put("save-every", "-5");
+        expected.setBatchPath(AppParameters.STANDARD_INPUT);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_commandLineArguments_namedParametersParsed() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setBatchPath(AppParameters.STANDARD_INPUT);
+        assertEquals(expected, AppParameters.parse(new String[] {"--config=config.json", "--batch=-", "unnamed",
+            "--=value"}));
+        assertEquals(new AppParameters(), AppParameters.parse(new String[0]));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", batchPath=" + appParameters.getBatchPath() + ", saveInterval=0}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +93,16 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different batch path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setBatchPath(AppParameters.STANDARD_INPUT);
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different save interval -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setSaveInterval(10);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
@@ -0,0 +1,56 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class LruCacheTest {
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LruCache<String, String>(0));
+    }
+
+    @Test
+    public void put_full_leastRecentlyUsedEvicted() {
+        LruCache<Integer, String> cache = new LruCache<>(2);
+        cache.put(1, "one");
+        cache.put(2, "two");
+        cache.get(1);
+        cache.put(3, "three");
+
+        assertEquals(2, cache.size());
+        assertEquals("one", cache.get(1));
+        assertNull(cache.get(2));
+        assertEquals("three", cache.get(3));
+    }
+
+    @Test
+    public void get_withLoader_loadsOnlyOnMiss() {
+        LruCache<Integer, String> cache = new LruCache<>(2);
+        List<Integer> loaded = new ArrayList<>();
+        LruCache.Loader<Integer, String, RuntimeException> loader = key -> {
+            loaded.add(key);
+            return "value " + key;
+        };
+
+        assertEquals("value 1", cache.get(1, loader));
+        assertEquals("value 1", cache.get(1, loader));
+        assertEquals(List.of(1), loaded);
+    }
+
+    @Test
+    public void get_loaderThrows_nothingCached() {
+        LruCache<Integer, String> cache = new LruCache<>(2);
+
+        assertThrows(Exception.class, () -> cache.get(1, key -> {
+            throw new Exception("cannot load");
+        }));
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.assertAcceptsSameAsRegex;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+
+    @Test
+    public void isDigits() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isDigits(null, 1, 2));
+
+        assertFalse(ValidationUtil.isDigits("1", 2, 3)); // too short
+        assertFalse(ValidationUtil.isDigits("1234", 2, 3)); // too long
+        assertFalse(ValidationUtil.isDigits("1a", 2, 3)); // letter
+        assertFalse(ValidationUtil.isDigits("1\u0663", 2, 3)); // digit outside ASCII
+
+        assertTrue(ValidationUtil.isDigits("", 0, 3));
+        assertTrue(ValidationUtil.isDigits("09", 2, 3));
+        assertAcceptsSameAsRegex(test -> ValidationUtil.isDigits(test, 2, 5), "\\d{2,5}", '0', 2);
+    }
+
+    @Test
+    public void isAlphanumeric() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumeric(null, 1, 2));
+
+        assertFalse(ValidationUtil.isAlphanumeric("", 1, 2)); // too short
+        assertFalse(ValidationUtil.isAlphanumeric("abc", 1, 2)); // too long
+        assertFalse(ValidationUtil.isAlphanumeric("a_", 1, 2)); // underscore
+        assertFalse(ValidationUtil.isAlphanumeric("\u00e9", 1, 2)); // letter outside ASCII
+
+        assertTrue(ValidationUtil.isAlphanumeric("a0", 1, 2));
+        assertAcceptsSameAsRegex(test -> ValidationUtil.isAlphanumeric(test, 1, 6), "\\p{Alnum}{1,6}", 'a', 3);
+    }
+
+    @Test
+    public void isSeparatedAlphanumeric() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isSeparatedAlphanumeric(null, '-', 1, 9));
+
+        assertFalse(ValidationUtil.isSeparatedAlphanumeric("", '-', 0, 9)); // no word
+        assertFalse(ValidationUtil.isSeparatedAlphanumeric("-a", '-', 1, 9)); // leading separator
+        assertFalse(ValidationUtil.isSeparatedAlphanumeric("a-", '-', 1, 9)); // trailing separator
+        assertFalse(ValidationUtil.isSeparatedAlphanumeric("a--b", '-', 1, 9)); // consecutive separators
+        assertFalse(ValidationUtil.isSeparatedAlphanumeric("a b", '-', 1, 9)); // other separator
+        assertFalse(ValidationUtil.isSeparatedAlphanumeric("a-b-c", '-', 1, 4)); // too long
+
+        assertTrue(ValidationUtil.isSeparatedAlphanumeric("a", '-', 1, 9));
+        assertTrue(ValidationUtil.isSeparatedAlphanumeric("ab-c-9", '-', 1, 9));
+        assertAcceptsSameAsRegex(test -> ValidationUtil.isSeparatedAlphanumeric(test, ' ', 2, 7),
+                "(?=.{2,7}$)\\p{Alnum}+( \\p{Alnum}+)*", 'a', 3, 5);
+    }
+}
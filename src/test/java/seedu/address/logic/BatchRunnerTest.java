@@ -0,0 +1,96 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class BatchRunnerTest {
+
+    private static final String ADD_ALICE = "add -name Alice Tan -hp 91234567 -em alice@example.com -addr Blk 1";
+    private static final String ADD_BOB = "add -name Bob Lim -hp 98765432 -em bob@example.com -addr Blk 2";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final List<ReadOnlyAddressBook> saved = new CopyOnWriteArrayList<>();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private Logic logic;
+    private BatchRunner runner;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                        saved.add(addressBook);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+        runner = new BatchRunner(logic, new PrintStream(output, true, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void run_commandsWithFailures_reportsFailuresAndRunsTheRest() throws Exception {
+        BatchRunner.Summary summary = run("# nightly sync", "", ADD_ALICE, "unknown-command", "  " + ADD_BOB,
+                "delete E9999", "list");
+
+        assertEquals(3, summary.succeeded());
+        assertEquals(2, summary.failed());
+        assertEquals(5, summary.commandCount());
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+
+        String printed = output.toString(StandardCharsets.UTF_8);
+        assertTrue(printed.contains("Line 4: unknown-command"), printed);
+        assertTrue(printed.contains("Line 6: delete E9999"), printed);
+    }
+
+    @Test
+    public void run_exitCommand_stopsReading() throws Exception {
+        BatchRunner.Summary summary = run(ADD_ALICE, "exit", ADD_BOB);
+
+        assertEquals(2, summary.succeeded());
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void run_saveIntervalZero_savesOnceAtEnd() throws Exception {
+        logic.setSaveInterval(0);
+        run(ADD_ALICE, ADD_BOB, "list");
+
+        assertEquals(1, saved.size());
+        assertEquals(model.getAddressBook().getPersonList(), saved.get(0).getPersonList());
+    }
+
+    @Test
+    public void summary_toString_reportsThroughput() {
+        BatchRunner.Summary summary = new BatchRunner.Summary(3, 1, 2_000_000_000L);
+        assertEquals(2.0, summary.throughput());
+        assertEquals(String.format(BatchRunner.MESSAGE_SUMMARY, 4, 2.0, 2.0, 3, 1), summary.toString());
+    }
+
+    private BatchRunner.Summary run(String... lines) throws Exception {
+        return runner.run(new BufferedReader(new StringReader(String.join("\n", lines))));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -17,6 +18,9 @@ import java.lang.reflect.Field;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,6 +31,7 @@ import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.CreateTeamCommand;
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DeleteTeamCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddCommandParser;
@@ -110,17 +115,83 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_storageThrowsIoException_reportsSaveFailure() throws Exception {
+        assertSaveFailureReportedForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_reportsSaveFailure() throws Exception {
+        assertSaveFailureReportedForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_commandsThatDoNotChangeAddressBook_notSavedAgain() throws Exception {
+        List<ReadOnlyAddressBook> saved = new CopyOnWriteArrayList<>();
+        CountDownLatch firstSaveDone = new CountDownLatch(1);
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                        saved.add(addressBook);
+                        firstSaveDone.countDown();
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        // the first command always saves, as the data file may not exist yet
+        logic.execute(ListCommand.COMMAND_WORD);
+        // wait for it, so that it is not replaced by the save of a later change
+        assertTrue(firstSaveDone.await(10, TimeUnit.SECONDS));
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute("audit");
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + GITHUBUSERNAME_DESC_AMY);
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.close();
+
+        assertEquals(2, saved.size());
+        ReadOnlyAddressBook lastSaved = saved.get(1);
+        assertNotSame(model.getAddressBook(), lastSaved);
+        assertEquals(model.getAddressBook().getPersonList(), lastSaved.getPersonList());
+        // the audit log is kept in its own storage, not in the address book data file
+        assertTrue(lastSaved.getAuditLog().getEntries().isEmpty());
+    }
+
+    @Test
+    public void execute_saveIntervalZero_savedOnlyWhenFlushed() throws Exception {
+        List<ReadOnlyAddressBook> saved = new CopyOnWriteArrayList<>();
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                        saved.add(addressBook);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+        logic.setSaveInterval(0);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + GITHUBUSERNAME_DESC_AMY);
+        logic.flush();
+        assertEquals(1, saved.size());
+        assertEquals(model.getAddressBook().getPersonList(), saved.get(0).getPersonList());
+
+        // nothing changed since the last save
+        logic.flush();
+        logic.close();
+        assertEquals(1, saved.size());
+    }
+
+    @Test
+    public void setSaveInterval_negative_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> logic.setSaveInterval(-1));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -183,9 +254,10 @@ public class LogicManagerTest {
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected to be reported by the Logic component
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertSaveFailureReportedForExceptionFromStorage(IOException e, String expectedMessage)
+            throws Exception {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
@@ -202,15 +274,21 @@ public class LogicManagerTest {
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         logic = new LogicManager(model, storage);
+        List<String> reported = new CopyOnWriteArrayList<>();
+        logic.setSaveFailureHandler(reported::add);
 
-        // Triggers the saveAddressBook method by executing an add command
+        // Triggers the saveAddressBook method by executing an add command, which itself succeeds
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
                 + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + GITHUBUSERNAME_DESC_AMY;
-
         Person expectedPerson = new PersonBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+
+        logic.execute(addCommand);
+        logic.close();
+
+        assertEquals(expectedModel, model);
+        assertEquals(List.of(expectedMessage), reported);
     }
 
     @Test
@@ -264,6 +342,26 @@ public class LogicManagerTest {
                 .anyMatch(entry -> entry.getAction().equals("DELETE")));
     }
 
+    @Test
+    public void hasHierarchyChanged_afterEachCommand_reflectsLastCommand() throws Exception {
+        assertFalse(logic.hasHierarchyChanged());
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + GITHUBUSERNAME_DESC_AMY);
+        assertFalse(logic.hasHierarchyChanged());
+
+        String leaderId = model.getAddressBook().getPersonList().get(0).id();
+        logic.execute(CreateTeamCommand.COMMAND_WORD + " Engineering " + leaderId);
+        assertTrue(logic.hasHierarchyChanged());
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(logic.hasHierarchyChanged());
+
+        logic.execute(CreateTeamCommand.COMMAND_WORD + " Design " + leaderId);
+        assertThrows(CommandException.class, () -> logic.execute(DeleteTeamCommand.COMMAND_WORD + " T9999"));
+        assertFalse(logic.hasHierarchyChanged());
+    }
+
     @Test
     public void execute_listCommand_doesNotAddAuditEntry() throws Exception {
         // Get initial audit log size
@@ -11,6 +11,8 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -24,6 +26,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.audit.AuditLog;
+import seedu.address.model.payroll.PayrollSummary;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.team.Team;
 import seedu.address.testutil.PersonBuilder;
@@ -156,6 +160,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Person findById(String personId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -166,6 +175,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addAuditEntry(String action, String details) {
             throw new AssertionError("This method should not be called.");
@@ -176,6 +190,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasTeam(Team team) {
             throw new AssertionError("This method should not be called.");
@@ -186,6 +205,41 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Team findTeamById(String teamId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PayrollSummary getPayroll(String teamId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setTeamMembership(Team target, Team editedTeam, Map<Person, Person> editedPersons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addTeamMembers(Team team, Map<Person, Person> editedPersons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isTeamMember(String teamId, String personId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<String> getTeamIdsOf(String personId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<String> getLedTeamIds(String personId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addTeam(Team team) {
             throw new AssertionError("This method should not be called.");
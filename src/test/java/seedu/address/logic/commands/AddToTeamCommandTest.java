@@ -5,6 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -45,6 +48,92 @@ public class AddToTeamCommandTest {
         assertTrue(updated.teamIds().contains("T0001"));
     }
 
+    @Test
+    public void execute_addThenRemove_membershipUpdated() throws Exception {
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        model.addPerson(new PersonBuilder().withId(1).withName("Amy").build());
+        model.addPerson(new PersonBuilder().withId(2).withName("Ben").build());
+        model.addTeam(new TeamBuilder().withId("T0001").withLeader("E0001").build());
+
+        new AddToTeamCommand("T0001", "E0002").execute(model);
+        assertTrue(model.isTeamMember("T0001", "E0002"));
+        assertEquals(Set.of("T0001"), model.getTeamIdsOf("E0002"));
+        assertEquals(Set.of("T0001"), model.getLedTeamIds("E0001"));
+
+        new RemoveFromTeamCommand("T0001", "E0002").execute(model);
+        assertFalse(model.isTeamMember("T0001", "E0002"));
+        assertEquals(Set.of(), model.getTeamIdsOf("E0002"));
+    }
+
+    @Test
+    public void execute_manyPersons_allAddedInOneUpdate() throws Exception {
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        model.addPerson(new PersonBuilder().withId(1).withName("Amy").build());
+        model.addPerson(new PersonBuilder().withId(2).withName("Ben").build());
+        model.addPerson(new PersonBuilder().withId(3).withName("Cat").build());
+        model.addTeam(new TeamBuilder().withId("T0001").withLeader("E0001").build());
+
+        CommandResult result = new AddToTeamCommand("T0001", List.of("E0002", "E0003", "E0002")).execute(model);
+
+        assertEquals(String.format(AddToTeamCommand.MESSAGE_SUCCESS_MANY, 2, "T0001", "E0002, E0003"),
+                result.getFeedbackToUser());
+        assertEquals(List.of("E0001", "E0002", "E0003"), model.findTeamById("T0001").getMembers());
+        assertEquals("E0001", model.findTeamById("T0001").getLeaderId());
+        assertTrue(model.findById("E0003").teamIds().contains("T0001"));
+    }
+
+    @Test
+    public void execute_oneOfManyAlreadyMember_nothingAdded() {
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        model.addPerson(new PersonBuilder().withId(1).withName("Amy").build());
+        model.addPerson(new PersonBuilder().withId(2).withName("Ben").build());
+        model.addTeam(new TeamBuilder().withId("T0001").withLeader("E0002").build());
+
+        AddToTeamCommand cmd = new AddToTeamCommand("T0001", List.of("E0001", "E0002"));
+        CommandException ex = assertThrows(CommandException.class, () -> cmd.execute(model));
+
+        assertEquals(String.format(AddToTeamCommand.MESSAGE_ALREADY_MEMBER, "E0002", "T0001"), ex.getMessage());
+        assertFalse(model.isTeamMember("T0001", "E0001"));
+    }
+
+    @Test
+    public void execute_listedPersons_addsFilteredPersons() throws Exception {
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        model.addPerson(new PersonBuilder().withId(1).withName("Amy").build());
+        model.addPerson(new PersonBuilder().withId(2).withName("Ben").build());
+        model.addTeam(new TeamBuilder().withId("T0001").build());
+        model.updateFilteredPersonList(person -> person.id().equals("E0002"));
+
+        AddToTeamCommand.forListedPersons("T0001").execute(model);
+
+        assertEquals(List.of("E0002"), model.findTeamById("T0001").getMembers());
+
+        model.updateFilteredPersonList(person -> false);
+        CommandException ex = assertThrows(CommandException.class, () ->
+                AddToTeamCommand.forListedPersons("T0001").execute(model));
+        assertEquals(AddToTeamCommand.MESSAGE_NO_LISTED_PERSONS, ex.getMessage());
+    }
+
+    @Test
+    public void execute_listedPersonsIncludeMembers_membersSkipped() throws Exception {
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        model.addPerson(new PersonBuilder().withId(1).withName("Amy").build());
+        model.addPerson(new PersonBuilder().withId(2).withName("Ben").build());
+        model.addPerson(new PersonBuilder().withId(3).withName("Cat").build());
+        model.addTeam(new TeamBuilder().withId("T0001").withLeader("E0002").build());
+
+        CommandResult result = AddToTeamCommand.forListedPersons("T0001").execute(model);
+
+        assertEquals(String.format(AddToTeamCommand.MESSAGE_SUCCESS_MANY, 2, "T0001", "E0001, E0003")
+                + String.format(AddToTeamCommand.MESSAGE_SKIPPED_MEMBERS, "E0002"), result.getFeedbackToUser());
+        assertEquals(List.of("E0002", "E0001", "E0003"), model.findTeamById("T0001").getMembers());
+        assertTrue(model.findById("E0001").teamIds().contains("T0001"));
+
+        CommandException ex = assertThrows(CommandException.class, () ->
+                AddToTeamCommand.forListedPersons("T0001").execute(model));
+        assertEquals(String.format(AddToTeamCommand.MESSAGE_ALL_LISTED_ALREADY_MEMBERS, "T0001"), ex.getMessage());
+    }
+
     @Test
     public void execute_personNotFound_throwsCommandException() {
         Model model = new ModelManager(new AddressBook(), new UserPrefs());
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -12,6 +14,7 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.audit.AuditQuery;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.PersonBuilder;
 
@@ -88,6 +91,40 @@ public class AuditCommandTest {
         assertTrue(feedback.contains("DELETE"));
     }
 
+    @Test
+    public void execute_query_onlyMatchingEntriesShown() {
+        model.addAuditEntry("ADD", "Added person: John Doe (ID: E1001)");
+        model.addAuditEntry("EDIT", "Edited person: John Doe (ID: E1001)");
+        model.addAuditEntry("EDIT", "Edited person: Jane Smith (ID: E1002)");
+
+        AuditQuery query = new AuditQuery("edit", "E1001", List.of(), null, null, 1);
+        String feedback = new AuditCommand(query).execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.startsWith(String.format(AuditCommand.MESSAGE_SUCCESS, 1, 1, 1)));
+        assertTrue(feedback.contains("Edited person: John Doe"));
+        assertFalse(feedback.contains("Added person"));
+        assertFalse(feedback.contains("Jane Smith"));
+    }
+
+    @Test
+    public void execute_noMatchingEntries_noEntriesMessage() {
+        model.addAuditEntry("ADD", "Added person: John Doe (ID: E1001)");
+
+        AuditQuery query = new AuditQuery("DELETE", null, List.of(), null, null, 1);
+
+        assertEquals(AuditCommand.MESSAGE_NO_ENTRIES, new AuditCommand(query).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_pageBeyondLast_pageOutOfRangeMessage() {
+        model.addAuditEntry("ADD", "Added person: John Doe (ID: E1001)");
+
+        AuditQuery query = new AuditQuery(null, null, List.of(), null, null, 2);
+
+        assertEquals(String.format(AuditCommand.MESSAGE_PAGE_OUT_OF_RANGE, 2, 1),
+                new AuditCommand(query).execute(model).getFeedbackToUser());
+    }
+
     @Test
     public void equals() {
         AuditCommand auditCommand1 = new AuditCommand();
@@ -104,12 +141,15 @@ public class AuditCommandTest {
 
         // different types -> returns false
         assertFalse(auditCommand1.equals(new ClearCommand()));
+
+        // different query -> returns false
+        assertFalse(auditCommand1.equals(new AuditCommand(new AuditQuery("ADD", null, List.of(), null, null, 1))));
     }
 
     @Test
     public void toString_returnsCorrectString() {
         AuditCommand auditCommand = new AuditCommand();
-        String expected = new ToStringBuilder(auditCommand).toString();
+        String expected = new ToStringBuilder(auditCommand).add("query", AuditQuery.ALL).toString();
         assertEquals(expected, auditCommand.toString());
     }
 }
@@ -108,6 +108,19 @@ public class DeleteTeamCommandTest {
                 .anyMatch(teamIdToDelete::equals));
     }
 
+    @Test
+    public void execute_deleteNestedSubteam_parentAndHierarchyUpdated() throws Exception {
+        model.addTeam(new Team("T0001", new TeamName("Parent")));
+        model.addTeam(new Team("T0002", new TeamName("Child")));
+        new SetSubteamCommand("T0001", "T0002").execute(model);
+        assertEquals("T0001", model.findTeamById("T0002").getParentTeamId());
+
+        new DeleteTeamCommand("T0002").execute(model);
+
+        assertTrue(model.findTeamById("T0001").getSubteams().getUnmodifiableList().isEmpty());
+        assertFalse(model.hasTeamWithId("T0002"));
+    }
+
     @Test
     public void equals_sameAndDifferentValues() {
         DeleteTeamCommand a = new DeleteTeamCommand("T0001");
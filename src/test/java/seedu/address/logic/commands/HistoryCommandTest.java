@@ -0,0 +1,93 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Salary;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TeamBuilder;
+
+/**
+ * Tests for {@link HistoryCommand}.
+ */
+public class HistoryCommandTest {
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        model = new ModelManager(new AddressBook(), new UserPrefs());
+        model.addPerson(new PersonBuilder().withId(1).withName("Amy").withSalary(1000).build());
+        model.addPerson(new PersonBuilder().withId(2).withName("Ben").withSalary(3000).build());
+        model.addTeam(new TeamBuilder().withId("T0001").withTeamName("Core").withLeader("E0001").build());
+        model.addAuditEntry("SETUP", "Added Amy, Ben and Core");
+    }
+
+    @Test
+    public void execute_fieldsChanged_changesOfEntityShownNewestFirst() throws Exception {
+        new SetSalaryCommand("E0002", 500).execute(model);
+        model.addAuditEntry("SALARY", "Set salary of Ben");
+        new AddToTeamCommand("T0001", "E0002").execute(model);
+        model.addAuditEntry("ADD-TO-TEAM", "Added Ben to Core");
+        new SetSalaryCommand("E0001", 2000).execute(model);
+        model.addAuditEntry("SALARY", "Set salary of Amy");
+
+        String feedback = new HistoryCommand("E0002").execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.startsWith(String.format(HistoryCommand.MESSAGE_SUCCESS, "E0002", 3)));
+        assertTrue(feedback.contains(String.format(HistoryCommand.MESSAGE_FIELD_CHANGE, "salary",
+                Salary.fromCents(300000).toPlainString(), Salary.fromCents(50000).toPlainString())));
+        assertTrue(feedback.contains(String.format(HistoryCommand.MESSAGE_FIELD_CHANGE, "teams",
+                HistoryCommand.MESSAGE_EMPTY_VALUE, "T0001")));
+        assertTrue(feedback.indexOf("Added Ben to Core") < feedback.indexOf("Set salary of Ben"));
+        assertFalse(feedback.contains("Set salary of Amy"));
+        // changes to the team in the same entry belong to the team's history
+        assertFalse(feedback.contains(String.format(HistoryCommand.MESSAGE_MEMBERS_CHANGE, "E0002",
+                HistoryCommand.MESSAGE_EMPTY_VALUE)));
+    }
+
+    @Test
+    public void execute_teamChanged_teamFieldChangesShown() throws Exception {
+        new AddToTeamCommand("T0001", "E0002").execute(model);
+        model.addAuditEntry("ADD-TO-TEAM", "Added Ben to Core");
+
+        String feedback = new HistoryCommand("T0001").execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.contains(String.format(HistoryCommand.MESSAGE_MEMBERS_CHANGE, "E0002",
+                HistoryCommand.MESSAGE_EMPTY_VALUE)));
+    }
+
+    @Test
+    public void execute_noHistory_noHistoryMessage() throws Exception {
+        assertEquals(String.format(HistoryCommand.MESSAGE_NO_HISTORY, "E0099"),
+                new HistoryCommand("E0099").execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        HistoryCommand historyFirstCommand = new HistoryCommand("E0001");
+
+        // same object -> returns true
+        assertTrue(historyFirstCommand.equals(historyFirstCommand));
+
+        // same values -> returns true
+        assertTrue(historyFirstCommand.equals(new HistoryCommand("E0001")));
+
+        // different types -> returns false
+        assertFalse(historyFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(historyFirstCommand.equals(null));
+
+        // different entity -> returns false
+        assertFalse(historyFirstCommand.equals(new HistoryCommand("T0001")));
+    }
+}
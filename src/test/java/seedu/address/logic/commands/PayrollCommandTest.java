@@ -0,0 +1,79 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Salary;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TeamBuilder;
+
+/**
+ * Tests for {@link PayrollCommand}.
+ */
+public class PayrollCommandTest {
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        model = new ModelManager(new AddressBook(), new UserPrefs());
+        model.addPerson(new PersonBuilder().withId(1).withName("Amy").withSalary(1000).build());
+        model.addPerson(new PersonBuilder().withId(2).withName("Ben").withSalary(3000).build());
+        model.addPerson(new PersonBuilder().withId(3).withName("Cat").withSalary(2000).build());
+        model.addTeam(new TeamBuilder().withId("T0001").withTeamName("Core").withLeader("E0001").build());
+        model.addTeam(new TeamBuilder().withId("T0002").withTeamName("Infra").withLeader("E0002").build());
+    }
+
+    @Test
+    public void execute_subteamSet_includesSubteamMembers() throws Exception {
+        new AddToTeamCommand("T0002", "E0003").execute(model);
+        new AddToTeamCommand("T0001", "E0003").execute(model);
+        new SetSubteamCommand("T0001", "T0002").execute(model);
+
+        CommandResult result = new PayrollCommand("T0001").execute(model);
+
+        assertEquals(String.format(PayrollCommand.MESSAGE_SUCCESS, "T0001", 3,
+                Salary.fromCents(600000), Salary.fromCents(200000), Salary.fromCents(300000)),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_afterSetSalaryAndRemoveFromTeam_reflectsChanges() throws Exception {
+        new AddToTeamCommand("T0002", "E0003").execute(model);
+        new SetSubteamCommand("T0001", "T0002").execute(model);
+        new SetSalaryCommand("E0002", 500).execute(model);
+        new RemoveFromTeamCommand("T0002", "E0003").execute(model);
+
+        assertEquals(2, model.getPayroll("T0001").headcount());
+        assertEquals(150000, model.getPayroll("T0001").totalCents());
+        assertEquals(100000, model.getPayroll("T0001").maxCents());
+        assertEquals(50000, model.getPayroll("T0002").totalCents());
+    }
+
+    @Test
+    public void execute_teamNotFound_throwsCommandException() {
+        CommandException ex = assertThrows(CommandException.class, () -> new PayrollCommand("T9999").execute(model));
+        assertEquals(String.format(PayrollCommand.MESSAGE_TEAM_NOT_FOUND, "T9999"), ex.getMessage());
+    }
+
+    @Test
+    public void equals() {
+        PayrollCommand first = new PayrollCommand("T0001");
+
+        assertTrue(first.equals(first));
+        assertTrue(first.equals(new PayrollCommand("T0001")));
+        assertFalse(first.equals(new PayrollCommand("T0002")));
+        assertFalse(first.equals(null));
+        assertFalse(first.equals(1));
+    }
+}
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -117,6 +119,61 @@ public class RemoveFromTeamCommandTest {
         assertEquals(RemoveFromTeamCommand.MESSAGE_CANNOT_REMOVE_LEADER, ex.getMessage());
     }
 
+    @Test
+    public void execute_manyPersons_allRemovedInOneUpdate() throws Exception {
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        model.addPerson(new PersonBuilder().withId(1).withName("Amy").build());
+        model.addPerson(new PersonBuilder().withId(2).withName("Ben").withTeamIds("T0001").build());
+        model.addPerson(new PersonBuilder().withId(3).withName("Cat").withTeamIds("T0001").build());
+        model.addTeam(new TeamBuilder().withId("T0001").withLeader("E0001")
+                .withMembers("E0001", "E0002", "E0003").build());
+
+        CommandResult result = new RemoveFromTeamCommand("T0001", List.of("E0003", "E0002")).execute(model);
+
+        assertEquals(String.format(RemoveFromTeamCommand.MESSAGE_SUCCESS_MANY, 2, "T0001", "E0003, E0002"),
+                result.getFeedbackToUser());
+        assertEquals(List.of("E0001"), model.findTeamById("T0001").getMembers());
+        assertEquals("E0001", model.findTeamById("T0001").getLeaderId());
+        assertFalse(model.findById("E0002").teamIds().contains("T0001"));
+    }
+
+    @Test
+    public void execute_manyPersonsIncludingLeader_nothingRemoved() {
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        model.addPerson(new PersonBuilder().withId(1).withName("Amy").build());
+        model.addPerson(new PersonBuilder().withId(2).withName("Ben").build());
+        model.addTeam(new TeamBuilder().withId("T0001").withLeader("E0001").withMembers("E0001", "E0002").build());
+
+        RemoveFromTeamCommand cmd = new RemoveFromTeamCommand("T0001", List.of("E0002", "E0001"));
+        CommandException ex = assertThrows(CommandException.class, () -> cmd.execute(model));
+
+        assertEquals(RemoveFromTeamCommand.MESSAGE_CANNOT_REMOVE_LEADER, ex.getMessage());
+        assertTrue(model.isTeamMember("T0001", "E0002"));
+    }
+
+    @Test
+    public void execute_listedPersonsIncludeNonMembersAndLeader_skipped() throws Exception {
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        model.addPerson(new PersonBuilder().withId(1).withName("Amy").withTeamIds("T0001").build());
+        model.addPerson(new PersonBuilder().withId(2).withName("Ben").build());
+        model.addPerson(new PersonBuilder().withId(3).withName("Cat").withTeamIds("T0001").build());
+        model.addPerson(new PersonBuilder().withId(4).withName("Dan").build());
+        model.addTeam(new TeamBuilder().withId("T0001").withLeader("E0001").withMembers("E0001", "E0003").build());
+
+        CommandResult result = RemoveFromTeamCommand.forListedPersons("T0001").execute(model);
+
+        assertEquals(String.format(RemoveFromTeamCommand.MESSAGE_SUCCESS, "E0003", "T0001")
+                + String.format(RemoveFromTeamCommand.MESSAGE_SKIPPED_NON_MEMBERS, 2, "E0002, E0004")
+                + String.format(RemoveFromTeamCommand.MESSAGE_SKIPPED_LEADER, "E0001"),
+                result.getFeedbackToUser());
+        assertEquals(List.of("E0001"), model.findTeamById("T0001").getMembers());
+        assertFalse(model.findById("E0003").teamIds().contains("T0001"));
+
+        CommandException ex = assertThrows(CommandException.class, () ->
+                RemoveFromTeamCommand.forListedPersons("T0001").execute(model));
+        assertEquals(String.format(RemoveFromTeamCommand.MESSAGE_NO_LISTED_MEMBERS, "T0001"), ex.getMessage());
+    }
+
     @Test
     public void toString_containsIds() {
         RemoveFromTeamCommand cmd = new RemoveFromTeamCommand("T0001", "E0001");
@@ -25,7 +25,9 @@ import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.PayrollCommand;
 import seedu.address.logic.commands.RemoveFromTeamCommand;
 import seedu.address.logic.commands.SetSalaryCommand;
 import seedu.address.logic.commands.SetSubteamCommand;
@@ -136,6 +138,18 @@ public class AddressBookParserTest {
         assertEquals(new SetSalaryCommand(person.id(), 100.23), command);
     }
 
+    @Test
+    public void parseCommand_payroll() throws Exception {
+        PayrollCommand command = (PayrollCommand) parser.parseCommand(PayrollCommand.COMMAND_WORD + " T0001");
+        assertEquals(new PayrollCommand("T0001"), command);
+    }
+
+    @Test
+    public void parseCommand_history() throws Exception {
+        HistoryCommand command = (HistoryCommand) parser.parseCommand(HistoryCommand.COMMAND_WORD + " E0042");
+        assertEquals(new HistoryCommand("E0042"), command);
+    }
+
     @Test
     public void parseCommand_audit() throws Exception {
         assertTrue(parser.parseCommand(AuditCommand.COMMAND_WORD) instanceof AuditCommand);
@@ -0,0 +1,148 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GITHUB;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares the time {@link ArgumentTokenizer} takes to tokenize the arguments of a batch of {@code add} commands
+ * with the time taken by the tokenizer it replaced, which searched the arguments once per prefix.
+ *
+ * This is not run as part of the tests. Run its {@code main} method, optionally with the number of lines and
+ * rounds to time, e.g. {@code 10000 20}.
+ */
+public class ArgumentTokenizerBenchmark {
+
+    private static final Prefix[] ADD_PREFIXES = {
+        PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_GITHUB, PREFIX_TAG
+    };
+
+    /** Keeps the results of the timed tokenizing in use, so that it is not optimized away. */
+    private static volatile int sink;
+
+    public static void main(String[] args) {
+        int lineCount = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        List<String> lines = addCommandArguments(lineCount);
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(ADD_PREFIXES);
+        for (String line : lines) {
+            if (!haveSameValues(tokenizer.split(line), PerPrefixTokenizer.tokenize(line, ADD_PREFIXES))) {
+                throw new AssertionError("Tokenizers disagree on: " + line);
+            }
+        }
+
+        // warm up both before timing them
+        for (int i = 0; i < rounds; i++) {
+            timeSinglePass(tokenizer, lines);
+            timePerPrefix(lines);
+        }
+
+        long singlePass = Long.MAX_VALUE;
+        long perPrefix = Long.MAX_VALUE;
+        for (int i = 0; i < rounds; i++) {
+            singlePass = Math.min(singlePass, timeSinglePass(tokenizer, lines));
+            perPrefix = Math.min(perPrefix, timePerPrefix(lines));
+        }
+
+        System.out.printf("%d lines, best of %d rounds%n", lineCount, rounds);
+        System.out.printf("per-prefix search: %8.1f ns/line%n", (double) perPrefix / lineCount);
+        System.out.printf("single pass:       %8.1f ns/line%n", (double) singlePass / lineCount);
+        System.out.printf("speed-up:          %8.2fx%n", (double) perPrefix / singlePass);
+    }
+
+    private static List<String> addCommandArguments(int count) {
+        List<String> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            lines.add(" " + PREFIX_NAME + " Employee Number " + i
+                    + " " + PREFIX_PHONE + " 9" + String.format("%07d", i)
+                    + " " + PREFIX_EMAIL + " employee" + i + "@example.com"
+                    + " " + PREFIX_ADDRESS + " Blk " + (i % 900) + ", Clementi Ave " + (i % 7) + ", #0" + (i % 9)
+                    + "-" + (i % 50)
+                    + (i % 3 == 0 ? "" : " " + PREFIX_GITHUB + " employee-" + i));
+        }
+        return lines;
+    }
+
+    private static long timeSinglePass(ArgumentTokenizer tokenizer, List<String> lines) {
+        long start = System.nanoTime();
+        int total = 0;
+        for (String line : lines) {
+            total += tokenizer.split(line).getAllValues(PREFIX_NAME).size();
+        }
+        long time = System.nanoTime() - start;
+        sink = total;
+        return time;
+    }
+
+    private static long timePerPrefix(List<String> lines) {
+        long start = System.nanoTime();
+        int total = 0;
+        for (String line : lines) {
+            total += PerPrefixTokenizer.tokenize(line, ADD_PREFIXES).getAllValues(PREFIX_NAME).size();
+        }
+        long time = System.nanoTime() - start;
+        sink = total;
+        return time;
+    }
+
+    private static boolean haveSameValues(ArgumentMultimap first, ArgumentMultimap second) {
+        if (!first.getPreamble().equals(second.getPreamble())) {
+            return false;
+        }
+        return Arrays.stream(ADD_PREFIXES)
+                .allMatch(prefix -> first.getAllValues(prefix).equals(second.getAllValues(prefix)));
+    }
+
+    /**
+     * The tokenizer that {@link ArgumentTokenizer} replaced, which searches the arguments string once per prefix,
+     * sorts the positions found and then cuts the values out. Each position is kept as the index of its prefix and
+     * where it starts.
+     */
+    private static class PerPrefixTokenizer {
+
+        static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
+            List<int[]> positions = new ArrayList<>();
+            for (int i = 0; i < prefixes.length; i++) {
+                positions.addAll(findPrefixPositions(argsString, prefixes[i], i));
+            }
+            positions.sort((position1, position2) -> position1[1] - position2[1]);
+
+            List<Prefix> found = new ArrayList<>();
+            found.add(new Prefix(""));
+            positions.forEach(position -> found.add(prefixes[position[0]]));
+            positions.add(0, new int[] {-1, 0});
+            positions.add(new int[] {-1, argsString.length()});
+
+            ArgumentMultimap argMultimap = new ArgumentMultimap();
+            for (int i = 0; i < positions.size() - 1; i++) {
+                Prefix prefix = found.get(i);
+                int valueStart = positions.get(i)[1] + prefix.getPrefix().length();
+                argMultimap.put(prefix, argsString.substring(valueStart, positions.get(i + 1)[1]).trim());
+            }
+            return argMultimap;
+        }
+
+        private static List<int[]> findPrefixPositions(String argsString, Prefix prefix, int prefixIndex) {
+            List<int[]> positions = new ArrayList<>();
+            int position = findPrefixPosition(argsString, prefix.getPrefix(), 0);
+            while (position != -1) {
+                positions.add(new int[] {prefixIndex, position});
+                position = findPrefixPosition(argsString, prefix.getPrefix(), position);
+            }
+            return positions;
+        }
+
+        private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
+            int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
+            return prefixIndex == -1 ? -1 : prefixIndex + 1;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
@@ -136,6 +137,43 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixNotAfterSpace_notRecognized() {
+        String argsString = "SomePreambleString\t-t tabbed\n-t newline";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT);
+        assertPreamblePresent(argMultimap, argsString);
+        assertArgumentAbsent(argMultimap, dashT);
+    }
+
+    @Test
+    public void tokenize_prefixOfAnotherPrefix_longestTaken() {
+        Prefix dashTag = new Prefix("-tag");
+        String argsString = " -tag friend -t dashT-Value -tagged";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, dashTag);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, dashTag, "friend", "ged");
+        assertArgumentPresent(argMultimap, dashT, "dashT-Value");
+    }
+
+    @Test
+    public void split_sameTokenizerTwice_noStaleValues() {
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(pSlash, dashT, hatQ);
+        ArgumentMultimap argMultimap = tokenizer.split("Preamble p/pSlash value ^Q");
+        assertPreamblePresent(argMultimap, "Preamble");
+        assertArgumentPresent(argMultimap, pSlash, "pSlash value");
+        assertArgumentPresent(argMultimap, hatQ, "");
+
+        argMultimap = tokenizer.split(" -t dashT-Value");
+        assertPreambleEmpty(argMultimap);
+        assertArgumentAbsent(argMultimap, pSlash);
+        assertArgumentPresent(argMultimap, dashT, "dashT-Value");
+    }
+
+    @Test
+    public void constructor_emptyPrefix_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ArgumentTokenizer(pSlash, new Prefix("")));
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,61 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AuditCommand;
+import seedu.address.model.audit.AuditQuery;
+
+/**
+ * Tests for {@link AuditCommandParser}.
+ */
+public class AuditCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, AuditCommand.MESSAGE_USAGE);
+
+    private final AuditCommandParser parser = new AuditCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsAuditCommandForNewestPage() {
+        assertParseSuccess(parser, "  ", new AuditCommand());
+    }
+
+    @Test
+    public void parse_allFilters_returnsAuditCommand() {
+        AuditQuery expectedQuery = new AuditQuery("edit", "E0001", List.of("salary", "raised"),
+                LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 31, 0, 0).with(LocalTime.MAX), 2);
+
+        assertParseSuccess(parser, " salary  raised -action edit -id E0001 -from 2025-01-01 -to 2025-01-31 -page 2",
+                new AuditCommand(expectedQuery));
+    }
+
+    @Test
+    public void parse_dateTimes_wholeMinutesIncluded() {
+        AuditQuery expectedQuery = new AuditQuery(null, null, List.of(), LocalDateTime.of(2025, 1, 1, 9, 30),
+                LocalDateTime.of(2025, 1, 1, 17, 45, 59, 999_999_999), 1);
+
+        assertParseSuccess(parser, " -from 2025-01-01 09:30 -to 2025-01-01 17:45", new AuditCommand(expectedQuery));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " -id P0001", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " -action", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " -action add edit", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " -page 0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " -page two", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " -from 01-01-2025", AuditCommandParser.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, " -from 2025-02-01 -to 2025-01-01", AuditCommandParser.MESSAGE_INVALID_TIME_RANGE);
+        assertParseFailure(parser, " -page 1 -page 2",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_PAGE));
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AuditCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.CreateTeamCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.PayrollCommand;
+import seedu.address.logic.commands.SetSubteamCommand;
+import seedu.address.logic.commands.ViewCommand;
+import seedu.address.logic.parser.CommandRegistry.CommandInfo;
+import seedu.address.logic.parser.CommandRegistry.Kind;
+
+public class CommandRegistryTest {
+
+    private final CommandRegistry registry = CommandRegistry.getDefault();
+
+    @Test
+    public void lookup_unknownCommandWord_returnsEmpty() {
+        assertTrue(registry.lookup("unknown").isEmpty());
+        assertTrue(registry.lookup("LIST").isEmpty());
+    }
+
+    @Test
+    public void lookup_sameCommandWordTwice_returnsSameParser() {
+        assertSame(registry.lookup(AddCommand.COMMAND_WORD).get().parser(),
+                registry.lookup(AddCommand.COMMAND_WORD).get().parser());
+    }
+
+    @Test
+    public void getInfo_parsedCommand_returnsInfoOfItsCommandWord() throws Exception {
+        CommandInfo info = registry.lookup(DeleteCommand.COMMAND_WORD).get();
+        assertSame(info, registry.getInfo(info.parser().parse(" E0001")).get());
+        assertSame(registry.lookup(ListCommand.COMMAND_WORD).get(), registry.getInfo(new ListCommand()).get());
+    }
+
+    @Test
+    public void auditAction_isUpperCaseCommandWord() {
+        assertEquals("DELETE", registry.lookup(DeleteCommand.COMMAND_WORD).get().auditAction());
+        assertEquals("CREATE-TEAM", registry.lookup(CreateTeamCommand.COMMAND_WORD).get().auditAction());
+    }
+
+    @Test
+    public void isReadOnly_commandsThatChangeNothing_true() {
+        for (String commandWord : List.of(AuditCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD,
+                HelpCommand.COMMAND_WORD, ListCommand.COMMAND_WORD, ViewCommand.COMMAND_WORD,
+                PayrollCommand.COMMAND_WORD, HistoryCommand.COMMAND_WORD)) {
+            assertTrue(registry.lookup(commandWord).get().isReadOnly(), commandWord);
+        }
+        assertFalse(registry.lookup(AddCommand.COMMAND_WORD).get().isReadOnly());
+    }
+
+    @Test
+    public void affectsHierarchy_teamCommandsAndClear_true() {
+        assertTrue(registry.lookup(SetSubteamCommand.COMMAND_WORD).get().affectsHierarchy());
+        assertTrue(registry.lookup(ClearCommand.COMMAND_WORD).get().affectsHierarchy());
+        assertFalse(registry.lookup(DeleteCommand.COMMAND_WORD).get().affectsHierarchy());
+        assertFalse(registry.lookup(ListCommand.COMMAND_WORD).get().affectsHierarchy());
+    }
+
+    @Test
+    public void constructor_commandWordRegisteredTwice_throwsIllegalArgumentException() {
+        CommandInfo list = new CommandInfo(ListCommand.COMMAND_WORD, ListCommand.class, args -> new ListCommand(),
+                Kind.READ_ONLY);
+        CommandInfo clear = new CommandInfo(ListCommand.COMMAND_WORD, ClearCommand.class,
+                args -> new ClearCommand(), Kind.CHANGES_HIERARCHY);
+        assertThrows(IllegalArgumentException.class, () -> new CommandRegistry(List.of(list, clear)));
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.HistoryCommand;
+
+/**
+ * Tests for {@link HistoryCommandParser}.
+ */
+public class HistoryCommandParserTest {
+
+    private final HistoryCommandParser parser = new HistoryCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsHistoryCommand() {
+        assertParseSuccess(parser, " E0042 ", new HistoryCommand("E0042"));
+        assertParseSuccess(parser, "T0001", new HistoryCommand("T0001"));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, HistoryCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "E042",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, HistoryCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "E0042 T0001",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, HistoryCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.PayrollCommand;
+
+/**
+ * Tests for {@link PayrollCommandParser}.
+ */
+public class PayrollCommandParserTest {
+
+    private final PayrollCommandParser parser = new PayrollCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsPayrollCommand() {
+        assertParseSuccess(parser, " T0001 ", new PayrollCommand("T0001"));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, PayrollCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "T001",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, PayrollCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "T0001 T0002",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, PayrollCommand.MESSAGE_USAGE));
+    }
+}
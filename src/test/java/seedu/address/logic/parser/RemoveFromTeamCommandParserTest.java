@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.RemoveFromTeamCommand;
@@ -23,6 +25,17 @@ public class RemoveFromTeamCommandParserTest {
         assertEquals(new RemoveFromTeamCommand("T0001", "E0001"), cmd);
     }
 
+    @Test
+    public void parse_manyPersonIds_returnsCommand() throws Exception {
+        assertEquals(new RemoveFromTeamCommand("T0001", List.of("E0001", "E0002")), parser.parse("T0001 E0001  E0002"));
+    }
+
+    @Test
+    public void parse_listedPersons_returnsCommand() throws Exception {
+        assertEquals(RemoveFromTeamCommand.forListedPersons("T0001"), parser.parse("T0001 -listed"));
+        assertThrows(ParseException.class, () -> parser.parse("T0001 E0001 -listed"));
+    }
+
     @Test
     public void parse_tooFewArgs_throwsParseException() {
         ParseException ex = assertThrows(ParseException.class, () -> parser.parse("T0001"));
@@ -39,4 +39,23 @@ class SetSalaryCommandParserTest {
     void parse_invalidSalary_failure() {
         assertParseFailure(parser, "E12345 -100", Messages.MESSAGE_INVALID_SALARY);
     }
+
+    @Test
+    void parse_salaryAtLimit_success() {
+        assertParseSuccess(parser, "E12345 1000000000000", new SetSalaryCommand("E12345", 1e12));
+    }
+
+    @Test
+    void parse_salaryAboveLimit_failure() {
+        String expectedMessage = String.format(Messages.MESSAGE_SALARY_TOO_HIGH, SetSalaryCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "E12345 1000000000000.01", expectedMessage);
+        assertParseFailure(parser, "E12345 1e300", expectedMessage);
+        assertParseFailure(parser, "E12345 Infinity", expectedMessage);
+    }
+
+    @Test
+    void parse_salaryNotNumber_failure() {
+        assertParseFailure(parser, "E12345 lots",
+                           String.format(MESSAGE_INVALID_COMMAND_FORMAT, SetSalaryCommand.MESSAGE_USAGE));
+    }
 }
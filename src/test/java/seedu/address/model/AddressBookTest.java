@@ -2,11 +2,13 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -23,6 +25,7 @@ import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.team.Team;
 import seedu.address.model.team.TeamName;
+import seedu.address.model.team.exceptions.DuplicateTeamException;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -57,6 +60,34 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void builder_validData_buildsAddressBook() {
+        Team team = new Team("T0001", new TeamName("Core"));
+        AddressBook built = new AddressBook.Builder().addPerson(ALICE).addPerson(BENSON).addTeam(team).build();
+        assertEquals(Arrays.asList(ALICE, BENSON), built.getPersonList());
+        assertEquals(team, built.getTeamById("T0001"));
+        assertEquals(BENSON, built.getPersonById(BENSON.id()));
+    }
+
+    @Test
+    public void builder_duplicatePersons_reportsEveryDuplicate() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Person editedBenson = new PersonBuilder(BENSON).withTags(VALID_TAG_HUSBAND).build();
+        AddressBook.Builder builder = new AddressBook.Builder()
+                .addPerson(ALICE).addPerson(BENSON).addPerson(editedAlice).addPerson(editedBenson);
+        assertThrows(DuplicatePersonException.class,
+                "Operation would result in duplicate persons: Alice Pauline, Benson Meier", builder::build);
+    }
+
+    @Test
+    public void builder_duplicateTeams_throwsDuplicateTeamException() {
+        AddressBook.Builder builder = new AddressBook.Builder()
+                .addTeam(new Team("T0001", new TeamName("Core")))
+                .addTeam(new Team("T0001", new TeamName("Infra")));
+        assertThrows(DuplicateTeamException.class, "Operation would result in duplicate teams: T0001",
+                builder::build);
+    }
+
     @Test
     public void resetData_withAuditLog_restoresAuditLog() {
         // Create an address book with audit log entries
@@ -134,6 +165,37 @@ public class AddressBookTest {
         assertFalse(addressBook.setSubteam(null, null));
     }
 
+    @Test
+    public void getModificationCount_changesOnlyWhenDataChanges() {
+        long initial = addressBook.getModificationCount();
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonList();
+        assertEquals(initial, addressBook.getModificationCount());
+
+        addressBook.addPerson(ALICE);
+        long afterAdd = addressBook.getModificationCount();
+        assertNotEquals(initial, afterAdd);
+
+        addressBook.addAuditEntry("ADD", "Added Alice");
+        assertNotEquals(afterAdd, addressBook.getModificationCount());
+    }
+
+    @Test
+    public void snapshot_laterChanges_notReflected() {
+        Team team = new Team("T1001", new TeamName("A")).withMembers(List.of(ALICE.id()));
+        addressBook.addPerson(ALICE);
+        addressBook.addTeam(team);
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+
+        addressBook.addPerson(BENSON);
+        team.addMember(BENSON.id());
+        addressBook.addAuditEntry("ADD", "Added Benson");
+
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+        assertEquals(List.of(ALICE.id()), snapshot.getTeamList().get(0).getMembers());
+        assertTrue(snapshot.getAuditLog().getEntries().isEmpty());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName()
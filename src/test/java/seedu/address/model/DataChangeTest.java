@@ -0,0 +1,88 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
+import seedu.address.testutil.PersonBuilder;
+
+public class DataChangeTest {
+
+    private final Person amy = new PersonBuilder().withId(1).withName("Amy").build();
+    private final Person ben = new PersonBuilder().withId(2).withName("Ben").build();
+
+    @Test
+    public void changesUntil_personsAndTeamsChanged_latestOfEachInFirstChangedOrder() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(amy);
+        DataChange saved = addressBook.getLatestChange();
+
+        Team core = new Team("T0001", new TeamName("Core"));
+        addressBook.addPerson(ben);
+        addressBook.addTeam(core);
+        Person renamedAmy = new PersonBuilder(amy, true).withName("Amy Tan").build();
+        addressBook.setPerson(amy, renamedAmy);
+        addressBook.removePerson(ben);
+        addressBook.removeTeam(core);
+
+        DataChange.Changes changes = saved.changesUntil(addressBook.getLatestChange()).get();
+        Map<String, Person> expectedPersons = new LinkedHashMap<>();
+        expectedPersons.put("E0002", null);
+        expectedPersons.put("E0001", renamedAmy);
+        assertEquals(List.copyOf(expectedPersons.entrySet()), List.copyOf(changes.persons().entrySet()));
+        assertEquals(Set.of("T0001"), changes.teamIds());
+
+        assertTrue(addressBook.getLatestChange().changesUntil(addressBook.getLatestChange()).get().isEmpty());
+    }
+
+    @Test
+    public void changesUntil_personsReordered_empty() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(amy);
+        addressBook.addPerson(ben);
+        DataChange saved = addressBook.getLatestChange();
+
+        addressBook.sortPersons(Comparator.comparing(Person::id).reversed());
+
+        assertFalse(saved.changesUntil(addressBook.getLatestChange()).isPresent());
+    }
+
+    @Test
+    public void changesUntil_removedPersonAddedAgain_empty() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(amy);
+        addressBook.addPerson(ben);
+        DataChange saved = addressBook.getLatestChange();
+
+        addressBook.removePerson(amy);
+        addressBook.addPerson(amy);
+
+        assertFalse(saved.changesUntil(addressBook.getLatestChange()).isPresent());
+    }
+
+    @Test
+    public void changesUntil_copyChangedAfterOriginal_empty() {
+        AddressBook original = new AddressBook();
+        original.addPerson(amy);
+        AddressBook copy = new AddressBook(original);
+        DataChange saved = copy.getLatestChange();
+        assertTrue(saved.changesUntil(original.getLatestChange()).get().isEmpty());
+
+        original.addPerson(ben);
+        copy.removePerson(amy);
+
+        assertEquals(Set.of("E0002"), saved.changesUntil(original.getLatestChange()).get().persons().keySet());
+        assertFalse(saved.changesUntil(copy.getLatestChange()).isPresent());
+    }
+}
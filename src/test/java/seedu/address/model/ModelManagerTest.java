@@ -3,15 +3,18 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Map;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -95,6 +98,38 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void updateFilteredPersonListByName_personsChangedAfterSearch_resultsKeptInStep() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonListByName(new NameContainsKeywordsPredicate(Arrays.asList("meier")));
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, renamedAlice);
+        modelManager.deletePerson(BENSON);
+        assertEquals(Arrays.asList(renamedAlice), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(renamedAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByName_personsEditedAfterSearch_keepTheirPlace() {
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(DANIEL);
+        modelManager.addTeam(new TeamBuilder().withId("T0001").build());
+        modelManager.updateFilteredPersonListByName(new NameContainsKeywordsPredicate(Arrays.asList("meier")));
+
+        Person editedBenson = new PersonBuilder(BENSON, true).withPhone("91234567").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(editedBenson, DANIEL), modelManager.getFilteredPersonList());
+
+        Person bensonInTeam = editedBenson.withAddedTeam("T0001");
+        modelManager.addTeamMembers(modelManager.findTeamById("T0001"), Map.of(editedBenson, bensonInTeam));
+        assertEquals(Arrays.asList(bensonInTeam, DANIEL), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -121,6 +156,23 @@ public class ModelManagerTest {
         assertTrue(model.hasTeam(team));
     }
 
+    @Test
+    public void findById_personInModel_returnsPerson() {
+        modelManager.addPerson(ALICE);
+        assertEquals(ALICE, modelManager.findById(ALICE.id()));
+        assertNull(modelManager.findById(BENSON.id()));
+    }
+
+    @Test
+    public void findTeamById_teamRemoved_returnsNull() {
+        ModelManager model = new ModelManager();
+        Team team = new TeamBuilder().withId("T0001").withTeamName("Core").build();
+        model.addTeam(team);
+        assertEquals(team, model.findTeamById("T0001"));
+        model.removeTeam(team);
+        assertNull(model.findTeamById("T0001"));
+    }
+
     @Test
     public void addTeam_addsTeamToAddressBook() {
         ModelManager model = new ModelManager();
@@ -0,0 +1,266 @@
+package seedu.address.model.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
+import seedu.address.testutil.PersonBuilder;
+
+public class AuditLogTest {
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    @Test
+    public void addEntry_noArchive_allEntriesKept() {
+        AuditLog auditLog = new AuditLog(2);
+        addEntries(auditLog, 3);
+
+        assertEquals(List.of("2", "1", "0"), detailsOf(auditLog.getEntries()));
+        assertEquals(3, auditLog.getTotalEntryCount());
+    }
+
+    @Test
+    public void addEntry_archiveAttached_onlyNewestKeptAndAllArchived() {
+        ArchiveStub archive = new ArchiveStub();
+        AuditLog auditLog = new AuditLog(2);
+        auditLog.attachArchive(archive);
+        addEntries(auditLog, 3);
+
+        assertEquals(List.of("2", "1"), detailsOf(auditLog.getEntries()));
+        assertEquals(List.of("0", "1", "2"), detailsOf(archive.entries));
+        assertEquals(3, auditLog.getTotalEntryCount());
+    }
+
+    @Test
+    public void getHistory_olderEntriesArchived_newestFirst() throws Exception {
+        ArchiveStub archive = new ArchiveStub();
+        AuditLog auditLog = new AuditLog(2);
+        auditLog.attachArchive(archive);
+        addEntries(auditLog, 5);
+
+        assertEquals(List.of("4", "3", "2", "1", "0"), detailsOf(auditLog.getHistory()));
+    }
+
+    @Test
+    public void constructor_newestEntries_olderEntriesReadFromArchive() throws Exception {
+        ArchiveStub archive = new ArchiveStub();
+        for (int i = 0; i < 3; i++) {
+            archive.append(new AuditLogEntry(TIMESTAMP, "ADD", String.valueOf(i)));
+        }
+        AuditLog auditLog = new AuditLog(archive.entries.subList(2, 3), 3);
+        auditLog.attachArchive(archive);
+
+        assertEquals(List.of("2"), detailsOf(auditLog.getEntries()));
+        assertEquals(List.of("2", "1", "0"), detailsOf(auditLog.getHistory()));
+    }
+
+    @Test
+    public void copyConstructor_sameEntriesAndCount() {
+        AuditLog auditLog = new AuditLog();
+        addEntries(auditLog, 2);
+        AuditLog copy = new AuditLog(auditLog);
+        auditLog.addEntry("ADD", "later", TIMESTAMP);
+
+        assertEquals(List.of("1", "0"), detailsOf(copy.getEntries()));
+        assertEquals(2, copy.getTotalEntryCount());
+    }
+
+    @Test
+    public void query_all_newestPageFirst() throws Exception {
+        ArchiveStub archive = new ArchiveStub();
+        AuditLog auditLog = new AuditLog(10);
+        auditLog.attachArchive(archive);
+        addEntries(auditLog, AuditQuery.PAGE_SIZE + 5);
+
+        AuditQueryResult firstPage = auditLog.query(AuditQuery.ALL);
+        assertEquals(2, firstPage.pageCount());
+        assertEquals(AuditQuery.PAGE_SIZE + 5, firstPage.matchCount());
+        assertEquals(AuditQuery.PAGE_SIZE, firstPage.entries().size());
+        assertEquals(String.valueOf(AuditQuery.PAGE_SIZE + 4), firstPage.entries().get(0).getDetails());
+
+        AuditQueryResult secondPage = auditLog.query(new AuditQuery(null, null, List.of(), null, null, 2));
+        assertEquals(List.of("4", "3", "2", "1", "0"), detailsOf(secondPage.entries()));
+
+        AuditQueryResult beyondLastPage = auditLog.query(new AuditQuery(null, null, List.of(), null, null, 3));
+        assertTrue(beyondLastPage.entries().isEmpty());
+        assertEquals(AuditQuery.PAGE_SIZE + 5, beyondLastPage.matchCount());
+    }
+
+    @Test
+    public void query_filters_onlyEntriesMatchingAll() throws Exception {
+        AuditLog auditLog = new AuditLog();
+        auditLog.addEntry("ADD", "Added person: Alice Tan (ID: E0001)", TIMESTAMP);
+        auditLog.addEntry("EDIT", "Edited person: Alice Tan (ID: E0001), salary raised", TIMESTAMP.plusDays(1));
+        auditLog.addEntry("ADD", "Added person: Bob Lim (ID: E0002)", TIMESTAMP.plusDays(2));
+        auditLog.addEntry("edit", "Edited person: Bob Lim (ID: E0002), salary raised", TIMESTAMP.plusDays(3));
+
+        assertEquals(List.of("Edited person: Bob Lim (ID: E0002), salary raised",
+                "Edited person: Alice Tan (ID: E0001), salary raised"),
+                detailsOf(query(auditLog, "Edit", null, List.of(), null, null)));
+        assertEquals(List.of("Edited person: Alice Tan (ID: E0001), salary raised",
+                "Added person: Alice Tan (ID: E0001)"),
+                detailsOf(query(auditLog, null, "e0001", List.of(), null, null)));
+        assertEquals(List.of("Edited person: Alice Tan (ID: E0001), salary raised"),
+                detailsOf(query(auditLog, null, null, List.of("SALARY", "alice"), null, null)));
+        assertEquals(List.of("Added person: Bob Lim (ID: E0002)",
+                "Edited person: Alice Tan (ID: E0001), salary raised"),
+                detailsOf(query(auditLog, null, null, List.of(), TIMESTAMP.plusDays(1), TIMESTAMP.plusDays(2))));
+        assertEquals(List.of("Edited person: Bob Lim (ID: E0002), salary raised"),
+                detailsOf(query(auditLog, "EDIT", null, List.of("salary"), TIMESTAMP.plusDays(2), null)));
+
+        // partial words and unknown terms match nothing
+        assertTrue(query(auditLog, null, null, List.of("sal"), null, null).isEmpty());
+        assertTrue(query(auditLog, "DELETE", null, List.of(), null, null).isEmpty());
+    }
+
+    @Test
+    public void query_timesOutOfOrder_timeRangeStillApplied() throws Exception {
+        AuditLog auditLog = new AuditLog();
+        auditLog.addEntry("ADD", "late", TIMESTAMP.plusDays(5));
+        auditLog.addEntry("ADD", "early", TIMESTAMP);
+        auditLog.addEntry("ADD", "middle", TIMESTAMP.plusDays(2));
+
+        assertEquals(List.of("middle", "early"),
+                detailsOf(query(auditLog, null, null, List.of(), null, TIMESTAMP.plusDays(3))));
+    }
+
+    @Test
+    public void query_entriesAddedAfterIndexing_found() throws Exception {
+        ArchiveStub archive = new ArchiveStub();
+        AuditLog auditLog = new AuditLog(2);
+        auditLog.attachArchive(archive);
+        addEntries(auditLog, 3);
+        assertEquals(List.of("1"), detailsOf(query(auditLog, null, null, List.of("1"), null, null)));
+
+        auditLog.addEntry("DELETE", "1", TIMESTAMP);
+        auditLog.addEntry("ADD", "other", TIMESTAMP);
+
+        assertEquals(List.of("1", "1"), detailsOf(query(auditLog, null, null, List.of("1"), null, null)));
+        assertEquals(List.of("DELETE", "ADD"),
+                query(auditLog, null, null, List.of("1"), null, null).stream().map(AuditLogEntry::getAction).toList());
+
+        auditLog.clear();
+        assertTrue(query(auditLog, null, null, List.of("1"), null, null).isEmpty());
+    }
+
+    @Test
+    public void addEntry_changesRecorded_onlyChangedFieldsOfEachEntityKept() {
+        Person amy = new PersonBuilder().withId(1).withName("Amy").withPhone("91234567").build();
+        Person renamedAmy = new PersonBuilder(amy, true).withName("Amy Tan").build();
+        Person movedAmy = new PersonBuilder(renamedAmy, true).withPhone("98765432").build();
+        AuditLog auditLog = new AuditLog();
+        auditLog.recordChange(amy, renamedAmy);
+        auditLog.recordChange(renamedAmy, movedAmy);
+        auditLog.recordChange(null, new Team("T0001", new TeamName("Core")));
+        auditLog.addEntry("EDIT", "Edited Amy", TIMESTAMP);
+
+        AuditLogEntry entry = auditLog.getEntries().get(0);
+        assertEquals(List.of(new FieldChange("E0001", "name", "Amy", "Amy Tan"),
+                new FieldChange("E0001", "phone", "91234567", "98765432"),
+                new FieldChange("T0001", "name", null, "Core")), entry.getChanges());
+        assertEquals(List.of("E0001", "T0001"), entry.getEntityIds());
+
+        // recorded changes are only added to the next entry
+        auditLog.addEntry("LIST", "Listed", TIMESTAMP);
+        assertTrue(auditLog.getEntries().get(0).getChanges().isEmpty());
+
+        auditLog.recordChange(movedAmy, null);
+        auditLog.discardRecordedChanges();
+        auditLog.addEntry("LIST", "Listed", TIMESTAMP);
+        assertTrue(auditLog.getEntries().get(0).getChanges().isEmpty());
+    }
+
+    @Test
+    public void addEntry_teamsChangedInPlace_onlyChangedFieldsRecorded() {
+        Team core = new Team("T0001", new TeamName("Core"));
+        core.addMember("E0001");
+        core.addMember("E0002");
+        Team tools = new Team("T0002", new TeamName("Tools"));
+        AuditLog auditLog = new AuditLog();
+
+        auditLog.recordInPlaceChange(core, tools);
+        tools.setParentTeamId("T0001");
+        auditLog.addEntry("SUBTEAM", "Moved Tools under Core", TIMESTAMP);
+
+        assertEquals(List.of(new FieldChange("T0002", "parent", null, "T0001")),
+                auditLog.getEntries().get(0).getChanges());
+    }
+
+    @Test
+    public void addEntry_membersChanged_onlyMembersWhoLeftOrJoinedRecorded() {
+        Team core = new Team("T0001", new TeamName("Core"));
+        core.addMember("E0001");
+        core.addMember("E0002");
+        core.addMember("E0003");
+        AuditLog auditLog = new AuditLog();
+
+        auditLog.recordInPlaceChange(core);
+        core.removeMember("E0002");
+        core.addMember("E0004");
+        auditLog.addEntry("EDIT", "Swapped a member of Core", TIMESTAMP);
+
+        assertEquals(List.of(new FieldChange("T0001", FieldChange.MEMBERS_FIELD, "E0002", "E0004")),
+                auditLog.getEntries().get(0).getChanges());
+    }
+
+    @Test
+    public void getEntityHistory_changedOrMentioned_newestFirst() throws Exception {
+        ArchiveStub archive = new ArchiveStub();
+        AuditLog auditLog = new AuditLog(1);
+        auditLog.attachArchive(archive);
+        Person amy = new PersonBuilder().withId(1).withName("Amy").build();
+        auditLog.recordChange(null, amy);
+        auditLog.addEntry("ADD", "Added a person", TIMESTAMP);
+        auditLog.addEntry("TAG", "Tagged e0001", TIMESTAMP);
+        auditLog.addEntry("ADD", "Added E0002", TIMESTAMP);
+        assertEquals(List.of("Tagged e0001", "Added a person"), detailsOf(auditLog.getEntityHistory("E0001")));
+
+        auditLog.recordChange(amy, null);
+        auditLog.addEntry("DELETE", "Deleted a person", TIMESTAMP);
+
+        assertEquals(List.of("Deleted a person", "Tagged e0001", "Added a person"),
+                detailsOf(auditLog.getEntityHistory("E0001")));
+        assertTrue(auditLog.getEntityHistory("E0003").isEmpty());
+    }
+
+    private static List<AuditLogEntry> query(AuditLog auditLog, String action, String entityId, List<String> keywords,
+            LocalDateTime from, LocalDateTime to) throws IOException {
+        return auditLog.query(new AuditQuery(action, entityId, keywords, from, to, 1)).entries();
+    }
+
+    private static void addEntries(AuditLog auditLog, int count) {
+        for (int i = 0; i < count; i++) {
+            auditLog.addEntry("ADD", String.valueOf(i), TIMESTAMP);
+        }
+    }
+
+    private static List<String> detailsOf(List<AuditLogEntry> entries) {
+        return entries.stream().map(AuditLogEntry::getDetails).toList();
+    }
+
+    /**
+     * Keeps archived entries in memory.
+     */
+    private static class ArchiveStub implements AuditLogArchive {
+        private final List<AuditLogEntry> entries = new ArrayList<>();
+
+        @Override
+        public void append(AuditLogEntry entry) {
+            entries.add(entry);
+        }
+
+        @Override
+        public List<AuditLogEntry> readEntries(long fromIndex, long toIndex) throws IOException {
+            return new ArrayList<>(entries.subList((int) fromIndex, (int) toIndex));
+        }
+    }
+}
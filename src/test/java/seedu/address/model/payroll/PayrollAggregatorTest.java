@@ -0,0 +1,101 @@
+package seedu.address.model.payroll;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Salary;
+import seedu.address.model.team.Team;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TeamBuilder;
+
+public class PayrollAggregatorTest {
+
+    private static final Person AMY = new PersonBuilder().withId(1).withName("Amy").withSalary(1000).build();
+    private static final Person BEN = new PersonBuilder().withId(2).withName("Ben").withSalary(3000).build();
+    private static final Person CAT = new PersonBuilder().withId(3).withName("Cat").withSalary(2000).build();
+
+    private final PayrollAggregator aggregator = new PayrollAggregator();
+
+    @Test
+    public void getSummary_unknownTeam_returnsNull() {
+        assertNull(aggregator.getSummary("T0001"));
+    }
+
+    @Test
+    public void rebuild_nestedTeams_countsEachPersonOnce() {
+        Team parent = new TeamBuilder().withId("T0001").withMembers("E0001", "E0003").build();
+        Team child = new TeamBuilder().withId("T0002").withMembers("E0002", "E0003")
+                .withParentTeamId("T0001").build();
+        aggregator.rebuild(List.of(AMY, BEN, CAT), List.of(child, parent));
+
+        assertEquals(new PayrollSummary("T0001", 3, 600000, 300000), aggregator.getSummary("T0001"));
+        assertEquals(new PayrollSummary("T0002", 2, 500000, 300000), aggregator.getSummary("T0002"));
+    }
+
+    @Test
+    public void updateTeam_attachAndDetachSubteam_updatesAncestors() {
+        Team root = new TeamBuilder().withId("T0001").withMembers("E0001").build();
+        Team middle = new TeamBuilder().withId("T0002").build();
+        Team leaf = new TeamBuilder().withId("T0003").withMembers("E0002").build();
+        aggregator.rebuild(List.of(AMY, BEN, CAT), List.of(root, middle, leaf));
+
+        aggregator.updateTeam(new TeamBuilder(middle).withParentTeamId("T0001").build());
+        aggregator.updateTeam(new TeamBuilder(leaf).withParentTeamId("T0002").build());
+        assertEquals(new PayrollSummary("T0001", 2, 400000, 300000), aggregator.getSummary("T0001"));
+
+        aggregator.updateTeam(new TeamBuilder(leaf).withMembers("E0002", "E0003").withParentTeamId("T0002").build());
+        assertEquals(new PayrollSummary("T0001", 3, 600000, 300000), aggregator.getSummary("T0001"));
+        assertEquals(new PayrollSummary("T0002", 2, 500000, 300000), aggregator.getSummary("T0002"));
+
+        aggregator.removeTeam("T0003");
+        assertEquals(new PayrollSummary("T0001", 1, 100000, 100000), aggregator.getSummary("T0001"));
+        assertEquals(new PayrollSummary("T0002", 0, 0, 0), aggregator.getSummary("T0002"));
+    }
+
+    @Test
+    public void updatePerson_salaryChanged_updatesTotalsAndMax() {
+        Team team = new TeamBuilder().withId("T0001").withMembers("E0001", "E0002").build();
+        aggregator.rebuild(List.of(AMY, BEN), List.of(team));
+
+        aggregator.updatePerson(new PersonBuilder(BEN, true).withSalary(500).build());
+        assertEquals(new PayrollSummary("T0001", 2, 150000, 100000), aggregator.getSummary("T0001"));
+
+        aggregator.removePerson(AMY.id());
+        assertEquals(new PayrollSummary("T0001", 1, 50000, 50000), aggregator.getSummary("T0001"));
+    }
+
+    @Test
+    public void updateTeam_parentInOwnSubtree_notNested() {
+        Team parent = new TeamBuilder().withId("T0001").withMembers("E0001").build();
+        Team child = new TeamBuilder().withId("T0002").withMembers("E0002").withParentTeamId("T0001").build();
+        aggregator.rebuild(List.of(AMY, BEN), List.of(parent, child));
+
+        aggregator.updateTeam(new TeamBuilder(parent).withParentTeamId("T0002").build());
+
+        assertEquals(new PayrollSummary("T0001", 2, 400000, 300000), aggregator.getSummary("T0001"));
+        assertEquals(new PayrollSummary("T0002", 1, 300000, 300000), aggregator.getSummary("T0002"));
+    }
+
+    @Test
+    public void getTotal_aboveHighestSalary_formatted() {
+        PayrollAggregator aggregator = new PayrollAggregator();
+        aggregator.updatePerson(new PersonBuilder().withId(1).withSalary(Salary.MAX_DOLLARS).build());
+        aggregator.updatePerson(new PersonBuilder().withId(2).withSalary(Salary.MAX_DOLLARS).build());
+        aggregator.updateTeam(new TeamBuilder().withId("T0001").withMembers("E0001", "E0002").build());
+
+        PayrollSummary summary = aggregator.getSummary("T0001");
+        assertEquals("$2,000,000,000,000 / month", summary.getTotal());
+        assertEquals(new Salary(Salary.MAX_DOLLARS), summary.getMax());
+    }
+
+    @Test
+    public void getAverage_roundsToNearestCent() {
+        assertEquals(33333, new PayrollSummary("T0001", 3, 100000, 50000).getAverage().inCents());
+        assertEquals(0, new PayrollSummary("T0001", 0, 0, 0).getAverage().inCents());
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.assertAcceptsSameAsRegex;
 
 import org.junit.jupiter.api.Test;
 
@@ -53,4 +54,9 @@ public class AddressTest {
         // different values -> returns false
         assertFalse(address.equals(new Address("Other Valid Address")));
     }
+
+    @Test
+    public void isValidAddress_sameAsValidationRegex() {
+        assertAcceptsSameAsRegex(Address::isValidAddress, Address.VALIDATION_REGEX, 'a', 1);
+    }
 }
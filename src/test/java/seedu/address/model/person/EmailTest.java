@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.assertAcceptsSameAsRegex;
 
 import org.junit.jupiter.api.Test;
 
@@ -85,4 +86,9 @@ public class EmailTest {
         // different values -> returns false
         assertFalse(email.equals(new Email("other.valid@email")));
     }
+
+    @Test
+    public void isValidEmail_sameAsValidationRegex() {
+        assertAcceptsSameAsRegex(Email::isValidEmail, Email.VALIDATION_REGEX, 'a', 1, 3);
+    }
 }
@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.assertAcceptsSameAsRegex;
 
 import org.junit.jupiter.api.Test;
 
@@ -54,4 +55,11 @@ class GitHubUsernameTest {
         // different values -> returns false
         assertFalse(username.equals(new GitHubUsername("@OtherValidGitHubUsername")));
     }
+
+    @Test
+    public void isValidGitHubUsername_nonEmpty_sameAsValidationRegex() {
+        // an empty username stands for having none, which the regex does not cover
+        assertAcceptsSameAsRegex(test -> !test.isEmpty() && GitHubUsername.isValidGitHubUsername(test),
+                GitHubUsername.VALIDATION_REGEX, 'a', 35, 37);
+    }
 }
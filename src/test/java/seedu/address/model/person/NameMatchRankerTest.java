@@ -0,0 +1,62 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameMatchRankerTest {
+
+    private static final Person ANNA = new PersonBuilder().withId(1).withName("Anna").build();
+    private static final Person ANNA_LEE = new PersonBuilder().withId(2).withName("Anna Lee").build();
+    private static final Person JOANNA_LEE = new PersonBuilder().withId(3).withName("Joanna Lee").build();
+    private static final Person BOB_LEE = new PersonBuilder().withId(4).withName("Bob Lee").build();
+    private static final Person ALEX_LEE = new PersonBuilder().withId(5).withName("alex lee").build();
+
+    @Test
+    public void score_scoresEachKeyword() {
+        NameMatchRanker ranker = new NameMatchRanker(Arrays.asList("anna", "lee", "zed"));
+
+        assertEquals(new NameMatchRanker.Hit(ANNA, 1, 0 + 3 + 3, 0), ranker.score(ANNA));
+        assertEquals(new NameMatchRanker.Hit(ANNA_LEE, 2, 1 + 1 + 3, 0), ranker.score(ANNA_LEE));
+        assertEquals(new NameMatchRanker.Hit(JOANNA_LEE, 2, 2 + 1 + 3, 0), ranker.score(JOANNA_LEE));
+        assertEquals(new NameMatchRanker.Hit(BOB_LEE, 1, 3 + 1 + 3, 1), ranker.score(BOB_LEE));
+    }
+
+    @Test
+    public void rank_ordersByMatchCountScoreKeywordThenName() {
+        NameMatchRanker ranker = new NameMatchRanker(Arrays.asList("anna", "lee"));
+        List<Person> persons = Arrays.asList(BOB_LEE, ANNA, JOANNA_LEE, ALEX_LEE, ANNA_LEE);
+
+        List<Person> ranked = ranker.rank(persons).stream().map(NameMatchRanker.Hit::person).toList();
+
+        assertEquals(Arrays.asList(ANNA_LEE, JOANNA_LEE, ANNA, ALEX_LEE, BOB_LEE), ranked);
+    }
+
+    @Test
+    public void comparatorFor_unrankedPerson_sortedAfterRankedPersons() {
+        NameMatchRanker ranker = new NameMatchRanker(Arrays.asList("anna", "lee"));
+        List<Person> persons = new ArrayList<>(Arrays.asList(BOB_LEE, JOANNA_LEE));
+        List<Person> sorted = new ArrayList<>(Arrays.asList(ANNA_LEE, BOB_LEE, JOANNA_LEE));
+
+        sorted.sort(ranker.comparatorFor(persons));
+
+        assertEquals(Arrays.asList(JOANNA_LEE, BOB_LEE, ANNA_LEE), sorted);
+    }
+
+    @Test
+    public void comparatorFor_unrankedPersons_keepOriginalOrder() {
+        NameMatchRanker ranker = new NameMatchRanker(Arrays.asList("anna", "lee"));
+        List<Person> persons = Arrays.asList(BOB_LEE);
+        List<Person> sorted = new ArrayList<>(Arrays.asList(ALEX_LEE, ANNA, BOB_LEE, ANNA_LEE));
+
+        sorted.sort(ranker.comparatorFor(persons));
+
+        assertEquals(Arrays.asList(BOB_LEE, ALEX_LEE, ANNA, ANNA_LEE), sorted);
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class NameSearchIndexTest {
+
+    private final NameSearchIndex index = new NameSearchIndex();
+
+    @Test
+    public void search_substringOfToken_returnsMatchingNames() {
+        index.add(new Name("Alice Pauline"));
+        index.add(new Name("Benson Meier"));
+        index.add(new Name("Daniel Meier"));
+
+        assertEquals(Set.of(new Name("Benson Meier"), new Name("Daniel Meier")), index.search("MEIER"));
+        assertEquals(Set.of(new Name("Benson Meier"), new Name("Daniel Meier")), index.search("eie"));
+        assertEquals(Set.of(new Name("Alice Pauline")), index.search("aulin"));
+        assertEquals(Set.of(new Name("Alice Pauline"), new Name("Daniel Meier")), index.search("l"));
+        assertTrue(index.search("meierx").isEmpty());
+    }
+
+    @Test
+    public void remove_lastNameWithToken_tokenNoLongerFound() {
+        index.add(new Name("Alice Pauline"));
+        index.add(new Name("Alice Meier"));
+        index.remove(new Name("Alice Pauline"));
+
+        assertTrue(index.search("pauline").isEmpty());
+        assertEquals(Set.of(new Name("Alice Meier")), index.search("alice"));
+    }
+
+    @Test
+    public void searchAll_typicalPersons_sameResultAsPredicate() {
+        List<Person> persons = getTypicalPersons();
+        persons.forEach(person -> index.add(person.name()));
+
+        for (List<String> keywords : List.of(List.of("meier"), List.of("a"), List.of("Kurz", "ell"),
+                List.of("xyz"), List.of("ALICE", "pauline"))) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+            Set<Name> names = index.searchAll(predicate).get();
+            for (Person person : persons) {
+                assertEquals(predicate.test(person), names.contains(person.name()), keywords + " " + person.name());
+            }
+        }
+    }
+
+    @Test
+    public void searchAll_keywordNotSingleWord_returnsEmpty() {
+        index.add(ALICE.name());
+        index.add(BENSON.name());
+
+        assertTrue(index.searchAll(new NameContainsKeywordsPredicate(Arrays.asList("alice pauline"))).isEmpty());
+        assertTrue(index.searchAll(new NameContainsKeywordsPredicate(Arrays.asList("alice", ""))).isEmpty());
+        assertFalse(index.searchAll(new NameContainsKeywordsPredicate(Arrays.asList("alice"))).isEmpty());
+    }
+}
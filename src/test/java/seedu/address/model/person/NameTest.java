@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.assertAcceptsSameAsRegex;
 
 import org.junit.jupiter.api.Test;
 
@@ -57,4 +58,9 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void isValidName_sameAsValidationRegex() {
+        assertAcceptsSameAsRegex(Name::isValidName, Name.VALIDATION_REGEX, 'a', 46, 48);
+    }
 }
@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.assertAcceptsSameAsRegex;
 
 import org.junit.jupiter.api.Test;
 
@@ -57,4 +58,9 @@ public class PhoneTest {
         // different values -> returns false
         assertFalse(phone.equals(new Phone("995")));
     }
+
+    @Test
+    public void isValidPhone_sameAsValidationRegex() {
+        assertAcceptsSameAsRegex(Phone::isValidPhone, Phone.VALIDATION_REGEX, '7', 8, 10);
+    }
 }
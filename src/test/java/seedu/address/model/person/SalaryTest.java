@@ -1,6 +1,9 @@
 package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.text.DecimalFormat;
 import java.util.Random;
@@ -41,4 +44,61 @@ class SalaryTest {
         double value2 = RAND.nextDouble(100000);
         assertEquals(Math.signum(value1 - value2), Math.signum(new Salary(value1).compareTo(new Salary(value2))));
     }
+
+    @Test
+    void parse_plainAndScientificNotation_exactCents() {
+        assertEquals(123450, Salary.parse("1234.5").inCents());
+        assertEquals(123456, Salary.parse("1234.56").inCents());
+        assertEquals(100000, Salary.parse("1000").inCents());
+        assertEquals(1000000000, Salary.parse("1.0E7").inCents());
+        assertEquals(10013, Salary.parse("100.125").inCents());
+    }
+
+    @Test
+    void parse_invalidSalary_throwsException() {
+        assertThrows(NumberFormatException.class, () -> Salary.parse("fifty thousand"));
+        assertThrows(NumberFormatException.class, () -> Salary.parse(""));
+        assertThrows(IllegalArgumentException.class, () -> Salary.parse("-1"));
+    }
+
+    @Test
+    void isValidSalary_boundaries() {
+        assertTrue(Salary.isValidSalary(0));
+        assertTrue(Salary.isValidSalary(Salary.MAX_DOLLARS));
+        assertFalse(Salary.isValidSalary(-0.01));
+        assertFalse(Salary.isValidSalary(1_000_000_000_000.01));
+        assertFalse(Salary.isValidSalary(1e300));
+        assertFalse(Salary.isValidSalary(Double.POSITIVE_INFINITY));
+        assertFalse(Salary.isValidSalary(Double.NaN));
+    }
+
+    @Test
+    void parse_aboveLimit_throwsIllegalArgumentException() {
+        assertEquals(100_000_000_000_000L, Salary.parse("1000000000000").inCents());
+        assertThrows(IllegalArgumentException.class, () -> Salary.parse("1000000000000.01"));
+        assertThrows(IllegalArgumentException.class, () -> Salary.parse("1e300"));
+        assertThrows(IllegalArgumentException.class, () -> new Salary(1e300));
+        assertThrows(IllegalArgumentException.class, () -> Salary.fromCents(100_000_000_000_001L));
+    }
+
+    @Test
+    void toPlainString_parse_roundTrips() {
+        long cents = RAND.nextLong(10_000_000_000L);
+        Salary salary = Salary.fromCents(cents);
+        assertEquals(salary, Salary.parse(salary.toPlainString()));
+        assertEquals("1234.05", Salary.fromCents(123405).toPlainString());
+    }
+
+    @Test
+    void toString_groupsThousands() {
+        assertEquals("$1,234,567.8 / month", Salary.fromCents(123456780).toString());
+        assertEquals("$0 / month", Salary.fromCents(0).toString());
+        assertEquals("$999.01 / month", Salary.fromCents(99901).toString());
+    }
+
+    @Test
+    void equals() {
+        assertEquals(new Salary(100.13), new Salary(100.13234));
+        assertEquals(Salary.fromCents(10013), new Salary(100.13));
+    }
 }
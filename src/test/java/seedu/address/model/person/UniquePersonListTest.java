@@ -2,16 +2,20 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -127,6 +131,37 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personInMiddle_laterPersonsStillFound() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        uniquePersonList.remove(BENSON);
+        assertFalse(uniquePersonList.contains(BENSON));
+        uniquePersonList.remove(CARL);
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sort_reordersList_indexesFollowNewPositions() {
+        uniquePersonList.setPersons(Arrays.asList(CARL, BENSON, ALICE));
+        uniquePersonList.sort((first, second) -> first.name().fullName().compareTo(second.name().fullName()));
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getPersonById_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(ALICE, uniquePersonList.getPersonById(ALICE.id()));
+    }
+
+    @Test
+    public void getPersonById_removedPerson_returnsNull() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertNull(uniquePersonList.getPersonById(ALICE.id()));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +197,46 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_namesSwapped_replacedInPlace() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(BENSON);
+        Person aliceAsBenson = new PersonBuilder(ALICE, true).withName(BENSON.name().fullName()).build();
+        Person bensonAsAlice = new PersonBuilder(BENSON, true).withName(ALICE.name().fullName()).build();
+
+        uniquePersonList.setPersons(Map.of(ALICE, aliceAsBenson, BENSON, bensonAsAlice));
+
+        assertEquals(List.of(aliceAsBenson, CARL, bensonAsAlice), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(aliceAsBenson, uniquePersonList.getPersonById(ALICE.id()));
+        assertEquals(List.of(bensonAsAlice),
+                uniquePersonList.findByName(new NameContainsKeywordsPredicate(Arrays.asList("pauline"))));
+    }
+
+    @Test
+    public void setPersons_editsLeaveDuplicatePersons_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        Person aliceAsBenson = new PersonBuilder(ALICE, true).withName(BENSON.name().fullName()).build();
+
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(Map.of(ALICE, aliceAsBenson)));
+        assertEquals(List.of(ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void findByName_matchingPersons_returnedInListOrder() {
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(CARL);
+        uniquePersonList.add(CARL);
+
+        assertEquals(Arrays.asList(BENSON, ALICE, CARL),
+                uniquePersonList.findByName(new NameContainsKeywordsPredicate(Arrays.asList("meier", "al", "kurz"))));
+        assertEquals(Collections.emptyList(),
+                uniquePersonList.findByName(new NameContainsKeywordsPredicate(Arrays.asList("zed"))));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
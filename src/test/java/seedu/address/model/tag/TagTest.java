@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.assertAcceptsSameAsRegex;
 
 import org.junit.jupiter.api.Test;
 
@@ -67,4 +68,8 @@ public class TagTest {
         assertEquals(tag1.hashCode(), tag2.hashCode());
     }
 
+    @Test
+    public void isValidTagName_sameAsValidationRegex() {
+        assertAcceptsSameAsRegex(Tag::isValidTagName, Tag.VALIDATION_REGEX, 'a', 16, 18);
+    }
 }
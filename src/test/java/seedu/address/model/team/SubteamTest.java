@@ -82,6 +82,24 @@ class SubteamTest {
         });
     }
 
+    @Test
+    void indirectCyclicSubteamsGraph_throwsInvalidSubteamNesting() {
+        teamA.addToSubteam(teamB.getId());
+        teamB.addToSubteam(teamC.getId());
+        assertThrows(InvalidSubteamNesting.class, () -> teamC.addToSubteam(teamA.getId()));
+    }
+
+    @Test
+    void subteamWithParent_throwsInvalidSubteamNesting() {
+        teamA.addToSubteam(teamC.getId());
+        assertThrows(InvalidSubteamNesting.class, () -> teamB.addToSubteam(teamC.getId()));
+    }
+
+    @Test
+    void nonExistentSubteam_throwsTeamNotFoundException() {
+        assertThrows(TeamNotFoundException.class, () -> teamA.addToSubteam("T0004"));
+    }
+
     @Test
     void size_returnsCorrectSize() {
         Subteams subteams = new Subteams();
@@ -0,0 +1,71 @@
+package seedu.address.model.team;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TeamHierarchyIndexTest {
+
+    private final TeamHierarchyIndex index = new TeamHierarchyIndex();
+
+    @BeforeEach
+    public void setUp() {
+        for (String id : new String[] {"T0001", "T0002", "T0003", "T0004", "T0005"}) {
+            index.add(id);
+        }
+        // T0001 -> T0002 -> T0003, T0004 -> T0005
+        index.setParent("T0002", "T0001");
+        index.setParent("T0003", "T0002");
+        index.setParent("T0005", "T0004");
+    }
+
+    @Test
+    public void setParent_nestedChain_answersAncestorAndDescendantQueries() {
+        assertTrue(index.isNestedUnder("T0003", "T0001"));
+        assertTrue(index.isNestedUnder("T0002", "T0001"));
+        assertFalse(index.isNestedUnder("T0001", "T0003"));
+        assertFalse(index.isNestedUnder("T0005", "T0001"));
+        assertEquals(Set.of("T0002", "T0003"), index.getDescendantIds("T0001"));
+        assertEquals(Set.of("T0001", "T0002"), index.getAncestorIds("T0003"));
+        assertEquals("T0002", index.getParentId("T0003"));
+    }
+
+    @Test
+    public void setParent_subtreeMoved_updatesBothSides() {
+        assertTrue(index.setParent("T0004", "T0003"));
+
+        assertEquals(Set.of("T0002", "T0003", "T0004", "T0005"), index.getDescendantIds("T0001"));
+        assertEquals(Set.of("T0001", "T0002", "T0003", "T0004"), index.getAncestorIds("T0005"));
+
+        assertTrue(index.setParent("T0004", null));
+        assertEquals(Set.of("T0002", "T0003"), index.getDescendantIds("T0001"));
+        assertEquals(Set.of("T0004"), index.getAncestorIds("T0005"));
+    }
+
+    @Test
+    public void setParent_cycleOrUnknownTeam_rejected() {
+        assertFalse(index.setParent("T0001", "T0003"));
+        assertFalse(index.setParent("T0001", "T0001"));
+        assertFalse(index.setParent("T0001", "T0009"));
+        assertFalse(index.setParent("T0009", "T0001"));
+        assertNull(index.getParentId("T0001"));
+        assertEquals(Set.of("T0002", "T0003"), index.getDescendantIds("T0001"));
+    }
+
+    @Test
+    public void remove_middleTeam_subteamsBecomeTopLevel() {
+        index.remove("T0002");
+
+        assertEquals(Set.of(), index.getDescendantIds("T0001"));
+        assertEquals(Set.of(), index.getAncestorIds("T0003"));
+        assertNull(index.getParentId("T0003"));
+        assertFalse(index.isNestedUnder("T0002", "T0001"));
+        assertTrue(index.setParent("T0003", "T0001"));
+    }
+}
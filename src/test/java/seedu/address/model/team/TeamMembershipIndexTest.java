@@ -0,0 +1,64 @@
+package seedu.address.model.team;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.TeamBuilder;
+
+public class TeamMembershipIndexTest {
+
+    private final TeamMembershipIndex index = new TeamMembershipIndex();
+
+    @Test
+    public void addTeam_newTeams_teamsOfEachPersonIndexed() {
+        index.addTeam(new TeamBuilder().withId("T0001").withLeader("E0001").withMembers("E0001", "E0002").build());
+        index.addTeam(new TeamBuilder().withId("T0002").withLeader("E0002").withMembers("E0002").build());
+
+        assertEquals(Set.of("T0001"), index.getTeamIds("E0001"));
+        assertEquals(Set.of("T0001", "T0002"), index.getTeamIds("E0002"));
+        assertEquals(Set.of("T0001"), index.getLedTeamIds("E0001"));
+        assertEquals(Set.of("T0002"), index.getLedTeamIds("E0002"));
+        assertEquals(Set.of(), index.getTeamIds("E0003"));
+    }
+
+    @Test
+    public void replaceTeam_membersAndLeaderChanged_onlyDifferencesApplied() {
+        Team team = new TeamBuilder().withId("T0001").withLeader("E0001").withMembers("E0001", "E0002").build();
+        index.addTeam(team);
+
+        Team edited = new TeamBuilder(team).withMembers("E0002", "E0003").withLeader("E0003").build();
+        index.replaceTeam(team, edited);
+
+        assertEquals(Set.of(), index.getTeamIds("E0001"));
+        assertEquals(Set.of("T0001"), index.getTeamIds("E0002"));
+        assertEquals(Set.of("T0001"), index.getTeamIds("E0003"));
+        assertEquals(Set.of(), index.getLedTeamIds("E0001"));
+        assertEquals(Set.of("T0001"), index.getLedTeamIds("E0003"));
+    }
+
+    @Test
+    public void addMembers_knownTeam_membersIndexed() {
+        index.addTeam(new TeamBuilder().withId("T0001").withMembers("E0001").build());
+
+        index.addMembers("T0001", List.of("E0002", "E0003"));
+
+        assertEquals(Set.of("T0001"), index.getTeamIds("E0002"));
+        assertEquals(Set.of("T0001"), index.getTeamIds("E0003"));
+    }
+
+    @Test
+    public void removeTeam_knownTeam_membershipsDropped() {
+        Team team = new TeamBuilder().withId("T0001").withLeader("E0001").withMembers("E0001").build();
+        index.addTeam(team);
+        index.addTeam(new TeamBuilder().withId("T0002").withMembers("E0001").build());
+
+        index.removeTeam(team);
+
+        assertEquals(Set.of("T0002"), index.getTeamIds("E0001"));
+        assertEquals(Set.of(), index.getLedTeamIds("E0001"));
+    }
+}
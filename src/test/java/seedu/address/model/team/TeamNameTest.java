@@ -0,0 +1,40 @@
+package seedu.address.model.team;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.assertAcceptsSameAsRegex;
+
+import org.junit.jupiter.api.Test;
+
+public class TeamNameTest {
+
+    @Test
+    public void constructor_invalidTeamName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TeamName("Team Alpha"));
+    }
+
+    @Test
+    public void isValidTeamName() {
+        // null team name
+        assertThrows(NullPointerException.class, () -> TeamName.isValidTeamName(null));
+
+        // invalid team names
+        assertFalse(TeamName.isValidTeamName("")); // empty string
+        assertFalse(TeamName.isValidTeamName(" ")); // spaces only
+        assertFalse(TeamName.isValidTeamName("Team Alpha")); // contains a space
+        assertFalse(TeamName.isValidTeamName("Team-Alpha")); // contains a hyphen
+        assertFalse(TeamName.isValidTeamName("Caf\u00e9")); // non-ASCII letter
+        assertFalse(TeamName.isValidTeamName("a".repeat(41))); // more than 40 characters
+
+        // valid team names
+        assertTrue(TeamName.isValidTeamName("A")); // one character
+        assertTrue(TeamName.isValidTeamName("Alpha2"));
+        assertTrue(TeamName.isValidTeamName("a".repeat(40))); // exactly 40 characters
+    }
+
+    @Test
+    public void isValidTeamName_sameAsValidationRegex() {
+        assertAcceptsSameAsRegex(TeamName::isValidTeamName, TeamName.VALIDATION_REGEX, 'a', 36, 38);
+    }
+}
@@ -72,6 +72,20 @@ public class TeamTest {
         assertTrue(t.getMembers().contains(TypicalPersons.BENSON.id()));
     }
 
+    @Test
+    public void hasMember_afterMembersChanged_reflectsCurrentMembers() {
+        Team team = new Team("T1003", new TeamName("Members"));
+        team.withMembers(Arrays.asList(TypicalPersons.DANIEL.id(), TypicalPersons.ELLE.id()));
+        assertEquals(Arrays.asList(TypicalPersons.DANIEL.id(), TypicalPersons.ELLE.id()), team.getMembers());
+
+        team.removeMember(TypicalPersons.DANIEL.id());
+        team.addMember(TypicalPersons.BENSON.id());
+
+        assertFalse(team.hasMember(TypicalPersons.DANIEL.id()));
+        assertTrue(team.hasMember(TypicalPersons.BENSON.id()));
+        assertEquals(Arrays.asList(TypicalPersons.ELLE.id(), TypicalPersons.BENSON.id()), team.getMembers());
+    }
+
     @Test
     public void removeMember_removingLeader_clearsLeader() {
         Team team = new Team("T0002", new TeamName("Backend"));
@@ -1,11 +1,15 @@
 package seedu.address.model.team;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalTeams.CORE;
 
 import java.util.Arrays;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -48,6 +52,64 @@ public class UniqueTeamListTest {
         assertThrows(DuplicateTeamException.class, () -> list.setTeams(Arrays.asList(CORE, CORE)));
     }
 
+    @Test
+    public void remove_team_laterTeamsStillFoundById() {
+        UniqueTeamList list = new UniqueTeamList();
+        Team first = new TeamBuilder().withId("T0001").build();
+        Team second = new TeamBuilder().withId("T0002").build();
+        Team third = new TeamBuilder().withId("T0003").build();
+        list.setTeams(Arrays.asList(first, second, third));
+
+        list.remove(first);
+
+        assertNull(list.findTeamById("T0001"));
+        assertSame(third, list.getTeamById("T0003"));
+        Team editedThird = new TeamBuilder(third).withTeamName("Renamed").build();
+        list.setTeam(third, editedThird);
+        assertEquals(Arrays.asList(second, editedThird), list.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setTeam_teamWithSameIdButNotInList_throwsTeamNotFoundException() {
+        UniqueTeamList list = new UniqueTeamList();
+        list.add(CORE);
+        Team copy = new TeamBuilder(CORE).build();
+        assertThrows(TeamNotFoundException.class, () -> list.setTeam(copy, copy));
+    }
+
+    @Test
+    public void setSubteam_nestedTeams_answersSubteamQueries() {
+        AddressBook ab = new AddressBook();
+        Subteams.setAddressBook(ab);
+        Team a = new Team("T0001", new TeamName("A"));
+        Team b = new Team("T0002", new TeamName("B"));
+        Team c = new Team("T0003", new TeamName("C"));
+        ab.addTeam(a);
+        ab.addTeam(b);
+        ab.addTeam(c);
+
+        assertTrue(ab.setSubteam(a, b));
+        assertTrue(ab.setSubteam(b, c));
+        assertTrue(ab.isSubteamOf("T0003", "T0001"));
+        assertEquals(Set.of("T0002", "T0003"), ab.getAllSubteamIds("T0001"));
+        assertFalse(ab.setSubteam(c, a));
+
+        ab.removeTeam(c);
+        assertFalse(ab.isSubteamOf("T0003", "T0001"));
+        assertEquals(Set.of("T0002"), ab.getAllSubteamIds("T0001"));
+    }
+
+    @Test
+    public void setTeams_teamsWithParentIds_hierarchyRebuilt() {
+        UniqueTeamList list = new UniqueTeamList();
+        Team child = new TeamBuilder().withId("T0002").withParentTeamId("T0001").build();
+        Team parent = new TeamBuilder().withId("T0001").build();
+        list.setTeams(Arrays.asList(child, parent));
+
+        assertTrue(list.isNestedUnder("T0002", "T0001"));
+        assertEquals(Set.of("T0001"), list.getAncestorIds("T0002"));
+    }
+
     @Test
     void getHierarchyString_singleRoot_noSubteams() {
         UniqueTeamList list = new UniqueTeamList();
@@ -124,4 +186,52 @@ public class UniqueTeamListTest {
 
         assertEquals(expected, list.getHierarchyString());
     }
+
+    @Test
+    void getHierarchyString_noTeamChanged_returnsSameString() {
+        UniqueTeamList list = new UniqueTeamList();
+        list.add(new Team("T1", new TeamName("Root")));
+
+        assertSame(list.getHierarchyString(), list.getHierarchyString());
+    }
+
+    @Test
+    void getHierarchyString_teamsChanged_changedPathsReRendered() {
+        AddressBook ab = new AddressBook();
+        Subteams.setAddressBook(ab);
+        Team a = new Team("T1", new TeamName("A"));
+        Team b = new Team("T2", new TeamName("B"));
+        Team c = new Team("T3", new TeamName("C"));
+        Team d = new Team("T4", new TeamName("D"));
+        ab.addTeam(a);
+        ab.addTeam(b);
+        ab.addTeam(c);
+        ab.addTeam(d);
+        ab.setSubteam(a, b);
+        ab.setSubteam(b, c);
+        assertEquals("""
+                A #T1 Members: []
+                └── B #T2 Members: []
+                    └── C #T3 Members: []
+                D #T4 Members: []
+                """, ab.getOrganizationHierarchyString());
+
+        // a new last sibling changes the branches drawn for the existing subtree
+        ab.setSubteam(a, d);
+        assertEquals("""
+                A #T1 Members: []
+                ├── B #T2 Members: []
+                │   └── C #T3 Members: []
+                └── D #T4 Members: []
+                """, ab.getOrganizationHierarchyString());
+
+        Team editedC = new TeamBuilder(c).withMembers("E0001").build();
+        ab.setTeam(c, editedC);
+        assertEquals("""
+                A #T1 Members: []
+                ├── B #T2 Members: []
+                │   └── C #T3 Members: [E0001]
+                └── D #T4 Members: []
+                """, ab.getOrganizationHierarchyString());
+    }
 }
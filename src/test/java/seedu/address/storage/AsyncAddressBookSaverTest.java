@@ -0,0 +1,125 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AsyncAddressBookSaverTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AsyncAddressBookSaver(null));
+    }
+
+    @Test
+    public void submit_thenClose_addressBookSaved() {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+        AddressBook addressBook = new AddressBook();
+
+        saver.submit(addressBook);
+        saver.close();
+
+        assertEquals(List.of(addressBook), storage.saved);
+    }
+
+    @Test
+    public void submit_burstWhileSaving_onlyLatestSavedNext() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        storage.blockFirstSave();
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+        AddressBook first = new AddressBook();
+        AddressBook second = new AddressBook();
+        AddressBook third = new AddressBook();
+
+        saver.submit(first);
+        storage.firstSaveStarted.await();
+        saver.submit(second);
+        saver.submit(third);
+        storage.releaseFirstSave.countDown();
+        saver.flush();
+
+        assertEquals(2, storage.saved.size());
+        assertSame(first, storage.saved.get(0));
+        assertSame(third, storage.saved.get(1));
+        saver.close();
+    }
+
+    @Test
+    public void submit_saveFails_failureHandlerCalled() {
+        IOException failure = new IOException("disk full");
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        storage.failure = failure;
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+        List<IOException> reported = new CopyOnWriteArrayList<>();
+        saver.setFailureHandler(reported::add);
+
+        saver.submit(new AddressBook());
+        saver.flush();
+
+        assertEquals(List.of(failure), reported);
+        saver.close();
+    }
+
+    /**
+     * Records the address books it is asked to save, optionally failing or blocking on the first save.
+     */
+    private static class AddressBookStorageStub implements AddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = new CopyOnWriteArrayList<>();
+        private final CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        private CountDownLatch releaseFirstSave = new CountDownLatch(0);
+        private IOException failure;
+
+        void blockFirstSave() {
+            releaseFirstSave = new CountDownLatch(1);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            saved.add(addressBook);
+            if (saved.size() == 1) {
+                firstSaveStarted.countDown();
+                try {
+                    releaseFirstSave.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveAddressBook(addressBook);
+        }
+
+        @Override
+        public Path getAddressBookFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
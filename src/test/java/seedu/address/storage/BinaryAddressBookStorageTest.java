@@ -0,0 +1,132 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_thenRead_sameAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getAddressBookWithTeamAndAuditLog();
+
+        storage.saveAddressBook(original);
+
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertReadBack(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_smallerThanJson() throws Exception {
+        Path binaryPath = testFolder.resolve("addressBook.bin");
+        Path jsonPath = testFolder.resolve("addressBook.json");
+        AddressBook original = getAddressBookWithTeamAndAuditLog();
+
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(original);
+        new JsonAddressBookStorage(jsonPath, true).saveAddressBook(original);
+
+        assertTrue(Files.size(binaryPath) < Files.size(jsonPath));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_readAsJson() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getAddressBookWithTeamAndAuditLog();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        ReadOnlyAddressBook imported = storage.readAddressBook().get();
+        assertReadBack(original, imported);
+
+        // written back in the binary format
+        storage.saveAddressBook(imported);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertReadBack(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_corruptedByte_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES, BinaryAddressBookStorage.FORMAT_VERSION + 1);
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("addressBook.bin")).saveAddressBook(null));
+    }
+
+    private static AddressBook getAddressBookWithTeamAndAuditLog() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(HOON);
+        addressBook.addTeam(new Team("T0001", new TeamName("Alpha")).withLeader(HOON.id()));
+        addressBook.addAuditEntry("ADD", "Added Hoon");
+        return addressBook;
+    }
+
+    /**
+     * Asserts that {@code actual} has the persons, teams and audit log of {@code expected}.
+     */
+    private static void assertReadBack(AddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getPersonList(), actual.getPersonList());
+        assertEquals(teamsToStrings(expected), teamsToStrings(actual));
+        assertEquals(auditLogToStrings(expected), auditLogToStrings(actual));
+    }
+
+    private static List<String> teamsToStrings(ReadOnlyAddressBook addressBook) {
+        return addressBook.getTeamList().stream()
+                .map(team -> team.getId() + " " + team.getTeamName() + " " + team.getLeaderId() + " "
+                        + team.getMembers())
+                .toList();
+    }
+
+    private static List<String> auditLogToStrings(ReadOnlyAddressBook addressBook) {
+        return addressBook.getAuditLog().getEntries().stream()
+                .map(entry -> entry.getTimestamp().withNano(0) + " " + entry.getAction() + " " + entry.getDetails()
+                        + " " + entry.getChanges())
+                .toList();
+    }
+}
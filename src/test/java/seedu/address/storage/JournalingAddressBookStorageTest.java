@@ -0,0 +1,239 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalingAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalingAddressBookStorage(testFolder.resolve("missing.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, new PersonBuilder(BENSON, true).withPhone("91234567").build());
+        original.addTeam(new Team("T0001", new TeamName("Alpha")).withLeader(HOON.id()));
+        original.addAuditEntry("ADD", "Added Hoon");
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        // a header line and one line per save that changed something
+        assertEquals(3, Files.readAllLines(JournalingAddressBookStorage.getJournalPath(filePath)).size());
+        assertReadBack(original, filePath);
+    }
+
+    @Test
+    public void saveAddressBook_nothingChanged_journalNotWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(new AddressBook(original));
+
+        assertFalse(Files.exists(JournalingAddressBookStorage.getJournalPath(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_journalFull_snapshotRewritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, 400);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(JournalingAddressBookStorage.getJournalPath(filePath)));
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(JournalingAddressBookStorage.getJournalPath(filePath)));
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_personsReordered_snapshotRewritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        original.sortPersons(Comparator.comparing(person -> person.name().fullName(), Comparator.reverseOrder()));
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(JournalingAddressBookStorage.getJournalPath(filePath)));
+        assertReadBack(original, filePath);
+    }
+
+    @Test
+    public void saveAddressBook_membersAddedInPlace_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        Team team = new Team("T0001", new TeamName("Alpha")).withLeader(ALICE.id());
+        original.addTeam(team);
+        storage.saveAddressBook(new AddressBookSnapshot(original));
+
+        original.addTeamMembers(team, Map.of(BENSON, BENSON.withAddedTeam("T0001")));
+        storage.saveAddressBook(new AddressBookSnapshot(original));
+
+        assertEquals(2, Files.readAllLines(JournalingAddressBookStorage.getJournalPath(filePath)).size());
+        assertReadBack(original, filePath);
+    }
+
+    @Test
+    public void readAddressBook_nameGivenUpLaterInSameSave_replayed() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        // Alice is changed first, but only takes Benson's name after Benson gives it up
+        Person renamedAlice = new PersonBuilder(ALICE, true).withName("Bob").build();
+        original.setPerson(ALICE, renamedAlice);
+        Person renamedBenson = new PersonBuilder(BENSON, true).withName("Dan").build();
+        original.setPerson(BENSON, renamedBenson);
+        original.setPerson(renamedAlice, new PersonBuilder(renamedAlice, true).withName(BENSON.name().fullName())
+                .build());
+        original.setPerson(renamedBenson, new PersonBuilder(renamedBenson, true).withName(ALICE.name().fullName())
+                .build());
+        storage.saveAddressBook(original);
+
+        assertEquals(2, Files.readAllLines(JournalingAddressBookStorage.getJournalPath(filePath)).size());
+        assertReadBack(original, filePath);
+    }
+
+    @Test
+    public void saveAddressBook_copyChangedAfterOriginal_snapshotRewritten() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        AddressBook copy = new AddressBook(original);
+        storage.saveAddressBook(copy);
+
+        original.addPerson(IDA);
+        copy.addPerson(HOON);
+        storage.saveAddressBook(copy);
+
+        assertFalse(Files.exists(JournalingAddressBookStorage.getJournalPath(filePath)));
+        assertReadBack(copy, filePath);
+    }
+
+    @Test
+    public void readAddressBook_journalFromEarlierSnapshot_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalPath = JournalingAddressBookStorage.getJournalPath(filePath);
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        byte[] earlierJournal = Files.readAllBytes(journalPath);
+
+        // the snapshot is rewritten with the change, but the old journal is left behind
+        new JournalingAddressBookStorage(filePath).saveAddressBook(original);
+        Files.write(journalPath, earlierJournal);
+
+        assertReadBack(original, filePath);
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastLine_ignoredAndNextSaveRewritesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalPath = JournalingAddressBookStorage.getJournalPath(filePath);
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.write(journalPath, "{\"persons\":[{\"na".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        JournalingAddressBookStorage restarted = new JournalingAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(restarted.readAddressBook().get());
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+
+        readBack.addPerson(IDA);
+        restarted.saveAddressBook(readBack);
+        assertFalse(Files.exists(journalPath));
+        assertReadBack(readBack, filePath);
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writtenInFull() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path otherPath = testFolder.resolve("export.json");
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+
+        storage.saveAddressBook(original, otherPath);
+
+        assertFalse(Files.exists(JournalingAddressBookStorage.getJournalPath(otherPath)));
+        assertEquals(original, new JsonAddressBookStorage(otherPath).readAddressBook().get());
+    }
+
+    /**
+     * Asserts that reading {@code filePath} with a new storage gives the persons, teams and audit log of
+     * {@code expected}.
+     */
+    private void assertReadBack(AddressBook expected, Path filePath) throws Exception {
+        ReadOnlyAddressBook readBack = new JournalingAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(expected.getPersonList(), readBack.getPersonList());
+        assertEquals(teamsToStrings(expected), teamsToStrings(readBack));
+        assertEquals(auditLogToStrings(expected), auditLogToStrings(readBack));
+    }
+
+    private static List<String> teamsToStrings(ReadOnlyAddressBook addressBook) {
+        return addressBook.getTeamList().stream()
+                .map(team -> team.getId() + " " + team.getTeamName() + " " + team.getLeaderId() + " "
+                        + team.getMembers())
+                .toList();
+    }
+
+    private static List<String> auditLogToStrings(ReadOnlyAddressBook addressBook) {
+        return addressBook.getAuditLog().getEntries().stream()
+                .map(entry -> entry.getAction() + " " + entry.getDetails())
+                .toList();
+    }
+}
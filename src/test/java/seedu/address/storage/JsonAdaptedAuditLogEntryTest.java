@@ -5,11 +5,13 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.audit.AuditLogEntry;
+import seedu.address.model.audit.FieldChange;
 
 public class JsonAdaptedAuditLogEntryTest {
     private static final String VALID_TIMESTAMP = "2024-01-15 10:30:45";
@@ -29,10 +31,30 @@ public class JsonAdaptedAuditLogEntryTest {
         assertEquals(auditLogEntry.getDetails(), jsonAdaptedAuditLogEntry.toModelType().getDetails());
     }
 
+    @Test
+    public void toModelType_withChanges_changesKept() throws Exception {
+        List<FieldChange> changes = List.of(new FieldChange("E0001", "phone", "91234567", "98765432"),
+                new FieldChange("T0001", "members", null, "E0001"));
+        AuditLogEntry auditLogEntry = new AuditLogEntry(LocalDateTime.of(2024, 1, 15, 10, 30, 45), VALID_ACTION,
+                VALID_DETAILS, changes);
+
+        AuditLogEntry readBack = new JsonAdaptedAuditLogEntry(auditLogEntry).toModelType();
+
+        assertEquals(changes, readBack.getChanges());
+        assertEquals(List.of("E0001", "T0001"), readBack.getEntityIds());
+    }
+
+    @Test
+    public void toModelType_changeWithoutEntityId_throwsIllegalValueException() {
+        JsonAdaptedAuditLogEntry auditLogEntry = new JsonAdaptedAuditLogEntry(VALID_TIMESTAMP, VALID_ACTION,
+                VALID_DETAILS, List.of(new JsonAdaptedFieldChange(null, "phone", "1", "2")));
+        assertThrows(IllegalValueException.class, auditLogEntry::toModelType);
+    }
+
     @Test
     public void toModelType_nullTimestamp_throwsIllegalValueException() {
         JsonAdaptedAuditLogEntry auditLogEntry = new JsonAdaptedAuditLogEntry(
-                null, VALID_ACTION, VALID_DETAILS);
+                null, VALID_ACTION, VALID_DETAILS, null);
         String expectedMessage = "Missing audit log entry fields";
         assertThrows(IllegalValueException.class, expectedMessage, auditLogEntry::toModelType);
     }
@@ -40,7 +62,7 @@ public class JsonAdaptedAuditLogEntryTest {
     @Test
     public void toModelType_nullAction_throwsIllegalValueException() {
         JsonAdaptedAuditLogEntry auditLogEntry = new JsonAdaptedAuditLogEntry(
-                VALID_TIMESTAMP, null, VALID_DETAILS);
+                VALID_TIMESTAMP, null, VALID_DETAILS, null);
         String expectedMessage = "Missing audit log entry fields";
         assertThrows(IllegalValueException.class, expectedMessage, auditLogEntry::toModelType);
     }
@@ -48,7 +70,7 @@ public class JsonAdaptedAuditLogEntryTest {
     @Test
     public void toModelType_nullDetails_throwsIllegalValueException() {
         JsonAdaptedAuditLogEntry auditLogEntry = new JsonAdaptedAuditLogEntry(
-                VALID_TIMESTAMP, VALID_ACTION, null);
+                VALID_TIMESTAMP, VALID_ACTION, null, null);
         String expectedMessage = "Missing audit log entry fields";
         assertThrows(IllegalValueException.class, expectedMessage, auditLogEntry::toModelType);
     }
@@ -56,7 +78,7 @@ public class JsonAdaptedAuditLogEntryTest {
     @Test
     public void toModelType_invalidTimestamp_throwsIllegalValueException() {
         JsonAdaptedAuditLogEntry auditLogEntry = new JsonAdaptedAuditLogEntry(
-                INVALID_TIMESTAMP, VALID_ACTION, VALID_DETAILS);
+                INVALID_TIMESTAMP, VALID_ACTION, VALID_DETAILS, null);
         assertThrows(DateTimeParseException.class, auditLogEntry::toModelType);
     }
 }
@@ -0,0 +1,87 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonAddressBookReaderTest {
+
+    private static final int PERSON_COUNT = JsonAddressBookReader.BATCH_SIZE * 2 + 88;
+    private static final String MARKED_PHONE = "87654321";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JsonAddressBookReader().read(testFolder.resolve("missing.json")).isPresent());
+    }
+
+    @Test
+    public void read_manyPersons_sameAsReadingWholeFile() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getLargeAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        AddressBook readBack = new JsonAddressBookReader().read(filePath).get();
+
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertEquals(JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get().toModelType(),
+                readBack);
+    }
+
+    @Test
+    public void read_invalidPersonInLaterBatch_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getLargeAddressBook());
+        Files.writeString(filePath, Files.readString(filePath).replace(MARKED_PHONE, "8765abcd"));
+
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () ->
+                new JsonAddressBookReader().read(filePath));
+    }
+
+    @Test
+    public void read_nullArraysAndUnknownFields_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Files.writeString(filePath, "{ \"persons\" : null, \"theme\" : { \"colours\" : [ 1, 2 ] }, \"teams\" : [ ] }");
+
+        AddressBook readBack = new JsonAddressBookReader().read(filePath).get();
+
+        assertTrue(readBack.getPersonList().isEmpty());
+        assertTrue(readBack.getTeamList().isEmpty());
+    }
+
+    @Test
+    public void read_notAnObject_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Files.writeString(filePath, "[ ]");
+
+        assertThrows(IOException.class, () -> new JsonAddressBookReader().read(filePath));
+    }
+
+    /**
+     * Returns an address book with persons spread over several batches, one of which has {@link #MARKED_PHONE}.
+     */
+    private static AddressBook getLargeAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 1; i <= PERSON_COUNT; i++) {
+            String phone = i == JsonAddressBookReader.BATCH_SIZE * 2 + 1 ? MARKED_PHONE : String.valueOf(90000000 + i);
+            addressBook.addPerson(new PersonBuilder().withId(i).withName("Person " + i).withPhone(phone).build());
+        }
+        return addressBook;
+    }
+}
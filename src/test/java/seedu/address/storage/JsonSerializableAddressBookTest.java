@@ -50,7 +50,7 @@ public class JsonSerializableAddressBookTest {
     public void toModelType_duplicatePersons_throwsDuplicateException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(DuplicatePersonException.class, "Operation would result in duplicate persons",
+        assertThrows(DuplicatePersonException.class, "Operation would result in duplicate persons: Alice Pauline",
                 dataFromFile::toModelType);
     }
 
@@ -0,0 +1,164 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.audit.AuditLog;
+import seedu.address.model.audit.AuditLogEntry;
+
+public class SegmentedAuditLogStorageTest {
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAuditLog_missingDirectory_emptyAuditLog() throws Exception {
+        AuditLog auditLog = new SegmentedAuditLogStorage(testFolder.resolve("missing")).readAuditLog();
+
+        assertEquals(0, auditLog.getTotalEntryCount());
+        assertTrue(auditLog.getEntries().isEmpty());
+    }
+
+    @Test
+    public void saveAuditLog_nothingAppended_nothingWritten() throws Exception {
+        Path directory = testFolder.resolve("audit");
+        new SegmentedAuditLogStorage(directory).saveAuditLog();
+
+        assertFalse(Files.exists(directory));
+    }
+
+    @Test
+    public void saveAuditLog_pastMaximumSegmentSize_newSegmentsStarted() throws Exception {
+        Path directory = testFolder.resolve("audit");
+        SegmentedAuditLogStorage storage = new SegmentedAuditLogStorage(directory, 200);
+        appendEntries(storage, 0, 10);
+        storage.saveAuditLog();
+        appendEntries(storage, 10, 5);
+        storage.saveAuditLog();
+
+        assertTrue(countSegments(directory) > 1);
+        SegmentedAuditLogStorage restarted = new SegmentedAuditLogStorage(directory, 200);
+        assertEquals(15, restarted.readAuditLog().getTotalEntryCount());
+        assertEquals(List.of("3", "4", "5", "6", "7"), detailsOf(restarted.readEntries(3, 8)));
+    }
+
+    @Test
+    public void readEntries_oneAtATimeWhileAppending_sameAsReadingRange() throws Exception {
+        SegmentedAuditLogStorage storage = new SegmentedAuditLogStorage(testFolder.resolve("audit"), 200);
+        appendEntries(storage, 0, 10);
+        storage.saveAuditLog();
+        for (int i = 0; i < 10; i++) {
+            assertEquals(List.of(String.valueOf(i)), detailsOf(storage.readEntries(i, i + 1)));
+        }
+
+        // the newest segment grows and is read again rather than served from what was read before
+        appendEntries(storage, 10, 10);
+        storage.saveAuditLog();
+        assertEquals(Stream.iterate(0, i -> i + 1).limit(20).map(String::valueOf).toList(),
+                detailsOf(storage.readEntries(0, 20)));
+        for (int i = 0; i < 20; i++) {
+            assertEquals(List.of(String.valueOf(i)), detailsOf(storage.readEntries(i, i + 1)));
+        }
+    }
+
+    @Test
+    public void readAuditLog_manyEntries_newestEntriesInMemoryAndOlderInArchive() throws Exception {
+        Path directory = testFolder.resolve("audit");
+        SegmentedAuditLogStorage storage = new SegmentedAuditLogStorage(directory, 4096);
+        appendEntries(storage, 0, AuditLog.DEFAULT_TAIL_CAPACITY + 5);
+        storage.saveAuditLog();
+
+        SegmentedAuditLogStorage restarted = new SegmentedAuditLogStorage(directory, 4096);
+        AuditLog auditLog = restarted.readAuditLog();
+        auditLog.attachArchive(restarted);
+
+        assertEquals(AuditLog.DEFAULT_TAIL_CAPACITY, auditLog.getEntries().size());
+        assertEquals(String.valueOf(AuditLog.DEFAULT_TAIL_CAPACITY + 4), auditLog.getEntries().get(0).getDetails());
+        List<AuditLogEntry> history = auditLog.getHistory();
+        assertEquals(AuditLog.DEFAULT_TAIL_CAPACITY + 5, history.size());
+        assertEquals("0", history.get(history.size() - 1).getDetails());
+    }
+
+    @Test
+    public void readEntries_appendedButNotSaved_includesPendingEntries() throws Exception {
+        SegmentedAuditLogStorage storage = new SegmentedAuditLogStorage(testFolder.resolve("audit"));
+        appendEntries(storage, 0, 2);
+        storage.saveAuditLog();
+        appendEntries(storage, 2, 2);
+
+        assertEquals(List.of("1", "2", "3"), detailsOf(storage.readEntries(1, 4)));
+    }
+
+    @Test
+    public void saveAuditLog_incompleteLastLine_removedBeforeAppending() throws Exception {
+        Path directory = testFolder.resolve("audit");
+        SegmentedAuditLogStorage storage = new SegmentedAuditLogStorage(directory);
+        appendEntries(storage, 0, 2);
+        storage.saveAuditLog();
+        Path segment = directory.resolve("segment-000000000000.log");
+        Files.write(segment, "{\"timest".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        SegmentedAuditLogStorage restarted = new SegmentedAuditLogStorage(directory);
+        assertEquals(2, restarted.readAuditLog().getTotalEntryCount());
+        appendEntries(restarted, 2, 1);
+        restarted.saveAuditLog();
+
+        assertEquals(List.of("0", "1", "2"), detailsOf(new SegmentedAuditLogStorage(directory).readEntries(0, 3)));
+    }
+
+    @Test
+    public void saveAuditLog_partialLineLeftByFailedWrite_removedBeforeRetrying() throws Exception {
+        Path directory = testFolder.resolve("audit");
+        SegmentedAuditLogStorage storage = new SegmentedAuditLogStorage(directory);
+        appendEntries(storage, 0, 2);
+        storage.saveAuditLog();
+        // a write that failed part-way leaves part of a line behind, and its entries pending
+        Path segment = directory.resolve("segment-000000000000.log");
+        Files.write(segment, "{\"timest".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        appendEntries(storage, 2, 1);
+        storage.saveAuditLog();
+
+        assertEquals(List.of("0", "1", "2"), detailsOf(new SegmentedAuditLogStorage(directory).readEntries(0, 3)));
+    }
+
+    @Test
+    public void readAuditLog_invalidEntry_throwsDataLoadingException() throws Exception {
+        Path directory = Files.createDirectories(testFolder.resolve("audit"));
+        Files.writeString(directory.resolve("segment-000000000000.log"), "{\"action\":\"ADD\"}\n");
+
+        assertThrows(DataLoadingException.class, () -> new SegmentedAuditLogStorage(directory).readAuditLog());
+    }
+
+    private static void appendEntries(SegmentedAuditLogStorage storage, int from, int count) {
+        for (int i = from; i < from + count; i++) {
+            storage.append(new AuditLogEntry(TIMESTAMP, "ADD", String.valueOf(i)));
+        }
+    }
+
+    private static long countSegments(Path directory) throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private static List<String> detailsOf(List<AuditLogEntry> entries) {
+        return entries.stream().map(AuditLogEntry::getDetails).toList();
+    }
+}
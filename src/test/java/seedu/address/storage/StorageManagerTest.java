@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
@@ -60,6 +61,18 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_withAuditLog_auditLogSavedSeparately() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.getAuditLog().attachArchive(storageManager);
+        original.addAuditEntry("ADD", "Added Alice");
+        storageManager.saveAddressBook(original);
+
+        assertTrue(storageManager.readAddressBook().get().getAuditLog().getEntries().isEmpty());
+        assertEquals(original.getAuditLog().getEntries().toString(),
+                storageManager.readAuditLog().getEntries().toString());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -1,9 +1,15 @@
 package seedu.address.testutil;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.Model;
@@ -19,6 +25,13 @@ public class TestUtil {
      */
     private static final Path SANDBOX_FOLDER = Paths.get("src", "test", "data", "sandbox");
 
+    /**
+     * Characters that validation inputs are made of: ASCII letters and digits, separators, whitespace, and a letter
+     * and a digit outside ASCII.
+     */
+    private static final String VALIDATION_ALPHABET = "a7-@._ \n\u00e9\u0663";
+    private static final int VALIDATION_INPUT_LENGTH = 4;
+
     /**
      * Appends {@code fileName} to the sandbox folder path and returns the resulting path.
      * Creates the sandbox folder if it doesn't exist.
@@ -52,4 +65,38 @@ public class TestUtil {
     public static Person getPerson(Model model, Index index) {
         return model.getFilteredPersonList().get(index.getZeroBased());
     }
+
+    /**
+     * Asserts that {@code isValid} accepts exactly the strings that match {@code regex}. The strings tried are all
+     * those of up to four characters from a mix of letters, digits, separators, whitespace and non-ASCII characters,
+     * and each of them padded with {@code padding} on either side by every length in {@code paddingLengths}.
+     */
+    public static void assertAcceptsSameAsRegex(Predicate<String> isValid, String regex, char padding,
+            int... paddingLengths) {
+        Pattern pattern = Pattern.compile(regex);
+        List<String> inputs = new ArrayList<>();
+        inputs.add("");
+        for (int start = 0; start < inputs.size(); start++) {
+            String input = inputs.get(start);
+            if (input.length() == VALIDATION_INPUT_LENGTH) {
+                break;
+            }
+            for (char c : VALIDATION_ALPHABET.toCharArray()) {
+                inputs.add(input + c);
+            }
+        }
+
+        for (String input : inputs) {
+            assertAcceptsSameAsRegex(isValid, pattern, input);
+            for (int length : paddingLengths) {
+                String pad = String.valueOf(padding).repeat(length);
+                assertAcceptsSameAsRegex(isValid, pattern, pad + input);
+                assertAcceptsSameAsRegex(isValid, pattern, input + pad);
+            }
+        }
+    }
+
+    private static void assertAcceptsSameAsRegex(Predicate<String> isValid, Pattern pattern, String input) {
+        assertEquals(pattern.matcher(input).matches(), isValid.test(input), "Input: \"" + input + "\"");
+    }
 }